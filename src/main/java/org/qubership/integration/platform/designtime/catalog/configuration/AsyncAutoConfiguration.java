@@ -16,11 +16,15 @@
 
 package org.qubership.integration.platform.designtime.catalog.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @AutoConfiguration
 @EnableAsync
 public class AsyncAutoConfiguration {
@@ -33,4 +37,49 @@ public ThreadPoolTaskExecutor threadPoolTaskExecutor() {
         executor.setThreadNamePrefix("qip-designtime-catalog-");
         return executor;
     }
+
+    /**
+     * Executor for service discovery tasks.
+     * Discovery tasks mostly wait for remote services, so each task gets its own virtual thread.
+     * The number of simultaneous outgoing requests is limited by DiscoveryRequestLimiter.
+     */
+    @Bean("discoveryExecutor")
+    public ExecutorService discoveryExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("qip-discovery-", 0).factory());
+    }
+
+    /**
+     * Executor for used properties analysis of chain elements.
+     * Analysis is CPU bound, so the number of threads is fixed.
+     */
+    @Bean("usedPropertiesExecutor")
+    public ExecutorService usedPropertiesExecutor(@Value("${qip.used-properties.parallelism}") int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("qip-used-properties-", 0).factory());
+    }
+
+    /**
+     * Executor for batch chain migration jobs.
+     * Each task migrates one chain in its own transaction and holds a database connection,
+     * so the number of threads is fixed and should stay well below the connection pool size.
+     */
+    @Bean("chainMigrationExecutor")
+    public ExecutorService chainMigrationExecutor(@Value("${qip.chain-migration.parallelism}") int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("qip-chain-migration-", 0).factory());
+    }
+
+    /**
+     * Executor for detailed design data collected concurrently with the template data building.
+     */
+    @Bean("ddsExecutor")
+    public ExecutorService ddsExecutor(@Value("${qip.dds.parallelism}") int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("qip-dds-", 0).factory());
+    }
+
+    /**
+     * Executor running the single background writer of the actions log.
+     */
+    @Bean("actionsLogWriterExecutor")
+    public ExecutorService actionsLogWriterExecutor() {
+        return Executors.newSingleThreadExecutor(Thread.ofPlatform().name("qip-actions-log-writer").factory());
+    }
 }
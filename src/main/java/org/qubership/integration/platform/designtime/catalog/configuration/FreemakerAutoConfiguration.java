@@ -30,10 +30,16 @@ public StringTemplateLoader freemakerTemplateLoader() {
         return new StringTemplateLoader();
     }
 
+    /**
+     * Compiled templates are kept in the configuration cache until they are explicitly removed
+     * from it on template change, so that template sources are not checked for updates on every lookup.
+     */
     @Bean
     public freemarker.template.Configuration freemakerConfig(StringTemplateLoader freemakerTemplateLoader) {
         freemarker.template.Configuration fmc = new freemarker.template.Configuration(CONF_FEATURE_VER);
         fmc.setTemplateLoader(freemakerTemplateLoader);
+        fmc.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+        fmc.setLocalizedLookup(false);
         return fmc;
     }
 }
@@ -40,6 +40,7 @@ public class KubeOperatorAutoConfiguration {
     private final String namespace;
     private final String token;
     private final String cert;
+    private final boolean watchServices;
 
     @Autowired
     public KubeOperatorAutoConfiguration(
@@ -49,12 +50,15 @@ public KubeOperatorAutoConfiguration(
             @Value("${kubernetes.service-account.token}") String token,
             @Value("${kubernetes.service-account.cert}") String cert,
 
-            @Value("${kubernetes.cluster.token:#{null}}") Optional<String> devToken) {
+            @Value("${kubernetes.cluster.token:#{null}}") Optional<String> devToken,
+
+            @Value("${kubernetes.discovery.watch-services:false}") boolean watchServices) {
 
         this.uri = uri;
         this.namespace = namespace;
         this.token = devToken.orElse(token);
         this.cert = cert;
+        this.watchServices = watchServices;
     }
 
     /**
@@ -74,7 +78,7 @@ public KubeOperator kubeOperator() {
                     .setAuthentication(new TokenFileAuthentication(token))
                     .build();
 
-            return new KubeOperator(client, namespace);
+            return new KubeOperator(client, namespace, watchServices);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
@@ -97,7 +101,7 @@ public KubeOperator kubeOperatorDev() {
                     .setAuthentication(new AccessTokenAuthentication(token))
                     .build();
 
-            return new KubeOperator(client, namespace);
+            return new KubeOperator(client, namespace, watchServices);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
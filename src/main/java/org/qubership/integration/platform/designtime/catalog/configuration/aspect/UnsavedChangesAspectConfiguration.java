@@ -16,32 +16,57 @@
 
 package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.hibernate.Hibernate;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.MaskedField;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
-import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.service.migration.MigratedChain;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
-
-import java.util.List;
-import java.util.Optional;
-
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Marks chains changed by {@link ChainModification} methods as having unsaved changes.
+ * Chain ids are collected for the current transaction and marked right before the commit.
+ * Chains loaded in the persistence context are marked on the entity, so they stay consistent
+ * with the database for the rest of the transaction. Other chains are marked with bulk updates,
+ * chains that are already marked are not updated. Bulk updates bypass entity listeners,
+ * so they set the modification audit fields themselves.
+ */
 @Aspect
 @Configuration
 public class UnsavedChangesAspectConfiguration {
+    static final int UPDATE_BATCH_SIZE = 1000;
 
-    private final ChainRepository chainRepository;
+    private final EntityManager entityManager;
+    private final AuditingHandler auditingHandler;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public UnsavedChangesAspectConfiguration(ChainRepository chainRepository) {
-        this.chainRepository = chainRepository;
+    public UnsavedChangesAspectConfiguration(EntityManager entityManager,
+                                             AuditingHandler jpaAuditingHandler,
+                                             @Qualifier("configsTransactionManager") PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.auditingHandler = jpaAuditingHandler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Pointcut("@annotation(org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification)")
@@ -50,78 +75,117 @@ public void detectChainUnsavedChanges() {
 
     @AfterReturning(value = "detectChainUnsavedChanges()", returning = "returningValue")
     public void markChainAsUnsaved(Object returningValue) {
-        String chainId = null;
-        boolean markUnsavedChanges = true;
+        String chainId = extractChainId(returningValue);
+        if (chainId == null) {
+            return;
+        }
 
-        if (returningValue != null) {
-            if (returningValue instanceof List<?> returningList && !returningList.isEmpty()) {
-                if (returningList.get(0) instanceof ChainElement firstElement) {
-                    chainId = getChainIdFromElement(firstElement);
-                }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> markChainsAsUnsaved(List.of(chainId)));
+            return;
+        }
 
-                if (returningList.get(0) instanceof Dependency firstDependency) {
-                    chainId = getChainIdFromElement(firstDependency.getElementFrom() != null
-                            ? firstDependency.getElementFrom()
-                            : firstDependency.getElementTo());
+        @SuppressWarnings("unchecked")
+        Set<String> chainIds = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (chainIds == null) {
+            Set<String> changedChainIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changedChainIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    markChainsAsUnsaved(new ArrayList<>(changedChainIds));
                 }
-            }
-
-            /*In this case chain metadata does not change
-             "Unsaved changes" mark will not be applied */
-            if (returningValue instanceof Chain) {
-                markUnsavedChanges = false;
-                chainId = ((Chain) returningValue).getId();
-            }
 
-            if (returningValue instanceof Dependency) {
-                Dependency dependency = (Dependency) returningValue;
-                chainId = getChainIdFromElement(dependency.getElementFrom() != null ? dependency.getElementFrom()
-                        : dependency.getElementTo());
-            }
-
-            if (returningValue instanceof ChainElement) {
-                chainId = getChainIdFromElement((ChainElement) returningValue);
-            }
-
-            if (returningValue instanceof ContainerChainElement) {
-                ContainerChainElement containerChainElement = (ContainerChainElement) returningValue;
-                if (containerChainElement.getChain() != null) {
-                    chainId = containerChainElement.getChain().getId();
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UnsavedChangesAspectConfiguration.this);
                 }
-            }
-
-            if (returningValue instanceof ChainDiff) {
-                chainId = extractChainIdFromChainDiff((ChainDiff) returningValue);
-            }
-
-            if (returningValue instanceof MaskedField) {
-                if (((MaskedField) returningValue).getChain() != null) {
-                    chainId = ((MaskedField) returningValue).getChain().getId();
-                }
-            }
-
-            if (returningValue instanceof MigratedChain migratedChain && migratedChain.getChain() != null) {
-                chainId = migratedChain.getChain().getId();
-            }
+            });
+            chainIds = changedChainIds;
         }
+        chainIds.add(chainId);
+    }
+
+    /**
+     * @return id of the chain changed by a modification method or null if the chain
+     * can't be determined or its metadata is not changed
+     */
+    private String extractChainId(Object returningValue) {
+        return switch (returningValue) {
+            case null -> null;
+            case List<?> list when !list.isEmpty() -> switch (list.get(0)) {
+                case ChainElement element -> getChainIdFromElement(element);
+                case Dependency dependency -> getChainIdFromDependency(dependency);
+                default -> null;
+            };
+            // In this case chain metadata does not change, "Unsaved changes" mark will not be applied
+            case Chain chain -> null;
+            case Dependency dependency -> getChainIdFromDependency(dependency);
+            case ChainElement element -> getChainIdFromElement(element);
+            case ChainDiff chainDiff -> extractChainIdFromChainDiff(chainDiff);
+            case MaskedField maskedField -> maskedField.getChain() != null ? maskedField.getChain().getId() : null;
+            case MigratedChain migratedChain -> migratedChain.getChain() != null ? migratedChain.getChain().getId() : null;
+            default -> null;
+        };
+    }
 
-        if (chainId != null && markUnsavedChanges) {
-            Chain chain = chainRepository.getReferenceById(chainId);
-            if (!chain.isUnsavedChanges()) {
+    private void markChainsAsUnsaved(List<String> chainIds) {
+        List<String> notLoadedChainIds = new ArrayList<>();
+        for (String chainId : chainIds) {
+            Chain chain = findLoadedChain(chainId);
+            if (chain == null) {
+                notLoadedChainIds.add(chainId);
+            } else if (!chain.isUnsavedChanges()) {
                 chain.setLastImportHash("0");
                 chain.setUnsavedChanges(true);
-                chainRepository.save(chain);
             }
         }
+        if (notLoadedChainIds.isEmpty()) {
+            return;
+        }
+
+        // audit values are taken from a transient chain, as they would be set on save
+        Chain modification = auditingHandler.markModified(new Chain());
+        for (int from = 0; from < notLoadedChainIds.size(); from += UPDATE_BATCH_SIZE) {
+            updateChains(notLoadedChainIds.subList(from, Math.min(from + UPDATE_BATCH_SIZE, notLoadedChainIds.size())),
+                    modification.getModifiedWhen(), modification.getModifiedBy());
+        }
+    }
+
+    /**
+     * @return chain of the current persistence context or null if it's not loaded
+     */
+    Chain findLoadedChain(String chainId) {
+        // returns the managed instance if there is one, otherwise an uninitialized proxy without a query
+        Chain chain = entityManager.getReference(Chain.class, chainId);
+        return Hibernate.isInitialized(chain) ? chain : null;
+    }
+
+    void updateChains(List<String> chainIds, Timestamp modifiedWhen, User modifiedBy) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Chain> update = builder.createCriteriaUpdate(Chain.class);
+        Root<Chain> root = update.from(Chain.class);
+        update.set(root.<Boolean>get("unsavedChanges"), true)
+                .set(root.<String>get("lastImportHash"), "0")
+                .set(root.<Timestamp>get("modifiedWhen"), modifiedWhen)
+                .set(root.<User>get("modifiedBy"), modifiedBy)
+                .where(root.get("id").in(chainIds), builder.isFalse(root.get("unsavedChanges")));
+        entityManager.createQuery(update).executeUpdate();
     }
 
     private String getChainIdFromElement(ChainElement chainElement) {
-        if (chainElement.getChain() != null) {
+        if (chainElement != null && chainElement.getChain() != null) {
             return chainElement.getChain().getId();
         }
         return null;
     }
 
+    private String getChainIdFromDependency(Dependency dependency) {
+        return getChainIdFromElement(dependency.getElementFrom() != null
+                ? dependency.getElementFrom()
+                : dependency.getElementTo());
+    }
+
     private String extractChainIdFromChainDiff(ChainDiff chainDiff) {
         return extractChainIdFromElementList(chainDiff.getCreatedElements())
                 .or(() -> extractChainIdFromElementList(chainDiff.getUpdatedElements()))
@@ -140,12 +204,7 @@ private Optional<String> extractChainIdFromElementList(List<ChainElement> elemen
 
     private Optional<String> extractChainIdFromDependencyList(List<Dependency> dependencies) {
         if (!dependencies.isEmpty()) {
-            Dependency dependency = dependencies.get(0);
-            return Optional.ofNullable(getChainIdFromElement(
-                    dependency.getElementFrom() != null
-                            ? dependency.getElementFrom()
-                            : dependency.getElementTo()
-            ));
+            return Optional.ofNullable(getChainIdFromDependency(dependencies.get(0)));
         }
         return Optional.empty();
     }
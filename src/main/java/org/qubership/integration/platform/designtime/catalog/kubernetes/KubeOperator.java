@@ -16,37 +16,59 @@
 
 package org.qubership.integration.platform.designtime.catalog.kubernetes;
 
+import com.google.gson.reflect.TypeToken;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.KubeApiException;
 import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeServiceEvent;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class KubeOperator {
+public class KubeOperator implements AutoCloseable {
     private static final String DEFAULT_ERR_MESSAGE = "Invalid k8s cluster parameters or API error. ";
     private static final String REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME = ".*-v\\d+$";
+    private static final int SERVICES_PAGE_SIZE = 500;
+    private static final int SERVICES_WATCH_TIMEOUT_SECONDS = 300;
 
     private final CoreV1Api coreApi;
     private final AppsV1Api appsApi;
 
     private final String namespace;
 
+    private final KubeServiceApi serviceApi;
+    private final KubeServiceWatcher serviceWatcher;
+    private final Thread serviceWatcherThread;
+
     public KubeOperator() {
         coreApi = new CoreV1Api();
         appsApi = new AppsV1Api();
         namespace = null;
+        serviceApi = createServiceApi();
+        serviceWatcher = null;
+        serviceWatcherThread = null;
     }
 
     public KubeOperator(ApiClient client, String namespace) {
+        this(client, namespace, false);
+    }
+
+    /**
+     * @param watchServices keep namespace services in a local cache updated by the k8s watch API
+     */
+    public KubeOperator(ApiClient client, String namespace, boolean watchServices) {
         coreApi = new CoreV1Api();
         coreApi.setApiClient(client);
 
@@ -54,35 +76,28 @@ public KubeOperator(ApiClient client, String namespace) {
         appsApi.setApiClient(client);
 
         this.namespace = namespace;
+
+        serviceApi = createServiceApi();
+        if (watchServices) {
+            serviceWatcher = new KubeServiceWatcher(serviceApi, namespace, SERVICES_PAGE_SIZE, SERVICES_WATCH_TIMEOUT_SECONDS);
+            serviceWatcherThread = Thread.ofVirtual().name("qip-kube-service-watcher").start(serviceWatcher);
+        } else {
+            serviceWatcher = null;
+            serviceWatcherThread = null;
+        }
     }
 
     public List<KubeService> getServices() {
+        if (serviceWatcher != null && serviceWatcher.isSynced()) {
+            return serviceWatcher.getServices();
+        }
+
         try {
-            V1ServiceList list = coreApi.listNamespacedService(
-                    namespace,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null
-            );
+            V1ServiceList list = serviceApi.listAllServices(SERVICES_PAGE_SIZE);
 
             return list.getItems().stream()
-                    .filter(item -> !(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getName()).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME)))
-                    .map(item -> KubeService.builder()
-                            .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
-                            .name(Objects.requireNonNull(item.getMetadata().getName()))
-                            .namespace(namespace)
-                            .ports(
-                                    Objects.requireNonNull(Objects.requireNonNull(item.getSpec()).getPorts()).stream()
-                                            .map(V1ServicePort::getPort).collect(Collectors.toList()
-                                            )).build())
+                    .filter(item -> !isBlueGreenService(item))
+                    .map(item -> toKubeService(item, namespace))
                     .collect(Collectors.toList());
         } catch (ApiException e) {
             log.error(DEFAULT_ERR_MESSAGE + e.getResponseBody());
@@ -92,4 +107,93 @@ public List<KubeService> getServices() {
             throw new KubeApiException(DEFAULT_ERR_MESSAGE + e.getMessage(), e);
         }
     }
+
+    /**
+     * Returns service events collected since the previous call.
+     *
+     * @return events or empty optional if services are not watched or the local cache is not filled yet
+     */
+    public Optional<List<KubeServiceEvent>> pollServiceEvents() {
+        if (serviceWatcher == null || !serviceWatcher.isSynced()) {
+            return Optional.empty();
+        }
+        return Optional.of(serviceWatcher.pollEvents());
+    }
+
+    /**
+     * Returns polled events that weren't processed, so they are polled again.
+     */
+    public void requeueServiceEvents(List<KubeServiceEvent> events) {
+        if (serviceWatcher != null) {
+            serviceWatcher.requeueEvents(events);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (serviceWatcher != null) {
+            serviceWatcher.stop();
+            serviceWatcherThread.interrupt();
+        }
+    }
+
+    static boolean isBlueGreenService(V1Service item) {
+        return Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getName()).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME);
+    }
+
+    static KubeService toKubeService(V1Service item, String namespace) {
+        return KubeService.builder()
+                .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
+                .name(Objects.requireNonNull(item.getMetadata().getName()))
+                .namespace(namespace)
+                .labels(item.getMetadata().getLabels())
+                .ports(
+                        Objects.requireNonNull(Objects.requireNonNull(item.getSpec()).getPorts()).stream()
+                                .map(V1ServicePort::getPort).collect(Collectors.toList()
+                                )).build();
+    }
+
+    private KubeServiceApi createServiceApi() {
+        return new KubeServiceApi() {
+            @Override
+            public V1ServiceList listServices(String continueToken, int limit) throws ApiException {
+                return coreApi.listNamespacedService(
+                        namespace,
+                        null,
+                        null,
+                        continueToken,
+                        null,
+                        null,
+                        limit,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                );
+            }
+
+            @Override
+            public Watchable<V1Service> watchServices(String resourceVersion, int timeoutSeconds) throws ApiException {
+                return Watch.createWatch(
+                        coreApi.getApiClient(),
+                        coreApi.listNamespacedServiceCall(
+                                namespace,
+                                null,
+                                true,
+                                null,
+                                null,
+                                null,
+                                null,
+                                resourceVersion,
+                                null,
+                                null,
+                                timeoutSeconds,
+                                true,
+                                null
+                        ),
+                        new TypeToken<Watch.Response<V1Service>>() { }.getType());
+            }
+        };
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.Watchable;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kubernetes API calls for services of a single namespace.
+ */
+public interface KubeServiceApi {
+
+    V1ServiceList listServices(String continueToken, int limit) throws ApiException;
+
+    Watchable<V1Service> watchServices(String resourceVersion, int timeoutSeconds) throws ApiException;
+
+    /**
+     * Lists all services page by page.
+     *
+     * @return all services with the resource version of the list
+     */
+    default V1ServiceList listAllServices(int pageSize) throws ApiException {
+        List<V1Service> items = new ArrayList<>();
+        String resourceVersion = null;
+        String continueToken = null;
+        do {
+            V1ServiceList page = listServices(continueToken, pageSize);
+            items.addAll(page.getItems());
+            V1ListMeta metadata = page.getMetadata();
+            if (metadata == null) {
+                break;
+            }
+            if (resourceVersion == null) {
+                resourceVersion = metadata.getResourceVersion();
+            }
+            continueToken = metadata.getContinue();
+        } while (StringUtils.isNotEmpty(continueToken));
+
+        return new V1ServiceList()
+                .items(items)
+                .metadata(new V1ListMeta().resourceVersion(resourceVersion));
+    }
+}
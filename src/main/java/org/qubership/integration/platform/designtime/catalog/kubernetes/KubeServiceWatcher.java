@@ -0,0 +1,252 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.KubeApiException;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeServiceEvent;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a local cache of namespace services up to date using the Kubernetes watch API.
+ * The cache is filled by a full list, then updated by watch events starting from the list resource version.
+ * If the resource version becomes too old, services are listed again and compared with the cache.
+ * Service additions, port or label changes and removals are collected until they are polled.
+ * Polled events that weren't processed can be returned, newer events are merged into them.
+ */
+@Slf4j
+public class KubeServiceWatcher implements Runnable {
+    private static final int HTTP_GONE = 410;
+    private static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final KubeServiceApi api;
+    private final String namespace;
+    private final int pageSize;
+    private final int watchTimeoutSeconds;
+
+    // <service uid, service>
+    private final Map<String, KubeService> services = new ConcurrentHashMap<>();
+    // <service uid, event>, guarded by itself
+    private final Map<String, KubeServiceEvent> pendingEvents = new LinkedHashMap<>();
+    private volatile String resourceVersion;
+    private volatile boolean synced;
+    private volatile boolean running = true;
+
+    public KubeServiceWatcher(KubeServiceApi api, String namespace, int pageSize, int watchTimeoutSeconds) {
+        this.api = api;
+        this.namespace = namespace;
+        this.pageSize = pageSize;
+        this.watchTimeoutSeconds = watchTimeoutSeconds;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                sync();
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Failed to watch k8s services, retrying in {} ms: {}", RETRY_DELAY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Performs a full list if there is no valid resource version, otherwise processes one watch request.
+     */
+    public void sync() throws ApiException, IOException {
+        if (resourceVersion == null) {
+            relist();
+        } else {
+            watch();
+        }
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public List<KubeService> getServices() {
+        return new ArrayList<>(services.values());
+    }
+
+    /**
+     * @return service events collected since the previous call
+     */
+    public List<KubeServiceEvent> pollEvents() {
+        synchronized (pendingEvents) {
+            List<KubeServiceEvent> events = new ArrayList<>(pendingEvents.values());
+            pendingEvents.clear();
+            return events;
+        }
+    }
+
+    /**
+     * Returns polled events that weren't processed. Events collected after the poll are applied on top of them.
+     */
+    public void requeueEvents(Collection<KubeServiceEvent> events) {
+        synchronized (pendingEvents) {
+            List<KubeServiceEvent> newer = new ArrayList<>(pendingEvents.values());
+            pendingEvents.clear();
+            events.forEach(event -> pendingEvents.put(event.service().getId(), event));
+            newer.forEach(event -> addEvent(event.type(), event.service()));
+        }
+    }
+
+    private void relist() throws ApiException {
+        V1ServiceList list = api.listAllServices(pageSize);
+        Map<String, KubeService> listed = new HashMap<>();
+        for (V1Service item : list.getItems()) {
+            if (!KubeOperator.isBlueGreenService(item)) {
+                KubeService service = KubeOperator.toKubeService(item, namespace);
+                listed.put(service.getId(), service);
+            }
+        }
+
+        for (KubeService service : new ArrayList<>(services.values())) {
+            if (!listed.containsKey(service.getId())) {
+                removeService(service.getId());
+            }
+        }
+        listed.values().forEach(this::updateService);
+
+        resourceVersion = list.getMetadata() == null ? null : list.getMetadata().getResourceVersion();
+        synced = true;
+        log.debug("Listed {} k8s services, resource version {}", listed.size(), resourceVersion);
+    }
+
+    private void watch() throws ApiException, IOException {
+        Watchable<V1Service> watchable;
+        try {
+            watchable = api.watchServices(resourceVersion, watchTimeoutSeconds);
+        } catch (ApiException e) {
+            if (e.getCode() == HTTP_GONE) {
+                expireResourceVersion();
+                return;
+            }
+            throw e;
+        }
+        try (Watchable<V1Service> watch = watchable) {
+            for (Watch.Response<V1Service> event : watch) {
+                if (!running) {
+                    return;
+                }
+                switch (event.type) {
+                    case "ADDED", "MODIFIED" -> {
+                        updateResourceVersion(event.object);
+                        if (!KubeOperator.isBlueGreenService(event.object)) {
+                            updateService(KubeOperator.toKubeService(event.object, namespace));
+                        } else if (event.object.getMetadata().getUid() != null) {
+                            // blue-green services are not tracked
+                            removeService(event.object.getMetadata().getUid());
+                        }
+                    }
+                    case "DELETED" -> {
+                        updateResourceVersion(event.object);
+                        V1ObjectMeta metadata = event.object.getMetadata();
+                        if (metadata != null && metadata.getUid() != null) {
+                            removeService(metadata.getUid());
+                        }
+                    }
+                    case "BOOKMARK" -> updateResourceVersion(event.object);
+                    case "ERROR" -> {
+                        handleError(event.status);
+                        return;
+                    }
+                    default -> log.debug("Unknown k8s watch event type: {}", event.type);
+                }
+            }
+        }
+    }
+
+    private void handleError(V1Status status) {
+        if (status != null && status.getCode() != null && status.getCode() == HTTP_GONE) {
+            expireResourceVersion();
+            return;
+        }
+        throw new KubeApiException("K8s services watch error: " + (status == null ? null : status.getMessage()));
+    }
+
+    private void expireResourceVersion() {
+        log.debug("K8s services resource version {} is expired, listing services again", resourceVersion);
+        resourceVersion = null;
+    }
+
+    private void updateResourceVersion(V1Service service) {
+        if (service != null && service.getMetadata() != null && service.getMetadata().getResourceVersion() != null) {
+            resourceVersion = service.getMetadata().getResourceVersion();
+        }
+    }
+
+    private void updateService(KubeService service) {
+        KubeService previous = services.put(service.getId(), service);
+        if (previous == null) {
+            addEvent(KubeServiceEvent.Type.ADDED, service);
+        } else if (!Objects.equals(previous.getPorts(), service.getPorts())
+                || !Objects.equals(previous.getLabels(), service.getLabels())) {
+            addEvent(KubeServiceEvent.Type.CHANGED, service);
+        }
+    }
+
+    private void removeService(String id) {
+        KubeService previous = services.remove(id);
+        if (previous != null) {
+            addEvent(KubeServiceEvent.Type.REMOVED, previous);
+        }
+    }
+
+    private void addEvent(KubeServiceEvent.Type type, KubeService service) {
+        synchronized (pendingEvents) {
+            KubeServiceEvent previous = pendingEvents.get(service.getId());
+            KubeServiceEvent.Type resultType = type;
+            if (previous != null && previous.type() == KubeServiceEvent.Type.ADDED) {
+                if (type == KubeServiceEvent.Type.REMOVED) {
+                    pendingEvents.remove(service.getId());
+                    return;
+                }
+                resultType = KubeServiceEvent.Type.ADDED;
+            } else if (previous != null && previous.type() == KubeServiceEvent.Type.REMOVED
+                    && type == KubeServiceEvent.Type.ADDED) {
+                resultType = KubeServiceEvent.Type.CHANGED;
+            }
+            pendingEvents.put(service.getId(), new KubeServiceEvent(resultType, service));
+        }
+    }
+}
@@ -16,57 +16,79 @@
 
 package org.qubership.integration.platform.designtime.catalog.model;
 
-import lombok.Getter;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.catalog.util.DistinctByKey;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
 
-@Getter
+/**
+ * Accumulates chain changes made by an operation. Elements and dependencies are distinct by id,
+ * the first added instance is kept and the order of addition is preserved.
+ */
 public class ChainDiff {
 
-    private List<ChainElement> createdElements;
-    private List<ChainElement> updatedElements;
-    private List<ChainElement> removedElements;
+    // <id, entity>, in order of addition
+    private final Map<String, ChainElement> createdElements = new LinkedHashMap<>();
+    private final Map<String, ChainElement> updatedElements = new LinkedHashMap<>();
+    private final Map<String, ChainElement> removedElements = new LinkedHashMap<>();
     private String createdDefaultSwimlaneId;
     private String createdReuseSwimlaneId;
-    private List<Dependency> createdDependencies;
-    private List<Dependency> removedDependencies;
+    private final Map<String, Dependency> createdDependencies = new LinkedHashMap<>();
+    private final Map<String, Dependency> removedDependencies = new LinkedHashMap<>();
+
+    public List<ChainElement> getCreatedElements() {
+        return new ArrayList<>(createdElements.values());
+    }
+
+    public List<ChainElement> getUpdatedElements() {
+        return new ArrayList<>(updatedElements.values());
+    }
 
-    public ChainDiff() {
-        this.createdElements = new ArrayList<>();
-        this.updatedElements = new ArrayList<>();
-        this.removedElements = new ArrayList<>();
-        this.createdDependencies = new ArrayList<>();
-        this.removedDependencies = new ArrayList<>();
+    public List<ChainElement> getRemovedElements() {
+        return new ArrayList<>(removedElements.values());
+    }
+
+    public String getCreatedDefaultSwimlaneId() {
+        return createdDefaultSwimlaneId;
+    }
+
+    public String getCreatedReuseSwimlaneId() {
+        return createdReuseSwimlaneId;
+    }
+
+    public List<Dependency> getCreatedDependencies() {
+        return new ArrayList<>(createdDependencies.values());
+    }
+
+    public List<Dependency> getRemovedDependencies() {
+        return new ArrayList<>(removedDependencies.values());
     }
 
     public void addCreatedElement(ChainElement chainElement) {
-        addIfNotPresent(createdElements, chainElement);
+        createdElements.putIfAbsent(chainElement.getId(), chainElement);
     }
 
     public void addCreatedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(createdElements, element));
+        chainElements.forEach(this::addCreatedElement);
     }
 
     public void addUpdatedElement(ChainElement chainElement) {
-        addIfNotPresent(updatedElements, chainElement);
+        updatedElements.putIfAbsent(chainElement.getId(), chainElement);
     }
 
     public void addUpdatedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(updatedElements, element));
+        chainElements.forEach(this::addUpdatedElement);
     }
 
     public void addRemovedElement(ChainElement chainElement) {
-        addIfNotPresent(removedElements, chainElement);
+        removedElements.putIfAbsent(chainElement.getId(), chainElement);
     }
 
     public void addRemovedElements(List<ChainElement> chainElements) {
-        chainElements.forEach(element -> addIfNotPresent(removedElements, element));
+        chainElements.forEach(this::addRemovedElement);
     }
 
     public void setCreatedDefaultSwimlaneId(String createdDefaultSwimlaneId) {
@@ -78,52 +100,34 @@ public void setCreatedReuseSwimlaneId(String createdReuseGroupId) {
     }
 
     public void addCreatedDependency(Dependency dependency) {
-        addIfNotPresent(createdDependencies, dependency);
+        createdDependencies.putIfAbsent(dependency.getId(), dependency);
     }
 
     public void addCreatedDependencies(List<Dependency> dependencies) {
-        dependencies.forEach(dependency -> addIfNotPresent(createdDependencies, dependency));
+        dependencies.forEach(this::addCreatedDependency);
     }
 
     public void addRemovedDependency(Dependency dependency) {
-        addIfNotPresent(removedDependencies, dependency);
+        removedDependencies.putIfAbsent(dependency.getId(), dependency);
     }
 
     public void addRemovedDependencies(List<Dependency> dependencies) {
-        dependencies.forEach(dependency -> addIfNotPresent(removedDependencies, dependency));
+        dependencies.forEach(this::addRemovedDependency);
     }
 
+    /**
+     * Appends changes of the given diff that are not present in this one.
+     * Takes time proportional to the size of the given diff only.
+     */
     public void merge(ChainDiff chainDelta) {
-        this.createdElements = mergeElements(this.createdElements, chainDelta.createdElements);
-        this.updatedElements = mergeElements(this.updatedElements, chainDelta.updatedElements);
-        this.removedElements = mergeElements(this.removedElements, chainDelta.removedElements);
-        this.createdDependencies = mergeDependencies(this.createdDependencies, chainDelta.createdDependencies);
-        this.removedDependencies = mergeDependencies(this.removedDependencies, chainDelta.removedDependencies);
-    }
-
-    private void addIfNotPresent(List<ChainElement> elements, ChainElement newElement) {
-        if (!elements.contains(newElement)
-                || elements.stream().noneMatch(it -> it.getId().equals(newElement.getId()))) {
-            elements.add(newElement);
-        }
-    }
-
-    private void addIfNotPresent(List<Dependency> dependencies, Dependency newDependency) {
-        if (!dependencies.contains(newDependency)
-                || dependencies.stream().noneMatch(it -> it.getId().equals(newDependency.getId()))) {
-            dependencies.add(newDependency);
-        }
-    }
-
-    private List<ChainElement> mergeElements(List<ChainElement> right, List<ChainElement> left) {
-        return Stream.concat(right.stream(), left.stream())
-                .filter(DistinctByKey.newInstance(ChainElement::getId))
-                .collect(Collectors.toList());
+        mergeInto(createdElements, chainDelta.createdElements);
+        mergeInto(updatedElements, chainDelta.updatedElements);
+        mergeInto(removedElements, chainDelta.removedElements);
+        mergeInto(createdDependencies, chainDelta.createdDependencies);
+        mergeInto(removedDependencies, chainDelta.removedDependencies);
     }
 
-    private List<Dependency> mergeDependencies(List<Dependency> right, List<Dependency> left) {
-        return Stream.concat(right.stream(), left.stream())
-                .filter(DistinctByKey.newInstance(Dependency::getId))
-                .collect(Collectors.toList());
+    private static <T> void mergeInto(Map<String, T> target, Map<String, T> source) {
+        source.forEach(target::putIfAbsent);
     }
 }
@@ -19,6 +19,7 @@
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -30,4 +31,5 @@ public class KubeService {
     private String name;
     private List<Integer> ports;
     private String namespace;
+    private Map<String, String> labels;
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.model.usedproperties;
+
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertySource;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertyType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Properties and headers used by a single chain element, in the order they were found.
+ */
+public record ElementUsedProperties(String elementId,
+                                    String elementName,
+                                    String elementType,
+                                    List<Property> properties) {
+
+    /**
+     * @param type       type of the first usage found in the element
+     * @param operations operations the element performs on the property
+     */
+    public record Property(String name,
+                           UsedPropertySource source,
+                           UsedPropertyType type,
+                           boolean isArray,
+                           Map<String, Object> attributeDataType,
+                           Set<UsedPropertyElementOperation> operations) {
+    }
+}
@@ -19,14 +19,15 @@
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.designtime.catalog.service.exportimport.ActionsLogExportFormat;
 import org.qubership.integration.platform.designtime.catalog.service.exportimport.ActionsLogExportService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 
 @Slf4j
@@ -44,21 +45,14 @@ public ActionsLogExportController(ActionsLogExportService actionsLogExportServic
 
     @Operation(description = "Export action log as a file")
     @GetMapping(value = "")
-    public ResponseEntity<Object> export(@RequestParam @Parameter(description = "Timestamp from") Long actionTimeFrom,
-                                         @RequestParam @Parameter(description = "Timestamp to") Long actionTimeTo) {
-        log.info("Request to export actions log");
-        byte[] document = this.actionsLogExportService.exportAsExcelDocument(new Timestamp(actionTimeFrom), new Timestamp(actionTimeTo));
-        return asResponse(document);
-    }
-
-    private ResponseEntity<Object> asResponse(byte[] document) {
-        HttpHeaders header = new HttpHeaders();
-        header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=catalog-actions-log.xlsx");
-        header.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
-        ByteArrayResource resource = new ByteArrayResource(document);
-        return ResponseEntity.ok()
-                .headers(header)
-                .contentLength(resource.contentLength())
-                .body(resource);
+    public void export(@RequestParam @Parameter(description = "Timestamp from") Long actionTimeFrom,
+                       @RequestParam @Parameter(description = "Timestamp to") Long actionTimeTo,
+                       @RequestParam(required = false, defaultValue = "XLSX") @Parameter(description = "File format") ActionsLogExportFormat format,
+                       HttpServletResponse response) throws IOException {
+        log.info("Request to export actions log as {}", format);
+        response.setContentType(format.getContentType());
+        response.addHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=catalog-actions-log." + format.getFileExtension());
+        response.addHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
+        actionsLogExportService.export(new Timestamp(actionTimeFrom), new Timestamp(actionTimeTo), format, response.getOutputStream());
     }
 }
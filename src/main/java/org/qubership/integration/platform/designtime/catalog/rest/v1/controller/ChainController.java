@@ -27,6 +27,8 @@
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.catalog.exception.ChainDifferenceClientException;
 import org.qubership.integration.platform.catalog.mapping.EntityDiffResponseMapper;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertySource;
 import org.qubership.integration.platform.catalog.model.dto.chain.EntityDifferenceResponse;
 import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
@@ -38,6 +40,8 @@
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainMapper;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.MigratedChainMapper;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
+import org.qubership.integration.platform.designtime.catalog.service.UsedPropertiesAnalyzer;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationJobService;
 import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationService;
 import org.qubership.integration.platform.designtime.catalog.service.migration.MigratedChain;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -69,6 +73,8 @@ public class ChainController {
     private final MigratedChainMapper migratedChainMapper;
     private final ChainLabelsMapper chainLabelsMapper;
     private final EntityDiffResponseMapper entityDiffResponseMapper;
+    private final UsedPropertiesAnalyzer usedPropertiesAnalyzer;
+    private final ChainMigrationJobService chainMigrationJobService;
 
     @Autowired
     public ChainController(
@@ -78,7 +84,9 @@ public ChainController(
             ChainMigrationService chainMigrationService,
             MigratedChainMapper migratedChainMapper,
             ChainLabelsMapper chainLabelsMapper,
-            EntityDiffResponseMapper entityDiffResponseMapper
+            EntityDiffResponseMapper entityDiffResponseMapper,
+            UsedPropertiesAnalyzer usedPropertiesAnalyzer,
+            ChainMigrationJobService chainMigrationJobService
     ) {
         this.chainService = chainService;
         this.chainDifferenceService = chainDifferenceService;
@@ -87,6 +95,8 @@ public ChainController(
         this.migratedChainMapper = migratedChainMapper;
         this.chainLabelsMapper = chainLabelsMapper;
         this.entityDiffResponseMapper = entityDiffResponseMapper;
+        this.usedPropertiesAnalyzer = usedPropertiesAnalyzer;
+        this.chainMigrationJobService = chainMigrationJobService;
     }
 
     @GetMapping
@@ -192,6 +202,17 @@ public ResponseEntity<List<UsedSystem>> getUsedSystemIdsByChainIds(@RequestParam
         return ResponseEntity.ok(chainService.getUsedSystemIdsByChainIds(chainIds));
     }
 
+    @GetMapping("/used-properties")
+    @Operation(description = "Get chains with elements using the exchange property or header")
+    public ResponseEntity<List<ChainPropertyUsageResponse>> findChainsUsingProperty(
+            @RequestParam @Parameter(description = "Property or header name") String name,
+            @RequestParam @Parameter(description = "Property source") UsedPropertySource source,
+            @RequestParam(required = false) @Parameter(description = "Operation performed on the property, any if absent") UsedPropertyElementOperation operation
+    ) {
+        return ResponseEntity.ok(chainMapper.asPropertyUsageResponses(
+                usedPropertiesAnalyzer.findChainsUsingProperty(name, source, operation)));
+    }
+
     @GetMapping("/names")
     @Operation(description = "Get map of chain ids and related chain name")
     public ResponseEntity<Map<String, String>> getNamesMapByChainIds(@RequestParam @Parameter(description = "Chain ids separated by comma") Set<String> chainIds) {
@@ -280,6 +301,22 @@ public ResponseEntity<MigratedChainDTO> migrate(@PathVariable @Parameter(descrip
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/migration-jobs")
+    @Operation(description = "Start a job migrating specified chains, chains of a folder or all chains containing deprecated elements")
+    public ResponseEntity<ChainMigrationJobResponse> startMigrationJob(
+            @RequestBody @Parameter(description = "Chain migration job request object") ChainMigrationJobRequest request
+    ) {
+        log.info("Request to start chain migration job, folder id: {}, all deprecated: {}, dry run: {}",
+                request.getFolderId(), request.isAllDeprecated(), request.isDryRun());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(chainMigrationJobService.startJob(request));
+    }
+
+    @GetMapping("/migration-jobs/{jobId}")
+    @Operation(description = "Get chain migration job progress and results")
+    public ResponseEntity<ChainMigrationJobResponse> getMigrationJob(@PathVariable @Parameter(description = "Job id") String jobId) {
+        return ResponseEntity.ok(chainMigrationJobService.getJob(jobId));
+    }
+
     @GetMapping("/count")
     @Operation(description = "Get chains total count")
     public ResponseEntity<ChainsCountResponse> getChainsTotalCount() {
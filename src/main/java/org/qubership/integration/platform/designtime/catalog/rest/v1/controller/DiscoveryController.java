@@ -17,6 +17,7 @@
 package org.qubership.integration.platform.designtime.catalog.rest.v1.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveredServiceDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryResultDTO;
@@ -51,8 +52,11 @@ public List<DiscoveredServiceDTO> getServices() {
 
     @PostMapping
     @Operation(description = "Initiate discovery process on a current environment")
-    public Object runDiscovery() {
-        discoveryService.runDiscovery();
+    public Object runDiscovery(
+            @RequestParam(required = false, defaultValue = "false")
+            @Parameter(description = "Probe all services, even if only changed services can be probed") boolean full
+    ) {
+        discoveryService.runDiscovery(full);
         return ResponseEntity.accepted().build();
     }
 
@@ -27,12 +27,12 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainDiffResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.*;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainDiffMapper;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ElementMapper;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.TransferableElementService;
 import org.qubership.integration.platform.designtime.catalog.service.UsedPropertiesAnalyzer;
 import org.qubership.integration.platform.designtime.catalog.service.codeview.ElementsCodeviewService;
@@ -56,13 +56,13 @@ public class ElementController {
     private final UsedPropertiesAnalyzer usedPropertiesAnalyzer;
     private final ElementMapper elementMapper;
     private final ChainDiffMapper chainDiffMapper;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
 
     @Autowired
     public ElementController(ElementsCodeviewService elementsCodeviewService,
                              ElementMapper elementMapper,
                              ChainDiffMapper chainDiffMapper,
-                             ActionsLogService actionLogger,
+                             BatchedActionsLogService actionLogger,
                              TransferableElementService transferableElementService,
                              UsedPropertiesAnalyzer usedPropertiesAnalyzer) {
         this.elementsCodeviewService = elementsCodeviewService;
@@ -16,6 +16,7 @@
 
 package org.qubership.integration.platform.designtime.catalog.rest.v1.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,12 +37,17 @@
 import org.qubership.integration.platform.designtime.catalog.service.ChainRuntimePropertiesService;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
 import org.qubership.integration.platform.designtime.catalog.service.FolderService;
+import org.qubership.integration.platform.designtime.catalog.service.FolderTreeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -59,24 +65,32 @@
 @CrossOrigin(origins = "*")
 @Tag(name = "folder-controller", description = "Folder Controller")
 public class FolderController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final FolderService folderService;
+    private final FolderTreeService folderTreeService;
     private final FolderMapper folderMapper;
     private final ChainMapper chainMapper;
 
     private final ChainService chainService;
     private final ChainRuntimePropertiesService propertiesService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public FolderController(FolderService folderService,
+                            FolderTreeService folderTreeService,
                             FolderMapper folderMapper,
                             ChainService chainService,
                             ChainMapper chainMapper,
-                            ChainRuntimePropertiesService propertiesService) {
+                            ChainRuntimePropertiesService propertiesService,
+                            @Qualifier("primaryObjectMapper") ObjectMapper objectMapper) {
         this.folderService = folderService;
+        this.folderTreeService = folderTreeService;
         this.folderMapper = folderMapper;
         this.chainService = chainService;
         this.chainMapper = chainMapper;
         this.propertiesService = propertiesService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -100,6 +114,47 @@ public ResponseEntity<List<? extends FolderItemResponse>> findRootFolder(
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/tree")
+    @Operation(description = "Get a page of folder tree items")
+    public ResponseEntity<FolderTreePageResponse> findTreePage(
+            @RequestParam(required = false) @Parameter(description = "Parent folder id, root folder if not specified") String parentId,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned with the previous page") String cursor,
+            @RequestParam(required = false, defaultValue = "100") @Parameter(description = "Maximum number of items on the page") int limit,
+            @RequestParam(required = false, defaultValue = "1") @Parameter(description = "Number of tree levels to return, folders on the page are expanded if greater than 1") int depth,
+            @RequestParam(required = false, defaultValue = "20") @Parameter(description = "Maximum number of items returned for each expanded folder") int childrenLimit,
+            @RequestParam(required = false) @Parameter(description = "Pre-opened folder (if specified, folders on the path to it are expanded)") String openedFolderId
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request to find folder tree page. Parent folder id: {}, cursor: {}.", parentId, cursor);
+        }
+        FolderTreeService.Page page = folderTreeService.getPage(parentId, cursor, limit, depth, childrenLimit, openedFolderId);
+        return ResponseEntity.ok(new FolderTreePageResponse(asTreeItemResponses(page.items()), page.nextCursor()));
+    }
+
+    @GetMapping(value = "/tree", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Stream a page of folder tree items as newline delimited JSON, "
+            + "items of expanded folders follow their folder, next page cursor is returned in X-Next-Cursor header")
+    public ResponseEntity<StreamingResponseBody> streamTreePage(
+            @RequestParam(required = false) @Parameter(description = "Parent folder id, root folder if not specified") String parentId,
+            @RequestParam(required = false) @Parameter(description = "Cursor returned with the previous page") String cursor,
+            @RequestParam(required = false, defaultValue = "100") @Parameter(description = "Maximum number of items on the page") int limit,
+            @RequestParam(required = false, defaultValue = "1") @Parameter(description = "Number of tree levels to return, folders on the page are expanded if greater than 1") int depth,
+            @RequestParam(required = false, defaultValue = "20") @Parameter(description = "Maximum number of items returned for each expanded folder") int childrenLimit,
+            @RequestParam(required = false) @Parameter(description = "Pre-opened folder (if specified, folders on the path to it are expanded)") String openedFolderId
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request to stream folder tree page. Parent folder id: {}, cursor: {}.", parentId, cursor);
+        }
+        FolderTreeService.Page page = folderTreeService.getPage(parentId, cursor, limit, depth, childrenLimit, openedFolderId);
+        List<FolderTreeItemResponse> items = asTreeItemResponses(page.items());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(outputStream -> writeTreeItems(outputStream, items));
+    }
+
     @GetMapping("/{folderId}")
     @Operation(description = "Get specific folder")
     public ResponseEntity<FolderResponse> findById(
@@ -191,8 +246,11 @@ public ResponseEntity<List<? extends FolderItemResponse>> searchRootFolderWithCh
 
     @PostMapping(value = "/filter", produces = "application/json")
     @Operation(description = "Filter from root folder with chains")
-    public ResponseEntity<List<? extends FolderItemResponse>> filterRootFolderWithChains(@RequestBody @Parameter(description = "Folder filter request object") List<FilterRequestDTO> filterRequestDTOList) {
-        List<Chain> chains = chainService.findByFilterRequest(filterRequestDTOList);
+    public ResponseEntity<List<? extends FolderItemResponse>> filterRootFolderWithChains(
+            @RequestBody @Parameter(description = "Folder filter request object") List<FilterRequestDTO> filterRequestDTOList,
+            @RequestParam(required = false, defaultValue = "0") @Parameter(description = "Which chain order number should we start from") int offset,
+            @RequestParam(required = false, defaultValue = "0") @Parameter(description = "Amount of chains received at a time, all chains if 0") int count) {
+        List<Chain> chains = chainService.findByFilterRequest(filterRequestDTOList, offset, count);
         List<Folder> relatedFolders = folderService.getFoldersHierarchically(chains);
 
         prepareSearchFilterResult(chains, relatedFolders);
@@ -206,7 +264,7 @@ private void prepareSearchFilterResult(Collection<Chain> chains, Collection<Fold
 
         Stream.concat(folders.stream(), chains.stream()).forEach(entity -> {
             if (entity.getParentFolder() != null) {
-                log.info("Find entity with parent folder: {}", entity.getName());
+                log.trace("Find entity with parent folder: {}", entity.getName());
                 Folder parentFolder = folderMap.get(entity.getParentFolder().getId());
                 if (entity instanceof Chain chain) {
                     parentFolder.getChainList().add(chain);
@@ -252,6 +310,17 @@ public ResponseEntity<FolderResponse> move(@PathVariable @Parameter(description
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{folderId}/copy")
+    @Operation(description = "Copy specified folder with all nested folders and chains to a specified folder")
+    public ResponseEntity<FolderResponse> copy(@PathVariable @Parameter(description = "Folder id") String folderId,
+                                               @RequestParam(required = false, defaultValue = "#{null}") @Parameter(description = "Target parent folder id") String targetFolderId) {
+        log.info("Request to copy folder with id: {}, target folder id: {}", folderId, targetFolderId);
+        Folder folderCopy = chainService.copyFolder(folderId, targetFolderId);
+        FolderResponse response = folderMapper.asResponse(folderCopy);
+        addRuntimePropertiesToChild(response);
+        return ResponseEntity.ok(response);
+    }
+
     private void addRuntimePropertiesToChild(FolderResponse response) {
         addRuntimeProperties(response.getItems());
     }
@@ -284,6 +353,39 @@ private List<? extends FolderItemResponse> getListResponse(
         return result;
     }
 
+    private List<FolderTreeItemResponse> asTreeItemResponses(List<FolderTreeService.Node> nodes) {
+        List<FolderTreeItemResponse> result = new ArrayList<>(nodes.size());
+        for (FolderTreeService.Node node : nodes) {
+            FolderTreeItemResponse item;
+            if (node.entity() instanceof Chain chain) {
+                item = chainMapper.asFolderTreeItemResponse(chain);
+                item.setChainRuntimeProperties(propertiesService.getRuntimeProperties(chain.getId()));
+            } else {
+                item = folderMapper.asFolderTreeItemResponse((Folder) node.entity());
+                item.setFoldersCount(node.foldersCount());
+                item.setChainsCount(node.chainsCount());
+                if (node.children() != null) {
+                    item.setItems(asTreeItemResponses(node.children().items()));
+                    item.setItemsNextCursor(node.children().nextCursor());
+                }
+            }
+            result.add(item);
+        }
+        return result;
+    }
+
+    private void writeTreeItems(OutputStream outputStream, List<FolderTreeItemResponse> items) throws IOException {
+        for (FolderTreeItemResponse item : items) {
+            List<FolderTreeItemResponse> children = item.getItems();
+            item.setItems(null);
+            outputStream.write(objectMapper.writeValueAsBytes(item));
+            outputStream.write('\n');
+            if (children != null) {
+                writeTreeItems(outputStream, children);
+            }
+        }
+    }
+
     private void addOpenedFolderHierarchy(String openedFolderId, List<FolderItemResponse> response) {
         List<Folder> openedFolderRelatedFolders = folderService.findAllFoldersToRootParentFolder(openedFolderId);
         List<Chain> openedFolderRelatedChains = chainService.findAllChainsToRootParentFolder(openedFolderId);
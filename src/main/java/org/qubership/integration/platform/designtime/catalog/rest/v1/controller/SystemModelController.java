@@ -26,9 +26,9 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationGroup;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SystemModel;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.SystemModelDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.SystemModelMapper;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.SystemModelService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -45,12 +45,12 @@
 public class SystemModelController {
     private final SystemModelMapper systemModelMapper;
     private final SystemModelService systemModelService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
 
     @Autowired
     public SystemModelController(SystemModelMapper systemModelMapper,
                                  SystemModelService systemModelService,
-                                 ActionsLogService actionLogger) {
+                                 BatchedActionsLogService actionLogger) {
         this.systemModelMapper = systemModelMapper;
         this.systemModelService = systemModelService;
         this.actionLogger = actionLogger;
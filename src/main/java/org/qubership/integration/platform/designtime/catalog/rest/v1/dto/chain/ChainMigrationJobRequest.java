@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@Schema(description = "Batch chain migration job parameters. Exactly one of chainIds, folderId and allDeprecated must be set")
+public class ChainMigrationJobRequest {
+    @Schema(description = "Ids of chains to migrate")
+    private List<String> chainIds;
+    @Schema(description = "Id of folder whose chains, including chains of nested folders, are migrated")
+    private String folderId;
+    @Schema(description = "Whether all chains containing deprecated elements are migrated")
+    private boolean allDeprecated;
+    @Schema(description = "Whether chains are only checked for migration possibility without changing them")
+    private boolean dryRun;
+}
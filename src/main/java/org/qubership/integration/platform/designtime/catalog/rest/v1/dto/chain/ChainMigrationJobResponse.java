@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationJob;
+
+import java.util.List;
+
+@Getter
+@Setter
+@SuperBuilder
+@Schema(description = "Batch chain migration job state")
+public class ChainMigrationJobResponse {
+    @Schema(description = "Job id")
+    private String id;
+    @Schema(description = "Job status")
+    private ChainMigrationJob.Status status;
+    @Schema(description = "Whether chains are only checked for migration possibility")
+    private boolean dryRun;
+    @Schema(description = "Job start timestamp")
+    private Long startedWhen;
+    @Schema(description = "Job finish timestamp, absent while the job is running")
+    private Long finishedWhen;
+    @Schema(description = "Number of chains in the job scope")
+    private int total;
+    @Schema(description = "Number of chains already processed")
+    private int processed;
+    @Schema(description = "Results of processed chains")
+    private List<ChainMigrationResultDTO> results;
+}
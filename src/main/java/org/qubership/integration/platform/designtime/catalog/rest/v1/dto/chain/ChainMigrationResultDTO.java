@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationJob;
+
+@Getter
+@Setter
+@SuperBuilder
+@Schema(description = "Migration result of a single chain")
+public class ChainMigrationResultDTO {
+    @Schema(description = "Chain id")
+    private String chainId;
+    @Schema(description = "Migration result status")
+    private ChainMigrationJob.ResultStatus status;
+    @Schema(description = "Error message if the chain can't be or failed to be migrated")
+    private String errorMessage;
+}
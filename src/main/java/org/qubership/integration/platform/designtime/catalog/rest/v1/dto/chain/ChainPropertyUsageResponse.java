@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertyElement;
+
+import java.util.List;
+
+@Getter
+@Setter
+@SuperBuilder
+@Schema(description = "Chain elements using an exchange property or header")
+public class ChainPropertyUsageResponse {
+    @Schema(description = "Chain id")
+    private String chainId;
+    @Schema(description = "Chain name")
+    private String chainName;
+    @Schema(description = "Elements using the property with operations performed on it")
+    private List<UsedPropertyElement> elements;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+import javax.annotation.Nullable;
+
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@Schema(description = "Folder tree item response object")
+public class FolderTreeItemResponse extends FolderItemResponse {
+    @Schema(description = "Number of folders directly contained in the folder")
+    private Long foldersCount;
+
+    @Schema(description = "Number of chains directly contained in the folder")
+    private Long chainsCount;
+
+    @Nullable
+    @Schema(description = "First page of folder items, present only for expanded folders")
+    private List<FolderTreeItemResponse> items;
+
+    @Nullable
+    @Schema(description = "Cursor to request the next page of folder items, absent if all items are returned")
+    private String itemsNextCursor;
+}
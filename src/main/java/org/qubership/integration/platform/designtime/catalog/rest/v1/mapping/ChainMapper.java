@@ -21,11 +21,14 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.util.MapperUtils;
 import org.qubership.integration.platform.catalog.util.StringTrimmer;
+import org.qubership.integration.platform.designtime.catalog.model.usedproperties.ChainPropertyUsage;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainPropertyUsageResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainRequest;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainsBySpecificationGroup;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder.FolderItemResponse;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder.FolderTreeItemResponse;
 
 import java.util.Collection;
 import java.util.List;
@@ -65,6 +68,16 @@ public interface ChainMapper {
     @Mapping(source = "overridesChain.name", target = "overridesChainName")
     FolderItemResponse asFolderItemResponse(Chain chain);
 
+    @Mapping(source = "parentFolder.id", target = "parentId")
+    @Mapping(source = "overriddenByChain.name", target = "overriddenByChainName")
+    @Mapping(source = "overridesChain.name", target = "overridesChainName")
+    @Mapping(target = "itemType", constant = "CHAIN")
+    @Mapping(target = "foldersCount", ignore = true)
+    @Mapping(target = "chainsCount", ignore = true)
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "itemsNextCursor", ignore = true)
+    FolderTreeItemResponse asFolderTreeItemResponse(Chain chain);
+
     @Mapping(source = "parentFolder.id", target = "parentId")
     @Mapping(source = "defaultSwimlane.id", target = "defaultSwimlaneId")
     @Mapping(source = "reuseSwimlane.id", target = "reuseSwimlaneId")
@@ -89,4 +102,8 @@ default Chain asEntity(ChainRequest request) {
 
     @Mapping(target = "labels", ignore = true)
     void mergeWithoutLabels(@MappingTarget Chain chain, ChainRequest chainRequest);
+
+    ChainPropertyUsageResponse asPropertyUsageResponse(ChainPropertyUsage usage);
+
+    List<ChainPropertyUsageResponse> asPropertyUsageResponses(List<ChainPropertyUsage> usages);
 }
@@ -85,6 +85,14 @@ public SearchFilterItemResponse asFolderSearchResponse(Folder entity) {
     @Mapping(source = "parentFolder.id", target = "parentId")
     public abstract FolderItemResponse asFolderItemResponse(Folder entity);
 
+    @Mapping(source = "parentFolder.id", target = "parentId")
+    @Mapping(target = "itemType", constant = "FOLDER")
+    @Mapping(target = "foldersCount", ignore = true)
+    @Mapping(target = "chainsCount", ignore = true)
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "itemsNextCursor", ignore = true)
+    public abstract FolderTreeItemResponse asFolderTreeItemResponse(Folder entity);
+
     @Mapping(source = "parentFolder.id", target = "parentId")
     public abstract void merge(@MappingTarget FolderResponse dto, Folder entity);
 
@@ -16,14 +16,15 @@
 
 package org.qubership.integration.platform.designtime.catalog.scheduler;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.integration.platform.catalog.consul.ConsulService;
 import org.qubership.integration.platform.catalog.consul.exception.KVNotFoundException;
 import org.qubership.integration.platform.catalog.model.deployment.properties.DeploymentRuntimeProperties;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.qubership.integration.platform.designtime.catalog.service.ActionsLogRetentionService;
 import org.qubership.integration.platform.designtime.catalog.service.ChainRuntimePropertiesService;
+import org.qubership.integration.platform.designtime.catalog.service.DeploymentService;
+import org.qubership.integration.platform.designtime.catalog.service.DiscoveryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -35,27 +36,36 @@
 @Slf4j
 @Component
 public class TasksScheduler {
-    private final ActionsLogService actionsLogService;
+    private final ActionsLogRetentionService actionsLogRetentionService;
     private final ConsulService consulService;
     private final ChainRuntimePropertiesService chainRuntimePropertiesService;
+    private final DiscoveryService discoveryService;
+    private final DeploymentService deploymentService;
 
     @Value("${qip.actions-log.cleanup.interval}")
     private String actionLogInterval;
 
     @Autowired
-    public TasksScheduler(ActionsLogService actionsLogService,
+    public TasksScheduler(ActionsLogRetentionService actionsLogRetentionService,
                           ConsulService consulService,
-                          ChainRuntimePropertiesService chainRuntimePropertiesService) {
-        this.actionsLogService = actionsLogService;
+                          ChainRuntimePropertiesService chainRuntimePropertiesService,
+                          DiscoveryService discoveryService,
+                          DeploymentService deploymentService) {
+        this.actionsLogRetentionService = actionsLogRetentionService;
         this.consulService = consulService;
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
+        this.discoveryService = discoveryService;
+        this.deploymentService = deploymentService;
     }
 
     @Scheduled(cron = "${qip.actions-log.cleanup.cron}")
-    @Transactional
     public void cleanupActionsLog() {
-        actionsLogService.deleteAllOldRecordsByInterval(actionLogInterval);
-        log.info("Remove old records from actions log table");
+        try {
+            long deleted = actionsLogRetentionService.deleteOlderThan(actionLogInterval);
+            log.info("Removed {} old records from actions log table", deleted);
+        } catch (Exception e) {
+            log.error("Failed to remove old records from actions log table", e);
+        }
     }
 
     @Scheduled(fixedDelay = 1000)
@@ -73,4 +83,22 @@ public void checkRuntimeDeploymentProperties() {
             consulService.rollbackChainsRuntimeConfigLastIndex();
         }
     }
+
+    @Scheduled(fixedDelayString = "${qip.runtime-deployments.refresh-interval}")
+    public void refreshRuntimeDeployments() {
+        try {
+            deploymentService.refreshRuntimeDeployments();
+        } catch (Exception e) {
+            log.error("Failed to get runtime deployments from runtime catalog", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${qip.discovery.progress-persist-interval}")
+    public void persistDiscoveryProgress() {
+        try {
+            discoveryService.persistDiscoveryProgress();
+        } catch (Exception e) {
+            log.error("Failed to save discovery progress", e);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Deletes expired actions log records in bounded batches, each one in its own transaction,
+ * with a pause between batches. Unlike a single bulk delete, this keeps transactions short,
+ * doesn't produce a WAL burst and lets vacuum process the table while the cleanup is running.
+ */
+@Slf4j
+@Service
+public class ActionsLogRetentionService {
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final Counter deletedCounter;
+    private final Timer cleanupTimer;
+
+    @Autowired
+    public ActionsLogRetentionService(EntityManager entityManager,
+                                      @Qualifier("configsTransactionManager") PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${qip.actions-log.cleanup.batch-size}") int batchSize,
+                                      @Value("${qip.actions-log.cleanup.batch-pause}") long batchPauseMillis) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.deletedCounter = Counter.builder("qip.actions.log.cleanup.deleted")
+                .description("Number of deleted expired actions log records")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("qip.actions.log.cleanup.duration")
+                .description("Time spent deleting expired actions log records")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes records older than the interval.
+     *
+     * @param interval PostgreSQL interval, for example: '1 hour', '7 days', '2 years 3 month'
+     * @return number of deleted records
+     */
+    public long deleteOlderThan(String interval) {
+        Timer.Sample sample = Timer.start();
+        long deleted = 0;
+        try {
+            Timestamp cutoff = transactionTemplate.execute(status -> resolveCutoff(interval));
+            int batchDeleted;
+            do {
+                batchDeleted = transactionTemplate.execute(status -> deleteBatch(cutoff));
+                deleted += batchDeleted;
+                deletedCounter.increment(batchDeleted);
+            } while (batchDeleted == batchSize && pause());
+        } finally {
+            sample.stop(cleanupTimer);
+        }
+        return deleted;
+    }
+
+    /**
+     * Cutoff is calculated by the database, so it doesn't depend on the clock of the service instance.
+     */
+    Timestamp resolveCutoff(String interval) {
+        Number epochSeconds = (Number) entityManager
+                .createNativeQuery("SELECT EXTRACT(EPOCH FROM (now() - CAST(:interval AS interval)))")
+                .setParameter("interval", interval)
+                .getSingleResult();
+        return new Timestamp(Math.round(epochSeconds.doubleValue() * 1000));
+    }
+
+    private int deleteBatch(Timestamp cutoff) {
+        List<Object> ids = findExpiredIds(cutoff, batchSize);
+        return ids.isEmpty() ? 0 : deleteByIds(ids);
+    }
+
+    List<Object> findExpiredIds(Timestamp cutoff, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = builder.createQuery();
+        Root<ActionLog> root = query.from(ActionLog.class);
+        query.select(root.get("id")).where(builder.lessThan(root.get("actionTime"), cutoff));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    int deleteByIds(List<Object> ids) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<ActionLog> delete = builder.createCriteriaDelete(ActionLog.class);
+        Root<ActionLog> root = delete.from(ActionLog.class);
+        delete.where(root.get("id").in(ids));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    /**
+     * @return false if the thread is interrupted and the cleanup must stop
+     */
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Actions log cleanup is interrupted");
+            return false;
+        }
+    }
+}
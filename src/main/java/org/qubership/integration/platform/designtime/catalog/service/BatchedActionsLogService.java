@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes actions log records in batches from a background thread.
+ * Records logged within a transaction are queued once the transaction is committed
+ * and are discarded if it is rolled back. All records of a batch are written in a single transaction,
+ * so inserts are sent to the database as JDBC batches.
+ * If the queue is full, records are written by the calling thread.
+ */
+@Slf4j
+@Service
+public class BatchedActionsLogService {
+    private static final long POLL_TIMEOUT_MILLIS = 1_000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final ActionsLogService actionsLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService writerExecutor;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final DistributionSummary flushSizeSummary;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private volatile boolean running = true;
+
+    /**
+     * @param context MDC context of the logging thread
+     */
+    private record Entry(ActionLog action, Map<String, String> context) {
+    }
+
+    @Autowired
+    public BatchedActionsLogService(ActionsLogService actionsLogService,
+                                    @Qualifier("configsTransactionManager") PlatformTransactionManager transactionManager,
+                                    @Qualifier("actionsLogWriterExecutor") ExecutorService writerExecutor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${qip.actions-log.writer.queue-capacity}") int queueCapacity,
+                                    @Value("${qip.actions-log.writer.batch-size}") int batchSize) {
+        this.actionsLogService = actionsLogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // records are also written from after commit callbacks, where the committed transaction is still bound
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writerExecutor = writerExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        Gauge.builder("qip.actions.log.queue.size", queue, Collection::size)
+                .description("Number of actions log records waiting to be written")
+                .register(meterRegistry);
+        this.flushSizeSummary = DistributionSummary.builder("qip.actions.log.flush.size")
+                .description("Number of actions log records written in a single transaction")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("qip.actions.log.overflow")
+                .description("Number of actions log records written by the calling thread since the queue was full")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("qip.actions.log.dropped")
+                .description("Number of actions log records that failed to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerExecutor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerExecutor.shutdown();
+        if (!writerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            writerExecutor.shutdownNow();
+        }
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    public void logAction(ActionLog action) {
+        if (action.getActionTime() == null) {
+            action.setActionTime(new Timestamp(System.currentTimeMillis()));
+        }
+        Entry entry = new Entry(action, MDC.getCopyOfContextMap());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(List.of(entry));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Entry> entries = (List<Entry>) TransactionSynchronizationManager.getResource(this);
+        if (entries == null) {
+            List<Entry> transactionEntries = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionEntries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(transactionEntries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BatchedActionsLogService.this);
+                }
+            });
+            entries = transactionEntries;
+        }
+        entries.add(entry);
+    }
+
+    private void enqueue(List<Entry> entries) {
+        List<Entry> overflow = null;
+        for (Entry entry : entries) {
+            if (!running || !queue.offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+        if (overflow != null) {
+            overflowCounter.increment(overflow.size());
+            write(overflow);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Actions log writer failure", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        flushSizeSummary.record(entries.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> entries.forEach(this::writeEntry));
+        } catch (Exception e) {
+            log.warn("Failed to write {} actions log records, writing them one by one: {}", entries.size(), e.getMessage());
+            for (Entry entry : entries) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeEntry(entry));
+                } catch (Exception ex) {
+                    droppedCounter.increment();
+                    log.error("Failed to write actions log record for {} {}",
+                            entry.action().getEntityType(), entry.action().getEntityId(), ex);
+                }
+            }
+        }
+    }
+
+    private void writeEntry(Entry entry) {
+        Map<String, String> previousContext = MDC.getCopyOfContextMap();
+        setContext(entry.context());
+        try {
+            actionsLogService.logAction(entry.action());
+        } finally {
+            setContext(previousContext);
+        }
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -25,7 +25,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.logging.properties.ChainLoggingPropertiesSet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -42,12 +41,12 @@ public class ChainRuntimePropertiesService {
     private Map<String, DeploymentRuntimeProperties> runtimePropertiesCache = Collections.emptyMap();
 
     private final ConsulService consulService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
     private final ChainRepository chainRepository;
 
     @Autowired
     public ChainRuntimePropertiesService(ConsulService consulService,
-                                         ActionsLogService actionLogger,
+                                         BatchedActionsLogService actionLogger,
                                          ChainRepository chainRepository) {
         this.consulService = consulService;
         this.actionLogger = actionLogger;
@@ -16,7 +16,12 @@
 
 package org.qubership.integration.platform.designtime.catalog.service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
@@ -29,11 +34,11 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.ChainLabel;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FoldableEntity;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.*;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ChainBaseService;
 import org.qubership.integration.platform.catalog.util.ChainUtils;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -42,10 +47,10 @@
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainSearchRequestDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder.FolderContentFilter;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.ElementUsage;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.UsageProperty;
+import org.qubership.integration.platform.designtime.catalog.service.filter.ChainFilterPlanner;
 import org.qubership.integration.platform.designtime.catalog.service.filter.ChainFilterSpecificationBuilder;
-import org.qubership.integration.platform.designtime.catalog.service.filter.complex.ChainStatusFilters;
-import org.qubership.integration.platform.designtime.catalog.service.filter.complex.ElementFilter;
-import org.qubership.integration.platform.designtime.catalog.service.filter.complex.LoggingFilter;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.MigrationContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -80,13 +85,17 @@ public class ChainService extends ChainBaseService {
     private final FolderService folderService;
     private final ElementService elementService;
     private final DeploymentService deploymentService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
     private final ElementUtils elementUtils;
-    private final ChainRuntimePropertiesService chainRuntimePropertiesService;
+    private final ChainUsageIndex chainUsageIndex;
+    private final ElementDescriptorIndex descriptorIndex;
+    private final FolderPathIndex folderPathIndex;
 
     private final ChainFilterSpecificationBuilder chainFilterSpecificationBuilder;
+    private final ChainFilterPlanner chainFilterPlanner;
 
     private final AuditingHandler auditingHandler;
+    private final EntityManager entityManager;
 
     @Autowired
     public ChainService(ChainRepository chainRepository,
@@ -97,11 +106,15 @@ public ChainService(ChainRepository chainRepository,
                         ElementService elementService,
                         FolderService folderService,
                         @Lazy DeploymentService deploymentService,
-                        ActionsLogService actionLogger,
+                        BatchedActionsLogService actionLogger,
                         ElementUtils elementUtils,
                         ChainFilterSpecificationBuilder chainFilterSpecificationBuilder,
                         AuditingHandler jpaAuditingHandler,
-                        ChainRuntimePropertiesService chainRuntimePropertiesService) {
+                        ChainFilterPlanner chainFilterPlanner,
+                        ChainUsageIndex chainUsageIndex,
+                        ElementDescriptorIndex descriptorIndex,
+                        FolderPathIndex folderPathIndex,
+                        EntityManager entityManager) {
         super(chainRepository, elementService);
         this.chainLabelsRepository = chainLabelsRepository;
         this.folderService = folderService;
@@ -115,7 +128,11 @@ public ChainService(ChainRepository chainRepository,
         this.elementUtils = elementUtils;
         this.chainFilterSpecificationBuilder = chainFilterSpecificationBuilder;
         this.auditingHandler = jpaAuditingHandler;
-        this.chainRuntimePropertiesService = chainRuntimePropertiesService;
+        this.chainFilterPlanner = chainFilterPlanner;
+        this.chainUsageIndex = chainUsageIndex;
+        this.descriptorIndex = descriptorIndex;
+        this.folderPathIndex = folderPathIndex;
+        this.entityManager = entityManager;
     }
 
     public List<Chain> findAll() {
@@ -129,7 +146,16 @@ public Chain findById(String chainId) {
 
     public Map<String, String> provideNavigationPath(String chainId) {
         Chain chain = findById(chainId);
-        return chain.getAncestors();
+        Folder parentFolder = chain.getParentFolder();
+        Map<String, String> folderPath = parentFolder == null ? null : folderPathIndex.getFolderPath(parentFolder.getId());
+        if (folderPath == null) {
+            return chain.getAncestors();
+        }
+
+        Map<String, String> path = new LinkedHashMap<>();
+        path.put(chain.getId(), chain.getName());
+        path.putAll(folderPath);
+        return path;
     }
 
     public List<Chain> findChainsInFolder(String folderId, FolderContentFilter filter) {
@@ -173,6 +199,40 @@ public Map<String, List<Chain>> findBySystemIdGroupBySpecificationGroup(String s
         return specGroupChains;
     }
 
+    /**
+     * Finds chains using any of the given ids with a single index lookup and a single chains query,
+     * then groups the chains by ids referenced by each of the group properties.
+     *
+     * @return map of group property to map of referenced id to chains
+     */
+    public Map<UsageProperty, Map<String, List<Chain>>> findChainsByUsage(
+            UsageProperty property,
+            Collection<String> ids,
+            UsageProperty... groupProperties
+    ) {
+        List<ElementUsage> usages = chainUsageIndex.findUsages(property, ids);
+        Set<String> chainIds = usages.stream().map(ElementUsage::chainId).collect(Collectors.toSet());
+        Map<String, Chain> chains = chainIds.isEmpty()
+                ? Collections.emptyMap()
+                : chainRepository.findAllById(chainIds).stream().collect(Collectors.toMap(Chain::getId, chain -> chain));
+
+        Map<UsageProperty, Map<String, List<Chain>>> result = new EnumMap<>(UsageProperty.class);
+        for (UsageProperty groupProperty : groupProperties) {
+            Map<String, Set<Chain>> groupedChains = new HashMap<>();
+            for (ElementUsage usage : usages) {
+                String id = usage.get(groupProperty);
+                Chain chain = chains.get(usage.chainId());
+                if (id != null && chain != null) {
+                    groupedChains.computeIfAbsent(id, key -> new LinkedHashSet<>()).add(chain);
+                }
+            }
+            Map<String, List<Chain>> groupResult = new HashMap<>();
+            groupedChains.forEach((id, idChains) -> groupResult.put(id, new ArrayList<>(idChains)));
+            result.put(groupProperty, groupResult);
+        }
+        return result;
+    }
+
     public List<Chain> findInRoot(FolderContentFilter filter) {
         Specification<Chain> specification = (root, query, criteriaBuilder) ->
                 criteriaBuilder.isNull(root.get("parentFolder"));
@@ -211,20 +271,11 @@ public List<Chain> searchChains(ChainSearchRequestDTO systemSearchRequestDTO) {
     }
 
     public List<Chain> findByFilterRequest(List<FilterRequestDTO> filters) {
-        // TODO pagination
-        Specification<Chain> specification = chainFilterSpecificationBuilder.buildFilter(filters);
-        List<Chain> chains = chainRepository.findAll(specification);
-
-        return applyComplexFilters(chains, filters);
+        return findByFilterRequest(filters, 0, 0);
     }
 
-    public List<Chain> applyComplexFilters(List<Chain> chains, List<FilterRequestDTO> filters) {
-
-        chains = new ChainStatusFilters(deploymentService).apply(chains, filters);
-        chains = new ElementFilter().apply(chains, filters);
-        chains = new LoggingFilter(chainRuntimePropertiesService).apply(chains, filters);
-
-        return chains;
+    public List<Chain> findByFilterRequest(List<FilterRequestDTO> filters, int offset, int limit) {
+        return chainFilterPlanner.findByFilterRequest(filters, offset, limit);
     }
 
     @ChainModification
@@ -299,9 +350,9 @@ public void deleteById(String chainId) {
 
     public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
         if (CollectionUtils.isEmpty(chainIds)) {
-            return elementService.getAllUsedSystemIds();
+            return chainUsageIndex.getAllUsedSystems();
         }
-        return elementService.getUsedSystemIdsByChainIds(chainIds);
+        return chainUsageIndex.getUsedSystems(chainIds);
     }
 
     public Chain move(String chainId, String targetFolderId) {
@@ -317,11 +368,67 @@ public Chain copy(String chainId, String targetFolderId) {
 
     @ChainModification
     public Chain copy(Chain chain, Folder parentFolder) {
+        String name = generateCopyName(Chain.class, chain.getName(), parentFolder == null ? null : parentFolder.getId());
+        return copyChain(chain, parentFolder, name);
+    }
+
+    /**
+     * Copies the folder with all nested folders and chains into the target folder.
+     * Only the copied folder gets a copy suffix if needed, nested folders and chains keep their names.
+     */
+    public Folder copyFolder(String folderId, String targetFolderId) {
+        Folder folder = folderService.findById(folderId);
+        Folder targetFolder = folderService.findEntityByIdOrNull(targetFolderId);
+
+        // The source tree is collected before anything is created,
+        // so a folder copied into its own subfolder is copied only once
+        List<Folder> sourceFolders = new ArrayList<>();
+        Map<String, List<Chain>> sourceChains = new HashMap<>();
+        Deque<Folder> queue = new ArrayDeque<>();
+        queue.add(folder);
+        while (!queue.isEmpty()) {
+            Folder current = queue.poll();
+            sourceFolders.add(current);
+            sourceChains.put(current.getId(), new ArrayList<>(current.getChainList()));
+            queue.addAll(current.getFolderList());
+        }
+
+        Map<String, Folder> folderCopies = new HashMap<>();
+        List<Chain> chainCopies = new ArrayList<>();
+        for (Folder sourceFolder : sourceFolders) {
+            boolean root = sourceFolder == folder;
+            Folder parentFolder = root ? targetFolder : folderCopies.get(sourceFolder.getParentFolder().getId());
+            String name = root ? generateCopyName(Folder.class, sourceFolder.getName(), targetFolderId) : sourceFolder.getName();
+            Folder folderCopy = folderService.save(Folder.builder()
+                    .name(name)
+                    .description(sourceFolder.getDescription())
+                    .build(), parentFolder);
+            folderCopies.put(sourceFolder.getId(), folderCopy);
+
+            for (Chain chain : sourceChains.get(sourceFolder.getId())) {
+                chainCopies.add(copyChain(chain, folderCopy, chain.getName()));
+            }
+        }
+
+        // Chain lists of the copied folders are not filled, so the copy is read again.
+        // Only the copies are detached, entities loaded by the caller stay managed
+        String folderCopyId = folderCopies.get(folder.getId()).getId();
+        chainRepository.flush();
+        chainCopies.forEach(entityManager::detach);
+        folderCopies.values().forEach(entityManager::detach);
+        return folderService.findById(folderCopyId);
+    }
+
+    /**
+     * New entities are persisted rather than saved one by one,
+     * so that their inserts are sent in JDBC batches when the context is flushed.
+     */
+    Chain copyChain(Chain chain, Folder parentFolder, String name) {
         Chain chainCopy = ChainUtils.getChainCopy(chain);
 
         chainCopy.setId(UUID.randomUUID().toString());
         chainCopy.setParentFolder(parentFolder);
-        chainCopy.setName(generateCopyName(chainCopy, parentFolder == null ? null : parentFolder.getId()));
+        chainCopy.setName(name);
         chainCopy.setSnapshots(new ArrayList<>());
         chainCopy.setCurrentSnapshot(null);
         chainCopy.setDeployments(new ArrayList<>());
@@ -338,9 +445,9 @@ public Chain copy(Chain chain, Folder parentFolder) {
                 .collect(Collectors.toSet());
         chainCopy.setLabels(chainLabelsCopy);
 
-        chainCopy.getDependencies().forEach(dependencyRepository::saveEntity);
-        chainCopy.getMaskedFields().forEach(maskedFieldRepository::saveEntity);
-        chainCopy.getElements().forEach(elementRepository::saveEntity);
+        chainCopy.getElements().forEach(elementRepository::persist);
+        chainCopy.getDependencies().forEach(dependencyRepository::persist);
+        chainCopy.getMaskedFields().forEach(maskedFieldRepository::persist);
         chainRepository.saveEntity(chainCopy);
         return chainCopy;
     }
@@ -363,18 +470,36 @@ public Chain duplicate(String chainId) {
         return copy(chain, parentFolder);
     }
 
-    private String generateCopyName(Chain chainCopy, String targetFolderId) {
-        String newName = chainCopy.getName();
-        if (chainRepository.existsByNameAndParentFolderId(newName, targetFolderId)) {
-            int copyNumber = 1;
-            String tempName = newName + " (" + copyNumber + ")";
-            while (chainRepository.existsByNameAndParentFolderId(tempName, targetFolderId)) {
-                copyNumber++;
-                tempName = newName + " (" + copyNumber + ")";
-            }
-            newName = newName + " (" + copyNumber + ")";
+    String generateCopyName(Class<? extends FoldableEntity> entityClass, String name, String targetFolderId) {
+        Set<String> takenNames = findTakenCopyNames(entityClass, name, targetFolderId);
+        if (!takenNames.contains(name)) {
+            return name;
+        }
+        int copyNumber = 1;
+        while (takenNames.contains(name + " (" + copyNumber + ")")) {
+            copyNumber++;
         }
-        return newName;
+        return name + " (" + copyNumber + ")";
+    }
+
+    /**
+     * Finds the name and its numbered copy names used in the folder with a single query.
+     */
+    Set<String> findTakenCopyNames(Class<? extends FoldableEntity> entityClass, String name, String folderId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = builder.createQuery(String.class);
+        Root<? extends FoldableEntity> root = query.from(entityClass);
+        Predicate folderPredicate = folderId == null
+                ? builder.isNull(root.get("parentFolder"))
+                : builder.equal(root.get("parentFolder").get("id"), folderId);
+        String copyNamePattern = name.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + " (%)";
+        query.select(root.<String>get("name"))
+                .where(folderPredicate, builder.or(
+                        builder.equal(root.get("name"), name),
+                        builder.like(root.<String>get("name"), copyNamePattern, '\\')));
+        return new HashSet<>(entityManager.createQuery(query).getResultList());
     }
 
     private void restoreElementsModifiedState(Set<String> elementsModifiedState, List<ChainElement> elements) {
@@ -499,12 +624,12 @@ public ChainElement createChainElement(ChainElement base) {
 
     public boolean containsDeprecatedElements(Chain chain) {
         return chain.getElements().stream()
-                .anyMatch(elementService::isElementDeprecated);
+                .anyMatch(descriptorIndex::isDeprecated);
     }
 
     public boolean containsUnsupportedElements(Chain chain) {
         return chain.getElements().stream()
-                .anyMatch(elementService::isElementUnsupported);
+                .anyMatch(descriptorIndex::isUnsupported);
     }
 
     public List<Chain> findAllChainsToRootParentFolder(String openedFolderId) {
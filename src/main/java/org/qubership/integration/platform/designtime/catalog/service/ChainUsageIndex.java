@@ -0,0 +1,345 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.designtime.catalog.model.ChainElementsChangedEvent;
+import org.qubership.integration.platform.designtime.catalog.model.ElementsWithSystemUsage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.MODEL_ID;
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.OPERATION_ID;
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SPECIFICATION_GROUP_ID;
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
+import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SYSTEM_ID;
+
+/**
+ * Maps systems, specification groups, specifications and operations to chains using them.
+ * Only chain id, element type and referenced ids of chain elements are selected from the database.
+ * When the cache is enabled, usages are kept per chain and evicted when chain elements are changed.
+ */
+@Slf4j
+@Component
+public class ChainUsageIndex {
+    // max number of ids bound to a single query
+    static final int QUERY_BATCH_SIZE = 1000;
+    private static final Set<String> SYSTEM_USAGE_ELEMENT_TYPES = Arrays.stream(ElementsWithSystemUsage.values())
+            .map(ElementsWithSystemUsage::getElementName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final EntityManager entityManager;
+    private final boolean cacheEnabled;
+
+    // <chain id, usages>, contains empty lists for chains without usages, guards all cache fields
+    private final Map<String, List<ElementUsage>> usagesByChain = new HashMap<>();
+    // chains changed after all usages have been loaded
+    private final Set<String> staleChainIds = new HashSet<>();
+    private long version;
+    private boolean complete;
+
+    public enum UsageProperty {
+        SYSTEM(SYSTEM_ID, ElementUsage::systemId),
+        SPECIFICATION_GROUP(SPECIFICATION_GROUP_ID, ElementUsage::specificationGroupId),
+        SPECIFICATION(SPECIFICATION_ID, ElementUsage::specificationId),
+        MODEL(MODEL_ID, ElementUsage::modelId),
+        OPERATION(OPERATION_ID, ElementUsage::operationId);
+
+        private final String propertyName;
+        private final Function<ElementUsage, String> getter;
+
+        UsageProperty(String propertyName, Function<ElementUsage, String> getter) {
+            this.propertyName = propertyName;
+            this.getter = getter;
+        }
+    }
+
+    /**
+     * Ids referenced by a single chain element.
+     */
+    public record ElementUsage(String chainId,
+                               String elementType,
+                               String systemId,
+                               String specificationGroupId,
+                               String specificationId,
+                               String modelId,
+                               String operationId) {
+
+        public String get(UsageProperty property) {
+            return property.getter.apply(this);
+        }
+    }
+
+    @Autowired
+    public ChainUsageIndex(EntityManager entityManager,
+                           @Value("${qip.chain-usage.cache.enabled}") boolean cacheEnabled) {
+        this.entityManager = entityManager;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * @param chainIds chain ids or null for all chains
+     */
+    public List<UsedSystem> getUsedSystems(Collection<String> chainIds) {
+        Collection<List<ElementUsage>> usages;
+        if (!cacheEnabled) {
+            usages = loadUsages(chainIds, null, null).values();
+        } else {
+            usages = chainIds == null ? getAllCachedUsages() : getCachedUsages(chainIds);
+        }
+        return toUsedSystems(usages);
+    }
+
+    public List<UsedSystem> getAllUsedSystems() {
+        return getUsedSystems(null);
+    }
+
+    /**
+     * Finds usages of any of the given ids in a single lookup.
+     *
+     * @return usages of elements referencing one of the ids by the given property
+     */
+    public List<ElementUsage> findUsages(UsageProperty property, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!cacheEnabled) {
+            return loadUsages(null, property, ids).values().stream().flatMap(List::stream).toList();
+        }
+
+        Set<String> idSet = new HashSet<>(ids);
+        List<ElementUsage> result = new ArrayList<>();
+        for (List<ElementUsage> chainUsages : getAllCachedUsages()) {
+            for (ElementUsage usage : chainUsages) {
+                if (idSet.contains(usage.get(property))) {
+                    result.add(usage);
+                }
+            }
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onChainElementsChanged(ChainElementsChangedEvent event) {
+        synchronized (usagesByChain) {
+            version++;
+            for (String chainId : event.chainIds()) {
+                usagesByChain.remove(chainId);
+                staleChainIds.add(chainId);
+            }
+        }
+    }
+
+    /**
+     * Usages are queried without holding the lock. Loaded usages are put to the cache
+     * only if no chains have changed since the query started.
+     */
+    private Collection<List<ElementUsage>> getCachedUsages(Collection<String> chainIds) {
+        Map<String, List<ElementUsage>> result = new LinkedHashMap<>();
+        List<String> missingChainIds = new ArrayList<>();
+        long loadVersion;
+        synchronized (usagesByChain) {
+            for (String chainId : new LinkedHashSet<>(chainIds)) {
+                List<ElementUsage> usages = usagesByChain.get(chainId);
+                if (usages == null) {
+                    missingChainIds.add(chainId);
+                } else {
+                    result.put(chainId, usages);
+                }
+            }
+            loadVersion = version;
+        }
+
+        if (!missingChainIds.isEmpty()) {
+            Map<String, List<ElementUsage>> loaded = loadUsages(missingChainIds, null, null);
+            for (String chainId : missingChainIds) {
+                result.put(chainId, loaded.getOrDefault(chainId, Collections.emptyList()));
+            }
+            synchronized (usagesByChain) {
+                if (loadVersion == version) {
+                    missingChainIds.forEach(chainId -> usagesByChain.put(chainId, result.get(chainId)));
+                }
+            }
+        }
+        return result.values();
+    }
+
+    private Collection<List<ElementUsage>> getAllCachedUsages() {
+        long loadVersion;
+        // null if usages of all chains are loaded
+        List<String> chainIds;
+        synchronized (usagesByChain) {
+            if (complete && staleChainIds.isEmpty()) {
+                return new ArrayList<>(usagesByChain.values());
+            }
+            loadVersion = version;
+            chainIds = complete ? new ArrayList<>(staleChainIds) : null;
+        }
+
+        Map<String, List<ElementUsage>> loaded = loadUsages(chainIds, null, null);
+        synchronized (usagesByChain) {
+            if (loadVersion != version) {
+                if (chainIds == null) {
+                    return loaded.values();
+                }
+                Map<String, List<ElementUsage>> result = new HashMap<>(usagesByChain);
+                result.putAll(loaded);
+                return result.values();
+            }
+            if (chainIds == null) {
+                usagesByChain.clear();
+                usagesByChain.putAll(loaded);
+                staleChainIds.clear();
+                complete = true;
+            } else {
+                for (String chainId : chainIds) {
+                    usagesByChain.put(chainId, loaded.getOrDefault(chainId, Collections.emptyList()));
+                }
+                chainIds.forEach(staleChainIds::remove);
+            }
+            return new ArrayList<>(usagesByChain.values());
+        }
+    }
+
+    /**
+     * Chain ids and referenced ids are split into chunks, so that a query doesn't exceed
+     * the bind parameters limit of the database.
+     *
+     * @param chainIds chain ids or null to load usages of all chains
+     * @param property property to filter usages by or null
+     * @param ids      ids referenced by the property
+     * @return usages grouped by chain id, chains without usages are absent
+     */
+    Map<String, List<ElementUsage>> loadUsages(Collection<String> chainIds, UsageProperty property, Collection<String> ids) {
+        if (chainIds != null && chainIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<ElementUsage>> result = new HashMap<>();
+        for (List<String> chainIdsChunk : chunks(chainIds)) {
+            for (List<String> idsChunk : chunks(ids)) {
+                queryUsages(chainIdsChunk, property, idsChunk).forEach((chainId, usages) ->
+                        result.computeIfAbsent(chainId, key -> new ArrayList<>()).addAll(usages));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return chunks of at most {@link #QUERY_BATCH_SIZE} values, a single null chunk if values are null
+     */
+    private static List<List<String>> chunks(Collection<String> values) {
+        if (values == null) {
+            return Collections.singletonList(null);
+        }
+        List<String> list = new ArrayList<>(values);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += QUERY_BATCH_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + QUERY_BATCH_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param chainIds chain ids or null to query usages of all chains
+     * @param property property to filter usages by or null
+     * @param ids      ids referenced by the property
+     * @return usages grouped by chain id, chains without usages are absent
+     */
+    Map<String, List<ElementUsage>> queryUsages(Collection<String> chainIds, UsageProperty property, Collection<String> ids) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<ChainElement> root = query.from(ChainElement.class);
+        Path<String> chainId = root.get("chain").get("id");
+        Map<UsageProperty, Expression<String>> values = new EnumMap<>(UsageProperty.class);
+        for (UsageProperty usageProperty : UsageProperty.values()) {
+            values.put(usageProperty, builder.function("jsonb_extract_path_text", String.class,
+                    root.get("properties"), builder.literal(usageProperty.propertyName)));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.isNotNull(root.get("chain")));
+        predicates.add(builder.or(values.values().stream().map(builder::isNotNull).toArray(Predicate[]::new)));
+        if (chainIds != null) {
+            predicates.add(chainId.in(chainIds));
+        }
+        if (property != null) {
+            predicates.add(values.get(property).in(ids));
+        }
+        query.multiselect(
+                chainId,
+                root.get("type"),
+                values.get(UsageProperty.SYSTEM),
+                values.get(UsageProperty.SPECIFICATION_GROUP),
+                values.get(UsageProperty.SPECIFICATION),
+                values.get(UsageProperty.MODEL),
+                values.get(UsageProperty.OPERATION)
+        ).where(predicates.toArray(new Predicate[0]));
+
+        Map<String, List<ElementUsage>> result = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            ElementUsage usage = new ElementUsage(
+                    tuple.get(0, String.class),
+                    tuple.get(1, String.class),
+                    tuple.get(2, String.class),
+                    tuple.get(3, String.class),
+                    tuple.get(4, String.class),
+                    tuple.get(5, String.class),
+                    tuple.get(6, String.class)
+            );
+            result.computeIfAbsent(usage.chainId(), key -> new ArrayList<>()).add(usage);
+        }
+        return result;
+    }
+
+    static List<UsedSystem> toUsedSystems(Collection<List<ElementUsage>> usages) {
+        // <system id, specification ids>
+        Map<String, Set<String>> specificationsBySystem = new LinkedHashMap<>();
+        for (List<ElementUsage> chainUsages : usages) {
+            for (ElementUsage usage : chainUsages) {
+                if (!SYSTEM_USAGE_ELEMENT_TYPES.contains(usage.elementType()) || isBlank(usage.systemId())) {
+                    continue;
+                }
+                Set<String> specificationIds = specificationsBySystem
+                        .computeIfAbsent(usage.systemId(), key -> new LinkedHashSet<>());
+                if (!isBlank(usage.specificationId())) {
+                    specificationIds.add(usage.specificationId());
+                }
+            }
+        }
+
+        List<UsedSystem> usedSystems = new ArrayList<>(specificationsBySystem.size());
+        specificationsBySystem.forEach((systemId, specificationIds) ->
+                usedSystems.add(new UsedSystem(systemId, new ArrayList<>(specificationIds))));
+        return usedSystems;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
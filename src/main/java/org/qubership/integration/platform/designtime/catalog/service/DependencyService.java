@@ -19,13 +19,11 @@
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
 import org.qubership.integration.platform.catalog.model.library.Quantity;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
-import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.DistinctByKey;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.DependencyValidationException;
@@ -50,19 +48,19 @@ public class DependencyService {
     private static final String DEPENDENCY_WITH_ID_NOT_FOUND_MESSAGE = "Can't find dependency with id: ";
     private final DependencyRepository dependencyRepository;
     private final ElementService elementService;
-    private final LibraryElementsService libraryService;
+    private final ElementDescriptorIndex descriptorIndex;
     private final OldContainerUtils oldContainerUtils;
 
     @Autowired
     public DependencyService(
             DependencyRepository dependencyRepository,
             ElementService elementService,
-            LibraryElementsService libraryService,
+            ElementDescriptorIndex descriptorIndex,
             OldContainerUtils oldContainerUtils
     ) {
         this.dependencyRepository = dependencyRepository;
         this.elementService = elementService;
-        this.libraryService = libraryService;
+        this.descriptorIndex = descriptorIndex;
         this.oldContainerUtils = oldContainerUtils;
     }
 
@@ -182,17 +180,17 @@ private void validateDependency(ChainElement elementFrom, ChainElement elementTo
             }
         }
 
-        ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(elementTo);
-        if (elementDescriptor == null) {
+        int typeId = descriptorIndex.getTypeId(elementTo);
+        if (typeId == ElementDescriptorIndex.UNKNOWN_TYPE) {
             throw new DependencyValidationException("Element of type " + elementTo.getType() + " not found");
         }
 
-        if (!elementDescriptor.isInputEnabled()) {
+        if (!descriptorIndex.isInputEnabled(typeId)) {
             throw new DependencyValidationException("Input dependency disabled for " + elementTo.getType());
         }
 
         int inputDepCount = elementTo.getInputDependencies().size() + 1;
-        Quantity inputQuantity = elementDescriptor.getInputQuantity();
+        Quantity inputQuantity = descriptorIndex.getDescriptor(typeId).getInputQuantity();
         if (!inputQuantity.test(inputDepCount)) {
             throw new DependencyValidationException(
                     String.format("Only %s input dependencies available for %s", inputQuantity.name(), elementTo.getType())
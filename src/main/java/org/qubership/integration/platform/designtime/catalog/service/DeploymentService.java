@@ -16,17 +16,24 @@
 
 package org.qubership.integration.platform.designtime.catalog.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.model.chain.ChainStatus;
 import org.qubership.integration.platform.catalog.model.deployment.engine.ChainRuntimeDeployment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Service
 public class DeploymentService {
 
@@ -34,6 +41,16 @@ public class DeploymentService {
 
     private String runtimeCatalogUrl;
 
+    // replaced as a whole by the scheduled refresh, null until the first successful refresh
+    private volatile RuntimeDeploymentsSnapshot runtimeDeploymentsSnapshot;
+
+    /**
+     * @param etag               runtime deployments ETag returned by runtime catalog, if any
+     * @param deploymentStatuses <deployment id, status>
+     */
+    private record RuntimeDeploymentsSnapshot(String etag, Map<String, ChainStatus> deploymentStatuses) {
+    }
+
     @Autowired
     public DeploymentService(RestTemplate restTemplateMS,
                              @Value("${qip.internal-services.runtime-catalog}") String runtimeCatalogUrl) {
@@ -45,16 +62,57 @@ public void deleteAllByChainId(String id) {
         restTemplateMS.delete(String.format("%s/v1/catalog/chains/%s/deployments", runtimeCatalogUrl, id));
     }
 
-    /*
-    * Get all runtime deployments
-    *
-    * Format: <chainId, List<ChainRuntimeDeployment>>
-    * */
-    public Map<String, Collection<ChainRuntimeDeployment>> getAllRuntimeDeployments() {
-        ParameterizedTypeReference<Map<String, Collection<ChainRuntimeDeployment>>> responseType =
-                new ParameterizedTypeReference<>() {};
-        RequestEntity<Void> request = RequestEntity.get(
-                String.format("%s/v1/catalog/runtime-deployments", runtimeCatalogUrl)).build();
-        return restTemplateMS.exchange(request, responseType).getBody();
+    /**
+     * Get statuses of all runtime deployments from the last snapshot.
+     * Runtime catalog is requested only if no snapshot has been loaded yet.
+     *
+     * @return <deployment id, status>
+     */
+    public Map<String, ChainStatus> getRuntimeDeploymentStatuses() {
+        RuntimeDeploymentsSnapshot snapshot = runtimeDeploymentsSnapshot;
+        if (snapshot == null) {
+            refreshRuntimeDeployments();
+            snapshot = runtimeDeploymentsSnapshot;
+        }
+        return snapshot.deploymentStatuses();
+    }
+
+    /**
+     * Reloads runtime deployments snapshot, the snapshot is kept if runtime catalog reports it is not modified.
+     */
+    public void refreshRuntimeDeployments() {
+        RuntimeDeploymentsSnapshot snapshot = runtimeDeploymentsSnapshot;
+        RequestEntity.HeadersBuilder<?> requestBuilder = RequestEntity.get(
+                String.format("%s/v1/catalog/runtime-deployments", runtimeCatalogUrl));
+        if (snapshot != null && snapshot.etag() != null) {
+            requestBuilder.ifNoneMatch(snapshot.etag());
+        }
+
+        ResponseEntity<Map<String, Collection<ChainRuntimeDeployment>>> response =
+                restTemplateMS.exchange(requestBuilder.build(), new ParameterizedTypeReference<>() {});
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && snapshot != null) {
+            log.debug("Runtime deployments are not modified");
+            return;
+        }
+
+        runtimeDeploymentsSnapshot = new RuntimeDeploymentsSnapshot(
+                response.getHeaders().getETag(),
+                toDeploymentStatuses(response.getBody()));
+    }
+
+    private static Map<String, ChainStatus> toDeploymentStatuses(
+            Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments
+    ) {
+        if (runtimeDeployments == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, ChainStatus> result = new HashMap<>();
+        for (Collection<ChainRuntimeDeployment> chainDeployments : runtimeDeployments.values()) {
+            for (ChainRuntimeDeployment deployment : chainDeployments) {
+                result.put(deployment.getDeploymentInfo().getDeploymentId(),
+                        ChainStatus.valueOf(deployment.getStatus().name()));
+            }
+        }
+        return Collections.unmodifiableMap(result);
     }
 }
@@ -19,15 +19,12 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.HttpHeaders;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractEntity;
@@ -36,7 +33,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.*;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ConfigParameterService;
 import org.qubership.integration.platform.catalog.service.exportimport.ExportImportUtils;
 import org.qubership.integration.platform.catalog.service.exportimport.SpecificationImportService;
@@ -44,13 +40,23 @@
 import org.qubership.integration.platform.designtime.catalog.kubernetes.KubeOperator;
 import org.qubership.integration.platform.designtime.catalog.logging.constant.ContextHeaders;
 import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeServiceEvent;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveredServiceDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryErrorDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.discovery.DiscoveryResultDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.DiscoveryServiceMapper;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryProgressTracker;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.DiscoveryRequestLimiter;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationFetchCache;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationMetadataExtractor;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationMetadataExtractor.SpecificationMetadata;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -61,11 +67,12 @@
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static io.swagger.v3.parser.util.DeserializationUtils.isJson;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.qubership.integration.platform.catalog.model.system.EnvironmentSourceType.MAAS_BY_CLASSIFIER;
 import static org.qubership.integration.platform.catalog.model.system.EnvironmentSourceType.MANUAL;
 import static org.qubership.integration.platform.catalog.model.system.IntegrationSystemType.INTERNAL;
@@ -80,12 +87,16 @@ public class DiscoveryService {
     private final SystemModelService systemModelService;
     private final SpecificationImportService specificationImportService;
     private final SpecificationGroupService specificationGroupService;
-    private final YAMLMapper yamlMapper;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
     private final DiscoveryServiceMapper discoveryServiceMapper;
     private final ConfigParameterService configParameterService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
+    private final ExecutorService discoveryExecutor;
+    private final DiscoveryRequestLimiter requestLimiter;
+    private final DiscoveryProgressTracker progressTracker;
+    private final SpecificationFetchCache specificationFetchCache;
+    private final SpecificationMetadataExtractor metadataExtractor;
 
     @Autowired
     public DiscoveryService(
@@ -95,12 +106,16 @@ public DiscoveryService(
             SystemModelService systemModelService,
             SpecificationImportService specificationImportService,
             SpecificationGroupService specificationGroupService,
-            YAMLMapper yamlMapper,
             @Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
             RestTemplate restTemplateMS,
             DiscoveryServiceMapper discoveryServiceMapper,
             ConfigParameterService configParameterService,
-            ActionsLogService actionLogger
+            BatchedActionsLogService actionLogger,
+            @Qualifier("discoveryExecutor") ExecutorService discoveryExecutor,
+            DiscoveryRequestLimiter requestLimiter,
+            DiscoveryProgressTracker progressTracker,
+            SpecificationFetchCache specificationFetchCache,
+            SpecificationMetadataExtractor metadataExtractor
     ) {
         this.operator = operator;
         this.systemService = systemService;
@@ -108,20 +123,29 @@ public DiscoveryService(
         this.systemModelService = systemModelService;
         this.specificationImportService = specificationImportService;
         this.specificationGroupService = specificationGroupService;
-        this.yamlMapper = yamlMapper;
         this.objectMapper = objectMapper;
         this.restTemplate = restTemplateMS;
         this.discoveryServiceMapper = discoveryServiceMapper;
         this.configParameterService = configParameterService;
         this.actionLogger = actionLogger;
+        this.discoveryExecutor = discoveryExecutor;
+        this.requestLimiter = requestLimiter;
+        this.progressTracker = progressTracker;
+        this.specificationFetchCache = specificationFetchCache;
+        this.metadataExtractor = metadataExtractor;
     }
 
-    private record DiscoveredSpecificationSource(String contentType, String content) {
+    private record DiscoveredSpecificationSource(String contentType,
+                                                 String content,
+                                                 String etag,
+                                                 String lastModified,
+                                                 boolean notModified) {
     }
 
     @AllArgsConstructor
     @Getter
     private static class SpecificationDiscoveryErrorMsg {
+        private String kubeServiceName;
         private String serviceName;
         private String errorMessage;
     }
@@ -135,7 +159,11 @@ private static class SpecificationDiscoveryDTO {
         private String contentType;
         private String content;
         private String version;
+        // Specification type name (swagger or openapi) for HTTP specifications
+        private String format;
         private String sourceFileName;
+        // Specification is the same as on the previous discovery run, content may be absent
+        private boolean unchanged;
     }
 
     @AllArgsConstructor
@@ -169,7 +197,6 @@ private static class SpecificationChanges {
     private static final String SPEC_FIELD_URL_LIST = "urls";
     private static final String SPEC_FIELD_ID = "id";
     private static final String SPEC_FIELD_VERSION = "version";
-    private static final String SPEC_FIELD_INFO = "info";
     private static final String DISCOVERY_COMPLETE = "100";
     private static final String DISCOVERY_START = "0";
     private static final Integer PRIORITY_SERVICE_PORT = 8080;
@@ -177,27 +204,35 @@ private static class SpecificationChanges {
             OperationProtocol.HTTP, "",
             OperationProtocol.KAFKA, "async"
     );
-    private double percent;
     private final Object lock = new Object();
 
-    public void runDiscovery() {
+    /**
+     * Starts discovery process.
+     *
+     * @param fullDiscovery probe all services even if k8s services are watched
+     *                      and only added or changed services can be probed
+     */
+    public void runDiscovery(boolean fullDiscovery) {
         synchronized (lock) {
             String requestId = MDC.get(ContextHeaders.REQUEST_ID);
             if (!isDiscoveryComplete()) {
                 throw new RuntimeException("Autodiscovery is in progress");
             }
 
+            progressTracker.start();
             setDiscoveryStatus(DISCOVERY_START);
+            requestLimiter.reset();
             CompletableFuture
                     .supplyAsync(() -> {
                         MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                        return runDiscoveryAsync();
-                    })
+                        return runDiscoveryAsync(fullDiscovery);
+                    }, discoveryExecutor)
                     .whenCompleteAsync(
                             (DiscoveryResultDTO result, Throwable throwable) -> {
                                 MDC.put(ContextHeaders.REQUEST_ID, requestId);
                                 discoveryComplete(result, throwable);
-                            }
+                            },
+                            discoveryExecutor
                     );
         }
     }
@@ -214,38 +249,86 @@ private void discoveryComplete(DiscoveryResultDTO result, Throwable throwable) {
         setDiscoveryStatusResult(result, errorMessage);
     }
 
-    private DiscoveryResultDTO runDiscoveryAsync() {
+    private DiscoveryResultDTO runDiscoveryAsync(boolean fullDiscovery) {
         log.info("Discovery started");
         String requestId = MDC.get(ContextHeaders.REQUEST_ID);
 
         List<CompletableFuture<List<IntegrationSystem>>> newlyDiscoveredFuture = new ArrayList<>();
         List<CompletableFuture<SpecificationChanges>> specificationChangedFuture = new ArrayList<>();
-        List<SpecificationDiscoveryErrorMsg> errorMessages = new ArrayList<>();
+        List<SpecificationDiscoveryErrorMsg> errorMessages = Collections.synchronizedList(new ArrayList<>());
 
-        List<IntegrationSystem> systems = systemService.getAllDiscoveredServices();
-        List<KubeService> services = operator.getServices();
-        percent = 99.0 / (services.size() + systems.size());
-        log.debug("Percent step size: {}", percent);
+        try {
+            specificationFetchCache.evictExpired();
+        } catch (Exception e) {
+            log.warn("Failed to delete expired specification validators: {}", e.getMessage());
+        }
+        List<IntegrationSystem> allSystems = systemService.getAllDiscoveredServices();
+        List<KubeService> allServices = operator.getServices();
+        List<IntegrationSystem> systems = allSystems;
+        List<KubeService> services = allServices;
+
+        Optional<List<KubeServiceEvent>> serviceEvents = operator.pollServiceEvents();
+        Optional<Set<String>> changedServiceNames = serviceEvents.map(events -> events.stream()
+                .filter(event -> event.type() != KubeServiceEvent.Type.REMOVED)
+                .map(event -> event.service().getName())
+                .collect(Collectors.toSet()));
+        if (!fullDiscovery && changedServiceNames.isPresent()) {
+            Set<String> names = changedServiceNames.get();
+            log.info("Incremental discovery, added or changed services: {}", names.size());
+            systems = allSystems.stream().filter(system -> names.contains(system.getInternalServiceName())).toList();
+            services = allServices.stream().filter(service -> names.contains(service.getName())).toList();
+        }
+        progressTracker.setTotal(services.size() + systems.size());
 
         for (IntegrationSystem system : systems) {
             specificationChangedFuture.add(CompletableFuture.supplyAsync(() -> {
                 MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                return makeSpecificationChange(system, errorMessages, services);
-            }));
+                return makeSpecificationChange(system, errorMessages, allServices);
+            }, discoveryExecutor));
         }
 
         for (KubeService service : services) {
             newlyDiscoveredFuture.add(CompletableFuture.supplyAsync(() -> {
                 MDC.put(ContextHeaders.REQUEST_ID, requestId);
                 return createDiscoveredService(service, errorMessages);
-            }));
+            }, discoveryExecutor));
         }
 
-        return toDiscoveryResultDTO(
-                getFuturesResultFlat(newlyDiscoveredFuture),
-                getFuturesResult(specificationChangedFuture),
-                errorMessages
-        );
+        DiscoveryResultDTO result;
+        try {
+            result = toDiscoveryResultDTO(
+                    getFuturesResultFlat(newlyDiscoveredFuture),
+                    getFuturesResult(specificationChangedFuture),
+                    errorMessages
+            );
+        } catch (RuntimeException e) {
+            serviceEvents.ifPresent(operator::requeueServiceEvents);
+            throw e;
+        }
+        serviceEvents.ifPresent(events -> requeueFailedServiceEvents(events, errorMessages));
+        return result;
+    }
+
+    /**
+     * Returns events of services whose specifications failed to be discovered,
+     * so they are probed again on the next incremental discovery.
+     */
+    private void requeueFailedServiceEvents(List<KubeServiceEvent> events,
+                                            List<SpecificationDiscoveryErrorMsg> errorMessages) {
+        Set<String> failedServiceNames;
+        synchronized (errorMessages) {
+            failedServiceNames = errorMessages.stream()
+                    .map(SpecificationDiscoveryErrorMsg::getKubeServiceName)
+                    .collect(Collectors.toSet());
+        }
+        List<KubeServiceEvent> failedEvents = events.stream()
+                .filter(event -> event.type() != KubeServiceEvent.Type.REMOVED)
+                .filter(event -> failedServiceNames.contains(event.service().getName()))
+                .toList();
+        if (!failedEvents.isEmpty()) {
+            log.info("Services with failed specification discovery are queued for the next run: {}", failedEvents.size());
+            operator.requeueServiceEvents(failedEvents);
+        }
     }
 
     private <T> List<T> getFuturesResult(List<CompletableFuture<T>> futureList) {
@@ -275,7 +358,7 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
         SpecificationDiscoveryResult specificationDiscoveryResult = null;
         if (service != null) {
             specificationDiscoveryResult = runSpecificationDiscovery(service.getName(), service.getPorts(),
-                    system.getProtocol(), ignoreUrl);
+                    system.getProtocol(), ignoreUrl, true);
         }
         if (specificationDiscoveryResult == null) {
             log.debug("Not found specifications for system: {}", system.getName());
@@ -311,10 +394,20 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
                 continue;
             }
 
+            // content of a not modified specification is downloaded only when it has to be imported again
+            SpecificationDiscoveryDTO specificationSource = specificationDTO.isUnchanged() && isNull(specificationDTO.getContent())
+                    ? getSpecificationDiscoveryDTO(
+                            specificationDiscoveryResult.getServiceAddress(),
+                            specificationDTO.getUrl(),
+                            specificationDTO.getName(),
+                            specificationDTO.getType(),
+                            false)
+                    : specificationDTO;
+
             try {
                 SystemModel model = createSpecification(
                         specificationGroup,
-                        specificationDTO,
+                        specificationSource,
                         oldSystemModelsIds,
                         msg -> addErrorMessage(errorMessages, system.getInternalServiceName(), specificationDTO.getName(), msg)
                 );
@@ -413,8 +506,7 @@ private String buildSpecificationFileName(
         if (!StringUtils.isBlank(specificationDiscoveryDTO.getVersion())) {
             sb.append('-').append(specificationDiscoveryDTO.getVersion());
         }
-        String specificationTypeName = getSpecificationTypeName(
-                system.getProtocol(), specificationDiscoveryDTO.getContent(), specificationDiscoveryDTO.getUrl());
+        String specificationTypeName = getSpecificationTypeName(system.getProtocol(), specificationDiscoveryDTO.getFormat());
         if (!StringUtils.isBlank(specificationTypeName)) {
             sb.append('-').append(specificationTypeName);
         }
@@ -424,28 +516,22 @@ private String buildSpecificationFileName(
         return sb.toString();
     }
 
-    public String getSpecificationTypeName(OperationProtocol protocol, String specificationText, String url) {
+    private String getSpecificationTypeName(OperationProtocol protocol, String format) {
         return switch (protocol) {
-            case HTTP -> getSpecificationTypeNameFromText(specificationText, url);
+            case HTTP -> format;
             default -> protocol.getType();
         };
     }
 
-    private String getSpecificationTypeNameFromText(String specificationText, String url) {
-        try {
-            JsonNode node = isJson(specificationText)
-                    ? objectMapper.readTree(specificationText)
-                    : yamlMapper.readTree(specificationText);
-            if (!node.isObject()) {
-                log.error("Specification from URL {} is not an object", url);
-                return null;
-            }
-            ObjectNode specObj = (ObjectNode) node;
-            return specObj.has("swagger") ? "swagger" : specObj.has("openapi") ? "openapi" : null;
-        } catch (JsonProcessingException ignored) {
-            log.error("Error while processing specification from URL {}", url);
+    private String getSpecificationTypeNameFromFormat(SpecificationMetadata metadata) {
+        if (isNull(metadata)) {
             return null;
         }
+        String format = metadata.format();
+        return SpecificationMetadataExtractor.SWAGGER_FORMAT.equals(format)
+                || SpecificationMetadataExtractor.OPENAPI_FORMAT.equals(format)
+                ? format
+                : null;
     }
 
     private String getSystemIdPostfix(String systemPostfix) {
@@ -458,35 +544,41 @@ private String getSystemIdPostfix(String systemPostfix) {
     private SpecificationDiscoveryResult runSpecificationDiscovery(String serviceName,
                                                                    List<Integer> servicePorts,
                                                                    OperationProtocol protocol) {
-        return runSpecificationDiscovery(serviceName, servicePorts, protocol, Collections.emptyList());
+        return runSpecificationDiscovery(serviceName, servicePorts, protocol, Collections.emptyList(), false);
     }
 
     private SpecificationDiscoveryResult runSpecificationDiscovery(String serviceName,
                                                                    List<Integer> servicePorts,
                                                                    OperationProtocol protocol,
-                                                                   List<String> ignoreUrls) {
-        List<SpecificationDiscoveryDTO> specifications = null;
+                                                                   List<String> ignoreUrls,
+                                                                   boolean useFetchCache) {
+        String requestId = MDC.get(ContextHeaders.REQUEST_ID);
 
-        // Setting priority port (speedup to check first)
+        // Setting priority port (its result is preferred if several ports have specifications)
         servicePorts = new ArrayList<>(servicePorts);
         if (servicePorts.remove(PRIORITY_SERVICE_PORT)) {
             servicePorts.add(0, PRIORITY_SERVICE_PORT);
         }
 
-        String serviceAddress = null;
+        // All ports are probed in parallel, the first port in priority order with specifications wins
+        Map<String, CompletableFuture<List<SpecificationDiscoveryDTO>>> probes = new LinkedHashMap<>();
         for (int port : servicePorts) {
-            serviceAddress = constructEnvAddress(serviceName, port);
-            specifications = getServiceSpecificationsDTO(serviceAddress, protocol, ignoreUrls);
+            String serviceAddress = constructEnvAddress(serviceName, port);
+            probes.put(serviceAddress, CompletableFuture.supplyAsync(() -> {
+                MDC.put(ContextHeaders.REQUEST_ID, requestId);
+                return getServiceSpecificationsDTO(serviceAddress, protocol, ignoreUrls, useFetchCache);
+            }, discoveryExecutor));
+        }
+
+        for (Map.Entry<String, CompletableFuture<List<SpecificationDiscoveryDTO>>> probe : probes.entrySet()) {
+            List<SpecificationDiscoveryDTO> specifications = probe.getValue().join();
             if (!CollectionUtils.isEmpty(specifications)) {
-                break;
+                return new SpecificationDiscoveryResult(probe.getKey(), specifications);
             }
         }
-        if (CollectionUtils.isEmpty(specifications)) {
-            log.debug("Didn't find specifications for service {}", serviceName);
-            return null;
-        }
 
-        return new SpecificationDiscoveryResult(serviceAddress, specifications);
+        log.debug("Didn't find specifications for service {}", serviceName);
+        return null;
     }
 
     private List<IntegrationSystem> createDiscoveredService(KubeService service, List<SpecificationDiscoveryErrorMsg> errorMessages) {
@@ -555,24 +647,32 @@ private String constructSystemId(KubeService service, String systemPostfix) {
         return service.getName() + getSystemIdPostfix(systemPostfix);
     }
 
-    private void addErrorMessage(List<SpecificationDiscoveryErrorMsg> errorMessages, String serviceName,
+    private void addErrorMessage(List<SpecificationDiscoveryErrorMsg> errorMessages, String kubeServiceName,
                                  String specificationName, String message) {
+        String serviceName = kubeServiceName;
         if (!StringUtils.isBlank(specificationName)) {
             serviceName += " " + specificationName;
         }
-        errorMessages.add(new SpecificationDiscoveryErrorMsg(serviceName, message));
+        errorMessages.add(new SpecificationDiscoveryErrorMsg(kubeServiceName, serviceName, message));
     }
 
     private String constructEnvAddress(String host, int port) {
         return host + ':' + port;
     }
 
+    private String getHost(String environmentAddress) {
+        return StringUtils.substringBefore(environmentAddress, ':');
+    }
+
     private String constructSpecAddress(String environmentAddress, String url) {
         final String protocol = "http://";
         return protocol + environmentAddress + url;
     }
 
-    private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String environmentAddress, OperationProtocol protocol, List<String> ignoreUrls) {
+    private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String environmentAddress,
+                                                                        OperationProtocol protocol,
+                                                                        List<String> ignoreUrls,
+                                                                        boolean useFetchCache) {
         Map<String, String> specificationUrls = new HashMap<>();
         if (protocol == OperationProtocol.HTTP) {
             specificationUrls = getSwaggerUrls(environmentAddress);
@@ -581,7 +681,7 @@ private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String envir
         }
 
         if (protocol != null) {
-            return getServiceSpecificationsDTO(specificationUrls, ignoreUrls, environmentAddress, protocol.getType());
+            return getServiceSpecificationsDTO(specificationUrls, ignoreUrls, environmentAddress, protocol.getType(), useFetchCache);
         } else {
             return Collections.emptyList();
         }
@@ -590,8 +690,10 @@ private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(String envir
     private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(Map<String, String> specificationUrls,
                                                                         List<String> ignoreUrls,
                                                                         String environmentAddress,
-                                                                        String specificationType) {
-        List<SpecificationDiscoveryDTO> result = new ArrayList<>();
+                                                                        String specificationType,
+                                                                        boolean useFetchCache) {
+        String requestId = MDC.get(ContextHeaders.REQUEST_ID);
+        List<CompletableFuture<SpecificationDiscoveryDTO>> futures = new ArrayList<>();
 
         for (Map.Entry<String, String> entry : specificationUrls.entrySet()) {
             String url = entry.getKey();
@@ -599,31 +701,80 @@ private List<SpecificationDiscoveryDTO> getServiceSpecificationsDTO(Map<String,
                 continue;
             }
             String name = entry.getValue();
-            String address = constructSpecAddress(environmentAddress, url);
-            DiscoveredSpecificationSource source = getSpecificationSource(address);
-            if (isNull(source) || StringUtils.isBlank(source.content())) {
-                log.debug("Specification source is blank for address: {}", address);
-                continue;
-            }
-            String version = getSpecificationRawVersion(source.content(), address);
-            if (StringUtils.isBlank(version)) {
-                continue;
-            }
-
-            result.add(
-                    new SpecificationDiscoveryDTO(
-                            specificationType,
-                            name,
-                            url,
-                            source.contentType(),
-                            source.content(),
-                            version,
-                            ""
-                    )
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                MDC.put(ContextHeaders.REQUEST_ID, requestId);
+                return getSpecificationDiscoveryDTO(environmentAddress, url, name, specificationType, useFetchCache);
+            }, discoveryExecutor));
+        }
+
+        return getFuturesResult(futures);
+    }
+
+    private SpecificationDiscoveryDTO getSpecificationDiscoveryDTO(String environmentAddress,
+                                                                   String url,
+                                                                   String name,
+                                                                   String specificationType,
+                                                                   boolean useFetchCache) {
+        String address = constructSpecAddress(environmentAddress, url);
+        SpecificationFetchCache.Entry cached = useFetchCache
+                ? specificationFetchCache.get(environmentAddress, url)
+                : null;
+        DiscoveredSpecificationSource source = getSpecificationSource(environmentAddress, address, cached);
+        if (nonNull(cached) && nonNull(source) && source.notModified()) {
+            log.debug("Specification is not modified for address: {}", address);
+            specificationFetchCache.touch(environmentAddress, url);
+            return new SpecificationDiscoveryDTO(
+                    specificationType,
+                    name,
+                    url,
+                    cached.contentType(),
+                    null,
+                    cached.version(),
+                    cached.format(),
+                    "",
+                    true
             );
         }
+        if (isNull(source) || StringUtils.isBlank(source.content())) {
+            log.debug("Specification source is blank for address: {}", address);
+            return null;
+        }
 
-        return result;
+        String contentHash = SpecificationFetchCache.hash(source.content());
+        boolean unchanged = nonNull(cached) && contentHash.equals(cached.contentHash());
+        String version;
+        String format;
+        if (unchanged) {
+            version = cached.version();
+            format = cached.format();
+        } else {
+            SpecificationMetadata metadata = getSpecificationMetadata(source.content(), address);
+            version = isNull(metadata) ? null : metadata.version();
+            format = getSpecificationTypeNameFromFormat(metadata);
+        }
+        if (StringUtils.isBlank(version)) {
+            return null;
+        }
+
+        SpecificationFetchCache.Entry entry = new SpecificationFetchCache.Entry(
+                source.etag(), source.lastModified(), contentHash, source.contentType(), version, format);
+        if (entry.equals(cached)) {
+            specificationFetchCache.touch(environmentAddress, url);
+        } else {
+            specificationFetchCache.put(environmentAddress, url, entry);
+        }
+
+        return new SpecificationDiscoveryDTO(
+                specificationType,
+                name,
+                url,
+                source.contentType(),
+                source.content(),
+                version,
+                format,
+                "",
+                unchanged
+        );
     }
 
     private HashMap<String, String> getAsyncUrls(String environmentAddress) {
@@ -633,7 +784,7 @@ private HashMap<String, String> getAsyncUrls(String environmentAddress) {
 
         for (String url : asyncConfigUrl) {
             String address = constructSpecAddress(environmentAddress, url);
-            String httpResponse = getStringFromRemote(address);
+            String httpResponse = getStringFromRemote(environmentAddress, address);
             if (StringUtils.isBlank(httpResponse)) {
                 continue;
             }
@@ -667,7 +818,7 @@ private HashMap<String, String> getSwaggerUrls(String environmentAddress) {
 
         for (String url : swaggerConfigUrl) {
             String address = constructSpecAddress(environmentAddress, url);
-            String httpResponse = getStringFromRemote(address);
+            String httpResponse = getStringFromRemote(environmentAddress, address);
             if (StringUtils.isBlank(httpResponse)) {
                 continue;
             }
@@ -699,41 +850,46 @@ private HashMap<String, String> getSwaggerUrls(String environmentAddress) {
         return swaggerUrls;
     }
 
-    private String getStringFromRemote(String address) {
+    private String getStringFromRemote(String environmentAddress, String address) {
         try {
-            return restTemplate.getForObject(address, String.class);
+            return requestLimiter.execute(getHost(environmentAddress),
+                    () -> restTemplate.getForObject(address, String.class));
         } catch (Exception e) {
             log.error("Error while receiving spec from address: {}, exception: {}", address, e.getMessage());
             return null;
         }
     }
 
-    private DiscoveredSpecificationSource getSpecificationSource(String address) {
+    private DiscoveredSpecificationSource getSpecificationSource(String environmentAddress,
+                                                                 String address,
+                                                                 SpecificationFetchCache.Entry cached) {
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(address, String.class);
-            String type = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
-            String text = response.getBody();
-            return new DiscoveredSpecificationSource(type, text);
+            HttpHeaders requestHeaders = SpecificationFetchCache.buildConditionalHeaders(cached);
+            ResponseEntity<String> response = requestLimiter.execute(getHost(environmentAddress),
+                    () -> restTemplate.exchange(address, HttpMethod.GET, new HttpEntity<>(requestHeaders), String.class));
+            HttpHeaders headers = response.getHeaders();
+            return new DiscoveredSpecificationSource(
+                    headers.getFirst(HttpHeaders.CONTENT_TYPE),
+                    response.getBody(),
+                    headers.getFirst(HttpHeaders.ETAG),
+                    headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                    response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED));
         } catch (Exception e) {
             return null;
         }
     }
 
-    private String getSpecificationRawVersion(String specificationContent, String address) {
-        String version;
-
+    private SpecificationMetadata getSpecificationMetadata(String specificationContent, String address) {
         try {
-            try {
-                version = this.objectMapper.readTree(specificationContent).get(SPEC_FIELD_INFO).get(SPEC_FIELD_VERSION).asText("");
-            } catch (IOException | NullPointerException e) {
-                version = this.yamlMapper.readTree(specificationContent).get(SPEC_FIELD_INFO).get(SPEC_FIELD_VERSION).asText("");
+            SpecificationMetadata metadata = metadataExtractor.extract(specificationContent);
+            if (isNull(metadata)) {
+                log.error("Specification from address {} is not an object", address);
             }
-        } catch (IOException | NullPointerException e) {
-            log.error("Error while parsing version from address: {}", address);
+            return metadata;
+        } catch (IOException e) {
+            log.error("Error while parsing specification from address: {}", address);
             return null;
         }
-
-        return version;
     }
 
     public List<DiscoveredServiceDTO> getServices() {
@@ -741,14 +897,30 @@ public List<DiscoveredServiceDTO> getServices() {
     }
 
     private void setDiscoveryStatusResult(DiscoveryResultDTO result, String errorMessage) {
-        setDiscoveryStatus(DISCOVERY_COMPLETE);
-        ConfigParameter cp = new ConfigParameter(DISCOVERY_NAMESPACE, DISCOVERY_RESULT_NAME);
-        DiscoveryStatusDTO dto = new DiscoveryStatusDTO(result, errorMessage);
         try {
+            ConfigParameter cp = new ConfigParameter(DISCOVERY_NAMESPACE, DISCOVERY_RESULT_NAME);
+            DiscoveryStatusDTO dto = new DiscoveryStatusDTO(result, errorMessage);
             cp.setString(objectMapper.writeValueAsString(dto));
             configParameterService.update(cp);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Unable to set discovery status: " + e.getMessage());
+        } finally {
+            synchronized (lock) {
+                progressTracker.finish();
+                setDiscoveryStatus(DISCOVERY_COMPLETE);
+            }
+        }
+    }
+
+    /**
+     * Saves a snapshot of the in-memory discovery progress,
+     * so it is available to other instances of the service.
+     */
+    public void persistDiscoveryProgress() {
+        synchronized (lock) {
+            if (progressTracker.isRunning()) {
+                setDiscoveryStatus(String.valueOf(progressTracker.getProgress()));
+            }
         }
     }
 
@@ -762,6 +934,10 @@ private void setDiscoveryStatus(String discoveryProgress) {
     public String getDiscoveryProgress() {
         final int entityExpiredTimeoutMinutes = 15;
 
+        if (progressTracker.isRunning()) {
+            return String.valueOf(progressTracker.getProgress());
+        }
+
         ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
         String progress = cp == null ? null : cp.getString().split("\\.")[0];
 
@@ -802,11 +978,7 @@ public DiscoveryResultDTO getDiscoveryResult() {
     }
 
     private void addProgress() {
-        synchronized (lock) {
-            ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
-            double currentProgress = cp == null ? 0 : Double.parseDouble(cp.getString());
-            log.info("Current progress: {}", currentProgress);
-            setDiscoveryStatus(String.valueOf(currentProgress + percent));
-        }
+        progressTracker.increment();
+        log.debug("Current progress: {}", progressTracker.getProgress());
     }
 }
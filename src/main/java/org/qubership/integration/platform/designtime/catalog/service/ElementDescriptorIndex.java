@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.model.library.ElementType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves element descriptors by small integer type ids.
+ * Element types are interned on first lookup, descriptors and flags derived from them
+ * are kept in arrays indexed by type id, so repeated checks don't go through the library.
+ * Types without a descriptor are not interned and resolve to {@link #UNKNOWN_TYPE}.
+ */
+@Component
+public class ElementDescriptorIndex {
+    public static final int UNKNOWN_TYPE = -1;
+
+    private static final int CONTAINER = 1;
+    private static final int TRIGGER = 1 << 1;
+    private static final int REUSE = 1 << 2;
+    private static final int ORDERED = 1 << 3;
+    private static final int DEPRECATED = 1 << 4;
+    private static final int UNSUPPORTED = 1 << 5;
+    private static final int INPUT_ENABLED = 1 << 6;
+
+    private final LibraryElementsService libraryService;
+
+    // <element type, type id>
+    private final Map<String, Integer> typeIds = new ConcurrentHashMap<>();
+    // both arrays are replaced under lock before a new type id is published
+    private volatile ElementDescriptor[] descriptors = new ElementDescriptor[0];
+    private volatile int[] flags = new int[0];
+
+    @Autowired
+    public ElementDescriptorIndex(LibraryElementsService libraryService) {
+        this.libraryService = libraryService;
+    }
+
+    public int getTypeId(String elementType) {
+        if (elementType == null) {
+            return UNKNOWN_TYPE;
+        }
+        Integer typeId = typeIds.get(elementType);
+        return typeId == null ? intern(elementType) : typeId;
+    }
+
+    public int getTypeId(ChainElement element) {
+        return element == null ? UNKNOWN_TYPE : getTypeId(element.getType());
+    }
+
+    public ElementDescriptor getDescriptor(int typeId) {
+        return typeId == UNKNOWN_TYPE ? null : descriptors[typeId];
+    }
+
+    public ElementDescriptor getDescriptor(ChainElement element) {
+        return getDescriptor(getTypeId(element));
+    }
+
+    public boolean isContainer(ChainElement element) {
+        return hasFlag(getTypeId(element), CONTAINER);
+    }
+
+    public boolean isTrigger(ChainElement element) {
+        return hasFlag(getTypeId(element), TRIGGER);
+    }
+
+    public boolean isReuse(ChainElement element) {
+        return hasFlag(getTypeId(element), REUSE);
+    }
+
+    public boolean isOrdered(ChainElement element) {
+        return hasFlag(getTypeId(element), ORDERED);
+    }
+
+    public boolean isDeprecated(ChainElement element) {
+        return hasFlag(getTypeId(element), DEPRECATED);
+    }
+
+    public boolean isUnsupported(ChainElement element) {
+        return hasFlag(getTypeId(element), UNSUPPORTED);
+    }
+
+    public boolean isInputEnabled(int typeId) {
+        return hasFlag(typeId, INPUT_ENABLED);
+    }
+
+    private boolean hasFlag(int typeId, int flag) {
+        return typeId != UNKNOWN_TYPE && (flags[typeId] & flag) != 0;
+    }
+
+    private synchronized int intern(String elementType) {
+        Integer typeId = typeIds.get(elementType);
+        if (typeId != null) {
+            return typeId;
+        }
+
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(elementType);
+        if (descriptor == null) {
+            return UNKNOWN_TYPE;
+        }
+
+        int newTypeId = descriptors.length;
+        ElementDescriptor[] newDescriptors = Arrays.copyOf(descriptors, newTypeId + 1);
+        int[] newFlags = Arrays.copyOf(flags, newTypeId + 1);
+        newDescriptors[newTypeId] = descriptor;
+        newFlags[newTypeId] = buildFlags(descriptor);
+        descriptors = newDescriptors;
+        flags = newFlags;
+        typeIds.put(elementType, newTypeId);
+        return newTypeId;
+    }
+
+    private static int buildFlags(ElementDescriptor descriptor) {
+        int result = 0;
+        if (descriptor.isContainer()) {
+            result |= CONTAINER;
+        }
+        if (descriptor.getType() == ElementType.TRIGGER) {
+            result |= TRIGGER;
+        }
+        if (descriptor.getType() == ElementType.REUSE) {
+            result |= REUSE;
+        }
+        if (descriptor.isOrdered()) {
+            result |= ORDERED;
+        }
+        if (descriptor.isDeprecated()) {
+            result |= DEPRECATED;
+        }
+        if (descriptor.isUnsupported()) {
+            result |= UNSUPPORTED;
+        }
+        if (descriptor.isInputEnabled()) {
+            result |= INPUT_ENABLED;
+        }
+        return result;
+    }
+}
@@ -21,7 +21,6 @@
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
-import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
 import org.qubership.integration.platform.catalog.model.library.*;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
@@ -31,7 +30,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.ElementBaseService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -39,8 +37,8 @@
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementCreationException;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementValidationException;
 import org.qubership.integration.platform.designtime.catalog.model.ChainDiff;
-import org.qubership.integration.platform.designtime.catalog.model.ElementsWithSystemUsage;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.element.CreateElementRequest;
+import org.qubership.integration.platform.designtime.catalog.utils.GraphWalker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.auditing.AuditingHandler;
@@ -54,9 +52,6 @@
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
-import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
-import static org.qubership.integration.platform.catalog.model.constant.CamelOptions.SYSTEM_ID;
-
 @Slf4j
 @Service
 @Transactional
@@ -67,9 +62,10 @@ public class ElementService extends ElementBaseService {
     private static final String GROUP_ID_PROPERTY = "groupId";
 
     protected final LibraryElementsService libraryService;
+    protected final ElementDescriptorIndex descriptorIndex;
     protected final ChainService chainService;
     protected final SwimlaneService swimlaneService;
-    protected final ActionsLogService actionLogger;
+    protected final BatchedActionsLogService actionLogger;
     protected final EnvironmentService environmentService;
     protected final AuditingHandler auditingHandler;
     protected final OrderedElementService orderedElementService;
@@ -79,9 +75,10 @@ public class ElementService extends ElementBaseService {
     public ElementService(
             ElementRepository elementRepository,
             LibraryElementsService libraryService,
+            ElementDescriptorIndex descriptorIndex,
             @Lazy ChainService chainService,
             SwimlaneService swimlaneService,
-            ActionsLogService actionLogger,
+            BatchedActionsLogService actionLogger,
             AuditingHandler jpaAuditingHandler,
             EnvironmentService environmentService,
             OrderedElementService orderedElementService,
@@ -89,6 +86,7 @@ public ElementService(
     ) {
         super(elementRepository);
         this.libraryService = libraryService;
+        this.descriptorIndex = descriptorIndex;
         this.chainService = chainService;
         this.swimlaneService = swimlaneService;
         this.actionLogger = actionLogger;
@@ -174,7 +172,7 @@ public List<String> findAllUsingTypes() {
 
     @ChainModification
     public ChainElement clone(String elementId, String parentId) {
-        ChainElement copy = recursiveClone(findById(elementId));
+        ChainElement copy = cloneWithChildren(findById(elementId));
         elementUtils.updateResetOnCopyProperties(copy);
 
         if (parentId != null) {
@@ -189,23 +187,39 @@ public ChainElement clone(String elementId, String parentId) {
         return copy;
     }
 
+    /**
+     * Copies the element with all nested elements. Nested elements are walked with a {@link GraphWalker},
+     * copies are saved parents first and added to their parent copies in the original order.
+     */
     @ChainModification
-    private ChainElement recursiveClone(ChainElement root) {
-        ChainElement savedCopy = elementRepository.save(root.copyWithoutSnapshot());
-        if (root.getModifiedWhen().getTime() == root.getCreatedWhen().getTime()) {
+    private ChainElement cloneWithChildren(ChainElement root) {
+        ChainElement rootCopy = cloneElement(root);
+        GraphWalker walker = new GraphWalker();
+        walker.run(() -> scheduleChildrenCopies(root, rootCopy, walker));
+        return rootCopy;
+    }
+
+    private void scheduleChildrenCopies(ChainElement original, ChainElement savedCopy, GraphWalker walker) {
+        if (!(original instanceof ContainerChainElement)) {
+            return;
+        }
+        for (ChainElement child : elementRepository.findAllByParentId(original.getId())) {
+            walker.schedule(() -> {
+                ChainElement childCopy = cloneElement(child);
+                ((ContainerChainElement) savedCopy).addChildElement(childCopy);
+                scheduleChildrenCopies(child, childCopy, walker);
+            });
+        }
+    }
+
+    private ChainElement cloneElement(ChainElement original) {
+        ChainElement savedCopy = elementRepository.save(original.copyWithoutSnapshot());
+        if (original.getModifiedWhen().getTime() == original.getCreatedWhen().getTime()) {
             savedCopy.setCreatedWhen(null);
             savedCopy.setModifiedWhen(null);
         } else {
             savedCopy.setModifiedWhen(Timestamp.valueOf(LocalDateTime.now()));
         }
-
-        if (root instanceof ContainerChainElement) {
-            ContainerChainElement container = (ContainerChainElement) savedCopy;
-            for (ChainElement element : elementRepository.findAllByParentId(root.getId())) {
-                container.addChildElement(recursiveClone(element));
-            }
-        }
-
         return savedCopy;
     }
 
@@ -257,8 +271,7 @@ protected ChainElement create(final ChainDiff chainDiff, String chainId, CreateE
                                 .filter(element -> StringUtils.equals(parentId, element.getId()))
                                 .findFirst())
                         .map(this::findRootParent)
-                        .map(libraryService::getElementDescriptor)
-                        .map(elementDescriptor -> ElementType.REUSE == elementDescriptor.getType())
+                        .map(descriptorIndex::isReuse)
                         .orElse(false);
                 if (swimlane.isReuseSwimlane() && !rootParentReuse) {
                     throw new ElementCreationException("Only Reuse element can be added to Reuse Swimlane");
@@ -411,25 +424,29 @@ protected ContainerChainElement deleteElementFromParent(ChainElement child, bool
         parent = elementRepository.save(auditingHandler.markModified(parent));
 
         if (!isImportProcess) {
-            ElementDescriptor parentDescriptor = libraryService.getElementDescriptor(parent.getType());
-            if (parentDescriptor != null) {
-                Map<String, Quantity> childrenMap = parentDescriptor.getAllowedChildren();
-                if (MapUtils.isNotEmpty(childrenMap) && childrenMap.get(child.getType()) != null) {
-                    Quantity elementCount = childrenMap.get(child.getType());
-
-                    long childCount = parent.getElements().stream().filter(c -> c.getType().equals(child.getType())).count();
-
-                    if ((elementCount == Quantity.ONE && childCount == 1)
-                            || (elementCount == Quantity.ONE_OR_MANY && childCount == 1)
-                            || (elementCount == Quantity.TWO_OR_MANY && childCount == 2)) {
-                        throw new ElementValidationException("Number of " + child.getType()
-                                + " elements inside parent " + parent.getType() + " element can't be lowered");
-                    }
+            removeChildElement(parent, child);
+        }
+        return parent;
+    }
+
+    private void removeChildElement(ContainerChainElement parent, ChainElement child) {
+        ElementDescriptor parentDescriptor = libraryService.getElementDescriptor(parent.getType());
+        if (parentDescriptor != null) {
+            Map<String, Quantity> childrenMap = parentDescriptor.getAllowedChildren();
+            if (MapUtils.isNotEmpty(childrenMap) && childrenMap.get(child.getType()) != null) {
+                Quantity elementCount = childrenMap.get(child.getType());
+
+                long childCount = parent.getElements().stream().filter(c -> c.getType().equals(child.getType())).count();
+
+                if ((elementCount == Quantity.ONE && childCount == 1)
+                        || (elementCount == Quantity.ONE_OR_MANY && childCount == 1)
+                        || (elementCount == Quantity.TWO_OR_MANY && childCount == 2)) {
+                    throw new ElementValidationException("Number of " + child.getType()
+                            + " elements inside parent " + parent.getType() + " element can't be lowered");
                 }
             }
-            parent.getElements().remove(child);
         }
-        return parent;
+        parent.getElements().remove(child);
     }
 
     protected Map<String, Object> createPropertiesMap(ElementProperties properties, String elementId, String chainId) {
@@ -493,11 +510,72 @@ public ChainDiff updateRelativeProperties(ChainElement element, Map<String, Obje
         return chainDiff;
     }
 
+    /**
+     * Deletes elements with all nested elements at once. Elements are loaded by a single query,
+     * priorities of ordered siblings are recomputed in memory and every affected element is saved once.
+     * Swimlanes are deleted one by one after other elements.
+     */
     @ChainModification
     public ChainDiff deleteAllByIdsAndUpdateUnsaved(List<String> ids) {
-        ChainDiff chainDiff = new ChainDiff();
-        for (String id : ids) {
-            chainDiff.merge(deleteByIdAndUpdateUnsaved(id));
+        final ChainDiff chainDiff = new ChainDiff();
+
+        List<ChainElement> selectedElements = new ArrayList<>();
+        List<String> swimlaneIds = new ArrayList<>();
+        for (ChainElement element : elementRepository.findAllById(ids)) {
+            if (element instanceof SwimlaneChainElement) {
+                swimlaneIds.add(element.getId());
+            } else {
+                selectedElements.add(element);
+            }
+        }
+
+        Set<String> selectedIds = selectedElements.stream().map(ChainElement::getId).collect(Collectors.toSet());
+        // <id, element>, selected elements without selected ancestors and all nested elements
+        Map<String, ChainElement> elementsToRemove = new LinkedHashMap<>();
+        // <id, element>, parents of removed elements and ordered siblings with changed priorities
+        Map<String, ChainElement> elementsToUpdate = new LinkedHashMap<>();
+        for (ChainElement element : selectedElements) {
+            if (hasAncestorIn(element, selectedIds)) {
+                continue;
+            }
+            ContainerChainElement parent = element.getParent();
+            if (parent != null) {
+                if (orderedElementService.isOrdered(element)) {
+                    orderedElementService.removeOrderedElement(parent, element).getUpdatedElements()
+                            .forEach(updated -> elementsToUpdate.put(updated.getId(), updated));
+                }
+                removeChildElement(parent, element);
+                parent.setModifiedWhen(null);
+                elementsToUpdate.put(parent.getId(), parent);
+            }
+
+            List<ChainElement> elements = new ArrayList<>();
+            elements.add(element);
+            if (element instanceof ContainerChainElement containerElement) {
+                collectAllNestedElements(elements, containerElement);
+            }
+            elements.forEach(removed -> elementsToRemove.put(removed.getId(), removed));
+        }
+
+        deleteElementsReferences(selectedElements, elementsToRemove.keySet())
+                .forEach(updated -> elementsToUpdate.put(updated.getId(), updated));
+        elementsToUpdate.keySet().removeAll(elementsToRemove.keySet());
+
+        if (!elementsToUpdate.isEmpty()) {
+            chainDiff.addUpdatedElements(saveAll(new ArrayList<>(elementsToUpdate.values())));
+        }
+
+        List<ChainElement> removedElements = new ArrayList<>(elementsToRemove.values());
+        chainDiff.addRemovedElements(removedElements);
+        for (ChainElement elementToRemove : removedElements) {
+            chainDiff.addRemovedDependencies(elementToRemove.getInputDependencies());
+            chainDiff.addRemovedDependencies(elementToRemove.getOutputDependencies());
+        }
+        elementRepository.deleteAll(removedElements);
+        logElementsAction(removedElements, LogOperation.DELETE);
+
+        for (String swimlaneId : swimlaneIds) {
+            chainDiff.merge(swimlaneService.delete(swimlaneId));
         }
         return chainDiff;
     }
@@ -556,6 +634,60 @@ private void collectAllNestedElements(List<ChainElement> elements, ContainerChai
         }
     }
 
+    private static boolean hasAncestorIn(ChainElement element, Set<String> ids) {
+        for (ContainerChainElement parent = element.getParent(); parent != null; parent = parent.getParent()) {
+            if (ids.contains(parent.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes references to the given elements from other elements of their chains,
+     * running a single query per chain.
+     *
+     * @param excludedIds ids of elements that are not updated since they are removed
+     * @return updated elements, not saved yet
+     */
+    private List<ChainElement> deleteElementsReferences(List<ChainElement> referencedElements, Set<String> excludedIds) {
+        // <chain id, referenced element ids>
+        Map<String, Set<String>> referencedIds = new HashMap<>();
+        for (ChainElement element : referencedElements) {
+            ElementDescriptor descriptor = libraryService.getElementDescriptor(element);
+            if (descriptor != null && descriptor.isReferencedByAnotherElement()) {
+                String chainId = Optional.ofNullable(element.getChain()).map(Chain::getId).orElse(null);
+                referencedIds.computeIfAbsent(chainId, key -> new HashSet<>()).add(element.getId());
+            }
+        }
+        if (referencedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, ElementDescriptor> elementDescriptors = libraryService.getElementsWithReferenceProperties();
+        List<ChainElement> updatedElements = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : referencedIds.entrySet()) {
+            List<ChainElement> elements = elementRepository.findAllByChainIdAndTypeIn(entry.getKey(), elementDescriptors.keySet());
+            for (ChainElement element : elements) {
+                if (excludedIds.contains(element.getId())) {
+                    continue;
+                }
+                boolean elementUpdated = false;
+                for (ElementProperty referenceProperty : elementDescriptors.get(element.getType()).getReferenceProperties()) {
+                    String propertyValue = element.getPropertyAsString(referenceProperty.getName());
+                    if (propertyValue != null && entry.getValue().contains(propertyValue)) {
+                        element.getProperties().remove(referenceProperty.getName());
+                        elementUpdated = true;
+                    }
+                }
+                if (elementUpdated) {
+                    updatedElements.add(element);
+                }
+            }
+        }
+        return updatedElements;
+    }
+
     private void deleteElementReferences(ChainDiff chainDiff, ChainElement referencedElement) {
         String chainId = Optional.ofNullable(referencedElement.getChain())
                 .map(Chain::getId)
@@ -657,67 +789,12 @@ private void logElementAction(ChainElement element, LogOperation operation) {
                 .build());
     }
 
-    public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        List<String> elementTypes = new ArrayList<>();
-
-        for (var element : ElementsWithSystemUsage.values()) {
-            elementTypes.add(element.getElementName());
-        }
-
-        List<ChainElement> elements = elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
-
-        for (String chainId : chainIds) {
-            for (ChainElement chainElement : elements) {
-                if (chainElement.getChain() != null) {
-                    if (Objects.equals(chainElement.getChain().getId(), chainId)) {
-                        String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                        String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-
-                        if (!StringUtils.isBlank(systemId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                                UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-
-                            if (!StringUtils.isBlank(specificationId)) {
-                                UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                                if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                                    usedSystem.getUsedSystemModelIds().add(specificationId);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return usedSystems;
-    }
-
-    public List<UsedSystem> getAllUsedSystemIds() {
-        List<String> elementTypes = new ArrayList<>();
-
-        for (var element : ElementsWithSystemUsage.values()) {
-            elementTypes.add(element.getElementName());
-        }
-
-        List<ChainElement> elements = elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
-
-        return getUsedSystemsFromElements(elements);
-    }
-
     public boolean isElementDeprecated(ChainElement chainElement) {
-        return Optional.ofNullable(libraryService.getElementDescriptor(chainElement))
-                .map(ElementDescriptor::isDeprecated)
-                .orElse(false);
+        return descriptorIndex.isDeprecated(chainElement);
     }
 
     public boolean isElementUnsupported(ChainElement chainElement) {
-        return Optional.ofNullable(libraryService.getElementDescriptor(chainElement))
-                .map(ElementDescriptor::isUnsupported)
-                .orElse(false);
+        return descriptorIndex.isUnsupported(chainElement);
     }
 
     public void validateElementProperties(ChainElement element) {
@@ -749,30 +826,4 @@ public void validateElementProperties(ChainElement element) {
             }
         }
     }
-
-    private List<UsedSystem> getUsedSystemsFromElements(List<ChainElement> elements) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        for (ChainElement chainElement : elements) {
-            if (chainElement.getChain() != null) {
-                String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-
-                if (!StringUtils.isBlank(systemId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                        UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-
-                    if (!StringUtils.isBlank(specificationId)) {
-                        UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                        if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                            usedSystem.getUsedSystemModelIds().add(specificationId);
-                        }
-                    }
-                }
-            }
-        }
-        return usedSystems;
-    }
 }
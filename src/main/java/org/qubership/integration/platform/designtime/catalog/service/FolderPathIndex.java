@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.designtime.catalog.model.FoldersChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Keeps name and parent folder id of every folder in memory, so that the path from a folder
+ * up to the root folder is built without loading folder entities one by one.
+ * Folders are loaded with a single query on first use, changed folders are reloaded on the next lookup.
+ */
+@Component
+public class FolderPathIndex {
+    private final EntityManager entityManager;
+    private final boolean cacheEnabled;
+
+    // <folder id, folder node>, guards all cache fields
+    private final Map<String, FolderNode> folders = new HashMap<>();
+    // folders changed after all folders have been loaded
+    private final Set<String> staleFolderIds = new HashSet<>();
+    private long version;
+    private boolean complete;
+
+    /**
+     * @param parentId parent folder id, null for root folders
+     */
+    record FolderNode(String name, String parentId) {
+    }
+
+    @Autowired
+    public FolderPathIndex(EntityManager entityManager,
+                           @Value("${qip.folder-path.cache.enabled}") boolean cacheEnabled) {
+        this.entityManager = entityManager;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * @return folder ids and names from the given folder up to the root folder,
+     * null if the cache is disabled or the folder is not found
+     */
+    public Map<String, String> getFolderPath(String folderId) {
+        if (!cacheEnabled || folderId == null) {
+            return null;
+        }
+
+        Map<String, FolderNode> nodes = getNodes();
+        synchronized (folders) {
+            Map<String, String> path = new LinkedHashMap<>();
+            String id = folderId;
+            while (id != null) {
+                FolderNode node = nodes.get(id);
+                if (node == null || path.containsKey(id)) {
+                    return null;
+                }
+                path.put(id, node.name());
+                id = node.parentId();
+            }
+            return path;
+        }
+    }
+
+    @EventListener
+    public void onFoldersChanged(FoldersChangedEvent event) {
+        synchronized (folders) {
+            version++;
+            for (String folderId : event.folderIds()) {
+                folders.remove(folderId);
+                staleFolderIds.add(folderId);
+            }
+        }
+    }
+
+    /**
+     * Folders are queried without holding the lock. Loaded folders are put to the cache
+     * only if no folders have changed since the query started, otherwise they are used
+     * for the current lookup only.
+     *
+     * @return cached folders, must be read while holding the lock, or folders of the current lookup
+     */
+    private Map<String, FolderNode> getNodes() {
+        long loadVersion;
+        // null if all folders are loaded
+        List<String> folderIds;
+        synchronized (folders) {
+            if (complete && staleFolderIds.isEmpty()) {
+                return folders;
+            }
+            loadVersion = version;
+            folderIds = complete ? new ArrayList<>(staleFolderIds) : null;
+        }
+
+        Map<String, FolderNode> loaded = loadFolders(folderIds);
+        synchronized (folders) {
+            if (loadVersion != version) {
+                if (folderIds == null) {
+                    return loaded;
+                }
+                Map<String, FolderNode> result = new HashMap<>(folders);
+                result.putAll(loaded);
+                return result;
+            }
+            if (folderIds == null) {
+                folders.clear();
+                folders.putAll(loaded);
+                staleFolderIds.clear();
+                complete = true;
+            } else {
+                for (String folderId : folderIds) {
+                    FolderNode node = loaded.get(folderId);
+                    if (node != null) {
+                        folders.put(folderId, node);
+                    }
+                }
+                folderIds.forEach(staleFolderIds::remove);
+            }
+            return folders;
+        }
+    }
+
+    /**
+     * @param folderIds folder ids or null to load all folders
+     * @return folder nodes by folder id, deleted folders are absent
+     */
+    Map<String, FolderNode> loadFolders(Collection<String> folderIds) {
+        if (folderIds != null && folderIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Folder> root = query.from(Folder.class);
+        query.multiselect(
+                root.get("id"),
+                root.get("name"),
+                root.join("parentFolder", JoinType.LEFT).get("id")
+        );
+        if (folderIds != null) {
+            query.where(root.get("id").in(folderIds));
+        }
+
+        Map<String, FolderNode> result = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            result.put(tuple.get(0, String.class), new FolderNode(tuple.get(1, String.class), tuple.get(2, String.class)));
+        }
+        return result;
+    }
+}
@@ -25,7 +25,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.FolderRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.FolderMoveException;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainSearchRequestDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.folder.FolderContentFilter;
@@ -50,7 +49,8 @@ public class FolderService {
     private final FolderRepository folderRepository;
     private final ChainRepository chainRepository;
     private final DeploymentService deploymentService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
+    private final FolderPathIndex folderPathIndex;
 
     private final AuditingHandler auditingHandler;
 
@@ -58,12 +58,14 @@ public class FolderService {
     public FolderService(FolderRepository folderRepository,
                          ChainRepository chainRepository,
                          DeploymentService deploymentService,
-                         ActionsLogService actionLogger,
+                         BatchedActionsLogService actionLogger,
+                         FolderPathIndex folderPathIndex,
                          AuditingHandler jpaAuditingHandler) {
         this.folderRepository = folderRepository;
         this.chainRepository = chainRepository;
         this.deploymentService = deploymentService;
         this.actionLogger = actionLogger;
+        this.folderPathIndex = folderPathIndex;
         this.auditingHandler = jpaAuditingHandler;
     }
 
@@ -81,8 +83,8 @@ public Folder findFirstByName(String name, Folder parent) {
     }
 
     public Map<String, String> provideNavigationPath(String folderId) {
-        var folder = findById(folderId);
-        return folder.getAncestors();
+        Map<String, String> path = folderPathIndex.getFolderPath(folderId);
+        return path != null ? path : findById(folderId).getAncestors();
     }
 
     public Folder findEntityByIdOrNull(String folderId) {
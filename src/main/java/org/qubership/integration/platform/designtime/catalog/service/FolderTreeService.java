@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FoldableEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.FolderRepository;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the folder tree page by page. Items of a folder are its folders ordered by name followed by
+ * its chains ordered by name. Pages are addressed by a keyset cursor, so only the requested items
+ * and the numbers of items in the returned folders are read from the database.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FolderTreeService {
+    public static final int MAX_LIMIT = 1000;
+    public static final int MAX_DEPTH = 5;
+
+    private static final String CURSOR_DELIMITER = "\n";
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid folder tree cursor";
+
+    private final EntityManager entityManager;
+    private final FolderRepository folderRepository;
+
+    /**
+     * @param items      folders followed by chains
+     * @param nextCursor cursor of the next page, null if it is the last page
+     */
+    public record Page(List<Node> items, String nextCursor) {
+    }
+
+    /**
+     * @param entity       folder or chain
+     * @param foldersCount number of folders in the folder, 0 for a chain
+     * @param chainsCount  number of chains in the folder, 0 for a chain
+     * @param children     first page of folder items if the folder is expanded, otherwise null
+     */
+    public record Node(FoldableEntity entity, long foldersCount, long chainsCount, Page children) {
+    }
+
+    enum ItemKind {
+        FOLDER,
+        CHAIN
+    }
+
+    record Position(ItemKind kind, String id, String name) {
+    }
+
+    @Autowired
+    public FolderTreeService(EntityManager entityManager, FolderRepository folderRepository) {
+        this.entityManager = entityManager;
+        this.folderRepository = folderRepository;
+    }
+
+    /**
+     * @param parentId       parent folder id, root folder if null
+     * @param cursor         cursor returned with the previous page, first page if null
+     * @param limit          maximum number of items on the page
+     * @param depth          number of tree levels to return, folders on the page are expanded if greater than 1
+     * @param childrenLimit  maximum number of items returned for each expanded folder
+     * @param openedFolderId folder to open, folders on the path to it are expanded regardless of the depth
+     */
+    public Page getPage(String parentId, String cursor, int limit, int depth, int childrenLimit, String openedFolderId) {
+        checkRange("limit", limit, MAX_LIMIT);
+        checkRange("depth", depth, MAX_DEPTH);
+        checkRange("childrenLimit", childrenLimit, MAX_LIMIT);
+
+        Set<String> expandedFolderIds = openedFolderId == null
+                ? Collections.emptySet()
+                : folderRepository.findAllFoldersToRootParentFolder(openedFolderId).stream()
+                        .map(AbstractEntity::getId)
+                        .collect(Collectors.toSet());
+        return loadPage(parentId, decodeCursor(cursor), limit, depth, childrenLimit, expandedFolderIds);
+    }
+
+    private Page loadPage(String parentId, Position after, int limit, int depth, int childrenLimit,
+                          Set<String> expandedFolderIds) {
+        List<Folder> folders = after == null || after.kind() == ItemKind.FOLDER
+                ? findItems(Folder.class, parentId, after, limit + 1)
+                : Collections.emptyList();
+        List<Chain> chains = Collections.emptyList();
+        boolean hasMore = folders.size() > limit;
+        if (hasMore) {
+            folders = folders.subList(0, limit);
+        } else {
+            int chainsLimit = limit - folders.size();
+            chains = findItems(Chain.class, parentId,
+                    after != null && after.kind() == ItemKind.CHAIN ? after : null, chainsLimit + 1);
+            hasMore = chains.size() > chainsLimit;
+            if (hasMore) {
+                chains = chains.subList(0, chainsLimit);
+            }
+        }
+
+        List<String> folderIds = folders.stream().map(AbstractEntity::getId).toList();
+        Map<String, Long> foldersCounts = countItems(Folder.class, folderIds);
+        Map<String, Long> chainsCounts = countItems(Chain.class, folderIds);
+
+        List<Node> items = new ArrayList<>(folders.size() + chains.size());
+        for (Folder folder : folders) {
+            long foldersCount = foldersCounts.getOrDefault(folder.getId(), 0L);
+            long chainsCount = chainsCounts.getOrDefault(folder.getId(), 0L);
+            boolean expand = (depth > 1 || expandedFolderIds.contains(folder.getId()))
+                    && foldersCount + chainsCount > 0;
+            Page children = expand
+                    ? loadPage(folder.getId(), null, childrenLimit, depth - 1, childrenLimit, expandedFolderIds)
+                    : null;
+            items.add(new Node(folder, foldersCount, chainsCount, children));
+        }
+        for (Chain chain : chains) {
+            items.add(new Node(chain, 0, 0, null));
+        }
+
+        String nextCursor = hasMore ? encodeCursor(items.get(items.size() - 1).entity()) : null;
+        return new Page(items, nextCursor);
+    }
+
+    <T extends FoldableEntity> List<T> findItems(Class<T> type, String parentId, Position after, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(type);
+        Root<T> root = query.from(type);
+        Path<String> name = root.get("name");
+        Path<String> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(parentId == null
+                ? builder.isNull(root.get("parentFolder"))
+                : builder.equal(root.get("parentFolder").get("id"), parentId));
+        if (after != null) {
+            predicates.add(builder.or(
+                    builder.greaterThan(name, after.name()),
+                    builder.and(builder.equal(name, after.name()), builder.greaterThan(id, after.id()))));
+        }
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(name), builder.asc(id));
+        return entityManager.createQuery(query).setMaxResults(maxResults).getResultList();
+    }
+
+    // <parent folder id, number of items of the given type>
+    Map<String, Long> countItems(Class<? extends FoldableEntity> type, Collection<String> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<? extends FoldableEntity> root = query.from(type);
+        Path<String> parentId = root.get("parentFolder").get("id");
+        query.multiselect(parentId, builder.count(root))
+                .where(parentId.in(parentIds))
+                .groupBy(parentId);
+
+        Map<String, Long> result = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            result.put(tuple.get(0, String.class), tuple.get(1, Long.class));
+        }
+        return result;
+    }
+
+    private static String encodeCursor(FoldableEntity entity) {
+        ItemKind kind = entity instanceof Folder ? ItemKind.FOLDER : ItemKind.CHAIN;
+        String value = String.join(CURSOR_DELIMITER, kind.name(), entity.getId(), entity.getName());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(CURSOR_DELIMITER, 3);
+            if (parts.length != 3) {
+                throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+            }
+            return new Position(ItemKind.valueOf(parts[0]), parts[1], parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    private static void checkRange(String name, int value, int max) {
+        if (value < 1 || value > max) {
+            throw new BadRequestException(String.format("%s must be between 1 and %d", name, max));
+        }
+    }
+}
@@ -24,6 +24,7 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.Operation;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.operations.OperationRepository;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.UsageProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
@@ -89,9 +90,8 @@ private List<Operation> getOperations(
                     : operationRepository.getOperations(modelId, sortColumns);
         }
 
-        return operations.stream()
-                .peek(this::enrichOperationWithChains)
-                .collect(Collectors.toList());
+        enrichOperationsWithChains(operations);
+        return operations;
     }
 
     public Operation getOperation(String operationId) {
@@ -144,8 +144,14 @@ public JsonNode getResponseSchema(String operationId, String contentType, String
         return operation.getResponseSchemas().get(responseCode).path(contentType);
     }
 
-    private void enrichOperationWithChains(Operation operation) {
-        List<Chain> chains = chainService.findBySystemAndOperationId(null, operation.getId());
-        operation.setChains(chains);
+    private void enrichOperationsWithChains(List<Operation> operations) {
+        Map<String, List<Chain>> operationChains = chainService.findChainsByUsage(
+                UsageProperty.OPERATION,
+                operations.stream().map(Operation::getId).toList(),
+                UsageProperty.OPERATION
+        ).get(UsageProperty.OPERATION);
+        for (Operation operation : operations) {
+            operation.setChains(operationChains.getOrDefault(operation.getId(), new ArrayList<>()));
+        }
     }
 }
@@ -36,10 +36,12 @@
 public class OrderedElementService {
 
     private final LibraryElementsService libraryService;
+    private final ElementDescriptorIndex descriptorIndex;
 
 
-    public OrderedElementService(LibraryElementsService libraryService) {
+    public OrderedElementService(LibraryElementsService libraryService, ElementDescriptorIndex descriptorIndex) {
         this.libraryService = libraryService;
+        this.descriptorIndex = descriptorIndex;
     }
 
 
@@ -129,8 +131,7 @@ public ChainDiff removeOrderedElement(@NonNull ContainerChainElement parentEleme
     }
 
     public boolean isOrdered(@NonNull ChainElement element) {
-        ElementDescriptor descriptor = libraryService.getElementDescriptor(element);
-        return descriptor != null && descriptor.isOrdered() && element.getParent() != null;
+        return descriptorIndex.isOrdered(element) && element.getParent() != null;
     }
 
     public Optional<Integer> extractPriorityNumber(String elementType, Map<String, Object> properties) {
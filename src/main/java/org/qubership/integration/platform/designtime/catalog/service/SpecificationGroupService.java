@@ -17,13 +17,10 @@
 package org.qubership.integration.platform.designtime.catalog.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.catalog.exception.SpecificationImportException;
-import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractLabel;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
-import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.IntegrationSystem;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationGroup;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationGroupLabel;
@@ -34,15 +31,14 @@
 import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.exportimport.ProtocolExtractionService;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.SpecificationDeleteException;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.UsageProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
@@ -172,8 +168,8 @@ public SpecificationGroup getSpecificationGroupByNameAndSystem(String specificat
 
     public List<SpecificationGroup> getSpecificationGroups(String systemId) {
         List<SpecificationGroup> specificationGroups = specificationGroupRepository.findAllBySystemId(systemId);
+        enrichSpecificationGroupsWithChains(specificationGroups);
         List<SpecificationGroup> specificationGroupsSorted = specificationGroups.stream()
-                .peek(this::enrichSpecificationGroupWithChains)
                 .sorted((sg1, sg2) -> sg2.getName().compareTo(sg1.getName()))
                 .collect(Collectors.toList());
         
@@ -251,19 +247,21 @@ private boolean specGroupWithIdExists(Collection<SpecificationGroup> specificati
                 && specificationGroups.stream().map(SpecificationGroup::getId).anyMatch(id::equals);
     }
 
-    private void enrichSpecificationGroupWithChains(SpecificationGroup specificationGroup) {
-        List<Chain> chains = chainService.findBySystemAndGroupId(specificationGroup.getSystem().getId(), specificationGroup.getId());
-        specificationGroup.setChains(chains);
-
-        for (SystemModel model : specificationGroup.getSystemModels()) {
-            List<Chain> modelChains = chains.stream()
-                    .flatMap(modelChain -> modelChain.getElements().stream())
-                    .filter(chainElement -> StringUtils.equals(model.getId(), chainElement.getPropertyAsString(CamelOptions.MODEL_ID)))
-                    .map(ChainElement::getChain)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-            model.setChains(modelChains);
+    private void enrichSpecificationGroupsWithChains(List<SpecificationGroup> specificationGroups) {
+        Map<UsageProperty, Map<String, List<Chain>>> chains = chainService.findChainsByUsage(
+                UsageProperty.SPECIFICATION_GROUP,
+                specificationGroups.stream().map(SpecificationGroup::getId).toList(),
+                UsageProperty.SPECIFICATION_GROUP,
+                UsageProperty.MODEL
+        );
+        Map<String, List<Chain>> groupChains = chains.get(UsageProperty.SPECIFICATION_GROUP);
+        Map<String, List<Chain>> modelChains = chains.get(UsageProperty.MODEL);
+
+        for (SpecificationGroup specificationGroup : specificationGroups) {
+            specificationGroup.setChains(groupChains.getOrDefault(specificationGroup.getId(), new ArrayList<>()));
+            for (SystemModel model : specificationGroup.getSystemModels()) {
+                model.setChains(modelChains.getOrDefault(model.getId(), new ArrayList<>()));
+            }
         }
     }
 }
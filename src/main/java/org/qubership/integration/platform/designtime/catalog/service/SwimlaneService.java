@@ -51,16 +51,19 @@ public class SwimlaneService {
     public static final String REUSE_SWIMLANE_COLOR = "Green";
 
     private final LibraryElementsService libraryService;
+    private final ElementDescriptorIndex descriptorIndex;
     private final ElementService elementService;
     private final ChainService chainService;
 
     @Autowired
     public SwimlaneService(
             LibraryElementsService libraryService,
+            ElementDescriptorIndex descriptorIndex,
             @Lazy ElementService elementService,
             @Lazy ChainService chainService
     ) {
         this.libraryService = libraryService;
+        this.descriptorIndex = descriptorIndex;
         this.elementService = elementService;
         this.chainService = chainService;
     }
@@ -89,8 +92,7 @@ public ChainDiff create(String chainId) {
             chainDiff.setCreatedDefaultSwimlaneId(defaultSwimlane.getId());
 
             boolean chainHasReuseElements = chain.getElements().stream()
-                    .map(libraryService::getElementDescriptor)
-                    .anyMatch(descriptor -> ElementType.REUSE == descriptor.getType());
+                    .anyMatch(descriptorIndex::isReuse);
             if (chainHasReuseElements) {
                 SwimlaneChainElement reuseSwimlane = createSwimlaneElement(REUSE_SWIMLANE_NAME, elementDescriptor, chain);
                 reuseSwimlane.getProperties().put(COLOR_PROPERTY_NAME, REUSE_SWIMLANE_COLOR);
@@ -144,18 +146,14 @@ public ChainDiff transferElementToSwimlane(Chain chain, String swimlaneId, Chain
                 .filter(swimlaneElement -> StringUtils.equals(swimlaneElement.getId(), swimlaneId))
                 .findFirst()
                 .orElse(null);
-        ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(element);
-        if (ElementType.REUSE != elementDescriptor.getType()) {
+        if (!descriptorIndex.isReuse(element)) {
             if (swimlane == null) {
                 updateElementsHierarchy(
                         Collections.singletonList(element),
                         chainElement -> chainElement.setSwimlane(chain.getDefaultSwimlane())
                 );
             } else {
-                boolean parentElementReuse = Optional.ofNullable(elementService.findRootParent(element))
-                        .map(libraryService::getElementDescriptor)
-                        .map(descriptor -> ElementType.REUSE == descriptor.getType())
-                        .orElse(false);
+                boolean parentElementReuse = descriptorIndex.isReuse(elementService.findRootParent(element));
                 if (Objects.equals(swimlane, chain.getReuseSwimlane()) && !parentElementReuse) {
                     throw new ElementTransferException("Element " + element.getId() + " cannot be moved to Reuse group");
                 }
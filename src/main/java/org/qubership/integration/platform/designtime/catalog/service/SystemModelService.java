@@ -17,12 +17,9 @@
 package org.qubership.integration.platform.designtime.catalog.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractLabel;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
-import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.Operation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationGroup;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SystemModel;
@@ -34,15 +31,13 @@
 import org.qubership.integration.platform.catalog.service.codegen.SystemModelCodeGenerator;
 import org.qubership.integration.platform.catalog.service.compiler.CompilerService;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.SpecificationDeleteException;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.UsageProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.qubership.integration.platform.catalog.model.system.SystemModelSource.DISCOVERED;
@@ -76,16 +71,16 @@ public SystemModel getLastDiscoveredSystemModelInGroup(String specificationGroup
     }
 
     public List<SystemModel> getSystemModelsBySystemId(String systemId) {
-        return systemModelRepository.findSystemModelsBySpecificationGroupSystemId(systemId).stream()
-                .peek(this::enrichSystemModelWithChains)
-                .collect(Collectors.toList());
+        List<SystemModel> models = systemModelRepository.findSystemModelsBySpecificationGroupSystemId(systemId);
+        enrichSystemModelsWithChains(models);
+        return models;
     }
 
     @Override
     public List<SystemModel> getSystemModelsBySpecificationGroupId(String specificationGroupId) {
-        return super.getSystemModelsBySpecificationGroupId(specificationGroupId).stream()
-                .peek(this::enrichSystemModelWithChains)
-                .collect(Collectors.toList());
+        List<SystemModel> models = super.getSystemModelsBySpecificationGroupId(specificationGroupId);
+        enrichSystemModelsWithChains(models);
+        return models;
     }
 
     public SystemModel getSystemModelByVersionAndSpecificationGroupId(String specificationGroupId, String version) {
@@ -145,19 +140,21 @@ public void deleteSystemModel(SystemModel model) {
         logModelAction(model, specificationGroup, LogOperation.DELETE);
     }
 
-    private void enrichSystemModelWithChains(SystemModel model) {
-        List<Chain> chains = chainService.findBySystemAndModelId(null, model.getId());
-        model.setChains(chains);
-
-        for (Operation operation : model.getOperations()) {
-            List<Chain> operationChains = chains.stream()
-                    .flatMap(operationChain -> operationChain.getElements().stream())
-                    .filter(chainElement -> StringUtils.equals(operation.getId(), chainElement.getPropertyAsString(CamelOptions.OPERATION_ID)))
-                    .map(ChainElement::getChain)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-            operation.setChains(operationChains);
+    private void enrichSystemModelsWithChains(List<SystemModel> models) {
+        Map<UsageProperty, Map<String, List<Chain>>> chains = chainService.findChainsByUsage(
+                UsageProperty.MODEL,
+                models.stream().map(SystemModel::getId).toList(),
+                UsageProperty.MODEL,
+                UsageProperty.OPERATION
+        );
+        Map<String, List<Chain>> modelChains = chains.get(UsageProperty.MODEL);
+        Map<String, List<Chain>> operationChains = chains.get(UsageProperty.OPERATION);
+
+        for (SystemModel model : models) {
+            model.setChains(modelChains.getOrDefault(model.getId(), new ArrayList<>()));
+            for (Operation operation : model.getOperations()) {
+                operation.setChains(operationChains.getOrDefault(operation.getId(), new ArrayList<>()));
+            }
         }
     }
 }
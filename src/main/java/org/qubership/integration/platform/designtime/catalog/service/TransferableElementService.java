@@ -21,7 +21,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
@@ -51,9 +50,10 @@ public class TransferableElementService extends ElementService {
     public TransferableElementService(
             ElementRepository elementRepository,
             LibraryElementsService libraryService,
+            ElementDescriptorIndex descriptorIndex,
             @Lazy ChainService chainService,
             SwimlaneService swimlaneService,
-            ActionsLogService actionLogger,
+            BatchedActionsLogService actionLogger,
             AuditingHandler jpaAuditingHandler,
             EnvironmentService environmentService,
             OrderedElementService orderedElementService,
@@ -64,6 +64,7 @@ public TransferableElementService(
         super(
                 elementRepository,
                 libraryService,
+                descriptorIndex,
                 chainService,
                 swimlaneService,
                 actionLogger,
@@ -16,23 +16,40 @@
 
 package org.qubership.integration.platform.designtime.catalog.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.integration.platform.catalog.model.chain.element.*;
 import org.qubership.integration.platform.catalog.model.constant.CamelNames;
 import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.designtime.catalog.model.usedproperties.ChainPropertyUsage;
+import org.qubership.integration.platform.designtime.catalog.model.usedproperties.ElementUsedProperties;
+import org.qubership.integration.platform.designtime.catalog.utils.CombinedPattern;
 import org.qubership.integration.platform.designtime.catalog.utils.MapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 @Slf4j
@@ -184,34 +201,281 @@ public class UsedPropertiesAnalyzer {
     private static final Set<String> EXCLUDE_MAPPER_ELEMENTS = Set.of(
             CamelNames.MAPPER, CamelNames.MAPPER_2, CamelNames.SERVICE_CALL_COMPONENT, CamelNames.HTTP_TRIGGER_COMPONENT);
 
+    private static final CombinedPattern<ScriptUsage> GROOVY_PATTERN = new CombinedPattern<>(List.of(
+            new CombinedPattern.Alternative<>(GROOVY_GET_HEADERS_PATTERN, GROOVY_GET_HEADER_GROUPS,
+                    new ScriptUsage(UsedPropertySource.HEADER, UsedPropertyElementOperation.GET)),
+            new CombinedPattern.Alternative<>(GROOVY_SET_HEADERS_PATTERN, GROOVY_SET_HEADER_GROUPS,
+                    new ScriptUsage(UsedPropertySource.HEADER, UsedPropertyElementOperation.SET)),
+            new CombinedPattern.Alternative<>(GROOVY_GET_PROPERTIES_PATTERN, GROOVY_GET_PROPERTIES_GROUPS,
+                    new ScriptUsage(UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET)),
+            new CombinedPattern.Alternative<>(GROOVY_SET_PROPERTIES_PATTERN, GROOVY_SET_PROPERTIES_GROUPS,
+                    new ScriptUsage(UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET))
+    ));
+    private static final CombinedPattern<UsedPropertySource> SIMPLE_PATTERN = new CombinedPattern<>(List.of(
+            new CombinedPattern.Alternative<>(PROPS_SIMPLE_PATTERN, EX_PROP_GROUPS, UsedPropertySource.EXCHANGE_PROPERTY),
+            new CombinedPattern.Alternative<>(HEADERS_SIMPLE_PATTERN, EX_HEADER_GROUPS, UsedPropertySource.HEADER)
+    ));
+    private static final String SIMPLE_EXPRESSION_START = "${";
+
     public static final String MAPPING_DESCRIPTION = "mappingDescription";
 
     private final ElementRepository elementRepository;
+    private final EntityManager entityManager;
+    private final Executor executor;
+    private final int batchSize;
+    private final int cacheMaxSize;
+    private final int searchMaxElements;
+    // <element id, entry>, least recently used first, guarded by itself
+    private final Map<String, CacheEntry> cache;
+
+    private record ScriptUsage(UsedPropertySource source, UsedPropertyElementOperation operation) {
+    }
+
+    private record CacheEntry(Timestamp modifiedWhen, ElementUsedProperties usedProperties) {
+    }
+
+    /**
+     * Values of a chain element read in the calling thread, so that entities are not accessed by analysis threads.
+     */
+    private record ElementSnapshot(String id, String name, String type, Timestamp modifiedWhen,
+                                   Map<String, Object> properties) {
+        private static ElementSnapshot of(ChainElement element) {
+            return new ElementSnapshot(element.getId(), element.getName(), element.getType(), element.getModifiedWhen(),
+                    element.getProperties());
+        }
+    }
 
     @Autowired
-    public UsedPropertiesAnalyzer(ElementRepository elementRepository) {
+    public UsedPropertiesAnalyzer(ElementRepository elementRepository,
+                                  EntityManager entityManager,
+                                  @Qualifier("usedPropertiesExecutor") Executor executor,
+                                  @Value("${qip.used-properties.batch-size}") int batchSize,
+                                  @Value("${qip.used-properties.cache.max-size}") int cacheMaxSize,
+                                  @Value("${qip.used-properties.search.max-elements}") int searchMaxElements) {
         this.elementRepository = elementRepository;
+        this.entityManager = entityManager;
+        this.executor = executor;
+        this.batchSize = Math.max(batchSize, 1);
+        this.cacheMaxSize = cacheMaxSize;
+        this.searchMaxElements = searchMaxElements;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > UsedPropertiesAnalyzer.this.cacheMaxSize;
+            }
+        };
     }
 
     public List<UsedProperty> getUsedProperties(String chainId) {
         List<ChainElement> chainElements = elementRepository.findAllByChainId(chainId);
+        return new ArrayList<>(collectUsedProperties(chainElements).values());
+    }
+
+    /**
+     * Finds elements of all chains that use the property.
+     *
+     * @param operation operation performed on the property by an element or null for any operation
+     * @return chains ordered by name with elements that use the property
+     * @throws BadRequestException if more elements than the configured maximum mention the name
+     */
+    public List<ChainPropertyUsage> findChainsUsingProperty(String name, UsedPropertySource source,
+                                                            UsedPropertyElementOperation operation) {
+        // <element, chain id, chain name>
+        List<Tuple> candidates = findElementsMentioning(name);
+        List<ElementSnapshot> elements = candidates.stream()
+                .map(tuple -> ElementSnapshot.of(tuple.get(0, ChainElement.class)))
+                .toList();
+        List<List<UsedPropertyElement>> batchUsages = mapInBatches(elements, batch -> batch.stream()
+                .map(element -> findPropertyUsage(getElementUsedProperties(element), name, source, operation))
+                .toList());
+
+        // <chain id, usage>
+        Map<String, ChainPropertyUsage> chainUsages = new LinkedHashMap<>();
+        Iterator<Tuple> candidateIterator = candidates.iterator();
+        for (List<UsedPropertyElement> usages : batchUsages) {
+            for (UsedPropertyElement usage : usages) {
+                Tuple candidate = candidateIterator.next();
+                if (usage == null) {
+                    continue;
+                }
+                String chainId = candidate.get(1, String.class);
+                chainUsages.computeIfAbsent(chainId, key ->
+                                new ChainPropertyUsage(chainId, candidate.get(2, String.class), new ArrayList<>()))
+                        .elements().add(usage);
+            }
+        }
+        return new ArrayList<>(chainUsages.values());
+    }
+
+    /**
+     * Analyzes elements in batches on the analysis executor, a single batch is analyzed in the calling thread.
+     * Partial results are merged in the order of elements, so the first usage of a property defines its type.
+     */
+    Map<String, UsedProperty> collectUsedProperties(List<ChainElement> elements) {
         // key = name + type
         Map<String, UsedProperty> usedProperties = new HashMap<>();
-        for (ChainElement chainElement : chainElements) {
-            findUsedProperties(chainElement, chainElement.getProperties(), usedProperties);
+        List<ElementSnapshot> snapshots = elements.stream().map(ElementSnapshot::of).toList();
+        List<Map<String, UsedProperty>> partialResults = mapInBatches(snapshots, batch -> {
+            Map<String, UsedProperty> partialResult = new HashMap<>();
+            for (ElementSnapshot element : batch) {
+                addUsedProperties(partialResult, getElementUsedProperties(element));
+            }
+            return partialResult;
+        });
+        for (Map<String, UsedProperty> partialResult : partialResults) {
+            mergeUsedProperties(usedProperties, partialResult);
+        }
+        return usedProperties;
+    }
+
+    private <T> List<T> mapInBatches(List<ElementSnapshot> elements, Function<List<ElementSnapshot>, T> mapper) {
+        if (elements.size() <= batchSize) {
+            return List.of(mapper.apply(elements));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int from = 0; from < elements.size(); from += batchSize) {
+            List<ElementSnapshot> batch = elements.subList(from, Math.min(from + batchSize, elements.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> mapper.apply(batch), executor));
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds properties of the partial result to the target. Elements of a property present in both
+     * are combined and the type of the target property is kept.
+     */
+    private static void mergeUsedProperties(Map<String, UsedProperty> target, Map<String, UsedProperty> partialResult) {
+        for (Map.Entry<String, UsedProperty> entry : partialResult.entrySet()) {
+            UsedProperty existingProperty = target.putIfAbsent(entry.getKey(), entry.getValue());
+            if (existingProperty == null) {
+                continue;
+            }
+            Map<String, UsedPropertyElement> relatedElements = existingProperty.getRelatedElements();
+            entry.getValue().getRelatedElements().forEach((elementId, element) -> relatedElements.merge(elementId, element,
+                    (existingElement, newElement) -> {
+                        existingElement.merge(newElement);
+                        return existingElement;
+                    }));
+        }
+    }
+
+    private static UsedPropertyElement findPropertyUsage(ElementUsedProperties elementUsedProperties, String name,
+                                                         UsedPropertySource source, UsedPropertyElementOperation operation) {
+        for (ElementUsedProperties.Property property : elementUsedProperties.properties()) {
+            if (property.source() == source && property.name().equals(name)
+                    && (operation == null || property.operations().contains(operation))) {
+                UsedPropertyElement usedElement = UsedPropertyElement.builder()
+                        .id(elementUsedProperties.elementId())
+                        .name(elementUsedProperties.elementName())
+                        .type(elementUsedProperties.elementType())
+                        .build();
+                usedElement.getOperations().addAll(property.operations());
+                return usedElement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Selects chain elements whose properties contain the name, all usages of the name are among them.
+     */
+    private List<Tuple> findElementsMentioning(String name) {
+        // property names are compared with the JSON text, where quotes and backslashes are escaped
+        String jsonName = name.replace("\\", "\\\\").replace("\"", "\\\"");
+        String namePattern = "%" + jsonName.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<ChainElement> root = query.from(ChainElement.class);
+        Join<ChainElement, Chain> chain = root.join("chain");
+        query.multiselect(root, chain.get("id"), chain.get("name"))
+                .where(builder.like(root.get("properties").as(String.class), namePattern, '\\'))
+                .orderBy(builder.asc(chain.get("name")), builder.asc(chain.get("id")), builder.asc(root.get("name")));
+        List<Tuple> candidates = entityManager.createQuery(query).setMaxResults(searchMaxElements + 1).getResultList();
+        if (candidates.size() > searchMaxElements) {
+            throw new BadRequestException(String.format(
+                    "More than %d chain elements mention '%s', specify a more specific name", searchMaxElements, name));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns properties used by the element. Results are cached by element id and
+     * modification timestamp, so only new and changed elements are analyzed again.
+     */
+    public ElementUsedProperties getElementUsedProperties(ChainElement element) {
+        return getElementUsedProperties(ElementSnapshot.of(element));
+    }
+
+    private ElementUsedProperties getElementUsedProperties(ElementSnapshot element) {
+        Timestamp modifiedWhen = element.modifiedWhen();
+        if (cacheMaxSize <= 0 || modifiedWhen == null) {
+            return analyzeElement(element);
+        }
+
+        CacheEntry entry;
+        synchronized (cache) {
+            entry = cache.get(element.id());
+        }
+        if (entry != null && entry.modifiedWhen().equals(modifiedWhen)) {
+            return entry.usedProperties();
+        }
 
-            findUsedPropertiesInScript(chainElement, usedProperties);
-            findUsedPropertiesInMapper(chainElement, usedProperties);
-            findUsedPropertiesInHeaderModification(chainElement, usedProperties);
+        ElementUsedProperties usedProperties = analyzeElement(element);
+        synchronized (cache) {
+            cache.put(element.id(), new CacheEntry(modifiedWhen, usedProperties));
         }
+        return usedProperties;
+    }
+
+    private static void addUsedProperties(Map<String, UsedProperty> usedProperties, ElementUsedProperties elementUsedProperties) {
+        for (ElementUsedProperties.Property property : elementUsedProperties.properties()) {
+            UsedProperty usedProperty = usedProperties.computeIfAbsent(
+                    buildUsedPropertyKey(property.name(), property.source()),
+                    key ->
+                            UsedProperty.builder()
+                                    .name(property.name())
+                                    .source(property.source())
+                                    .type(property.type())
+                                    .isArray(property.isArray())
+                                    .attributeDataType(property.attributeDataType())
+                                    .build());
+
+            UsedPropertyElement usedElement = UsedPropertyElement.builder()
+                    .id(elementUsedProperties.elementId())
+                    .name(elementUsedProperties.elementName())
+                    .type(elementUsedProperties.elementType())
+                    .build();
+            usedElement.getOperations().addAll(property.operations());
+            usedProperty.getRelatedElements().put(elementUsedProperties.elementId(), usedElement);
+        }
+    }
+
+    private ElementUsedProperties analyzeElement(ElementSnapshot element) {
+        ElementAnalysis analysis = new ElementAnalysis();
+        findUsedProperties(element, element.properties(), analysis);
+
+        findUsedPropertiesInScript(element, analysis);
+        findUsedPropertiesInMapper(element, analysis);
+        findUsedPropertiesInHeaderModification(element, analysis);
 
-        return new ArrayList<>(usedProperties.values());
+        return analysis.toElementUsedProperties(element);
     }
 
-    private void findUsedPropertiesInMapper(ChainElement element, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
+    private void findUsedPropertiesInMapper(ElementSnapshot element, ElementAnalysis analysis) {
+        String elementType = element.type();
         if (ELEMENTS_WITH_MAPPER.contains(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> elementProperties = element.properties();
             final List<Map<String, Object>> mappingDescription = new ArrayList<>();
             switch (elementType) {
                 case CamelNames.MAPPER_2:
@@ -235,43 +499,43 @@ private void findUsedPropertiesInMapper(ChainElement element, Map<String, UsedPr
             if (!mappingDescription.isEmpty()) {
                 for (Map<String, Object> map : mappingDescription) {
                     MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
+                            mapperTraversalCallback(analysis, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
                                     UsedPropertySource.HEADER), "source", "headers");
                     MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
+                            mapperTraversalCallback(analysis, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
                                     UsedPropertySource.EXCHANGE_PROPERTY), "source", "properties");
                     MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
+                            mapperTraversalCallback(analysis, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
                                     UsedPropertySource.HEADER), "target", "headers");
                     MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
+                            mapperTraversalCallback(analysis, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
                                     UsedPropertySource.EXCHANGE_PROPERTY), "target", "properties");
                 }
             }
         }
     }
 
-    private static @NotNull UsedPropertyElement buildUsedPropertyElement(ChainElement element, UsedPropertyElementOperation operation) {
+    private static @NotNull UsedPropertyElement buildUsedPropertyElement(ElementSnapshot element, UsedPropertyElementOperation operation) {
         UsedPropertyElement usedSrcElementHeader = UsedPropertyElement.builder()
-                .id(element.getId())
-                .name(element.getName())
-                .type(element.getType())
+                .id(element.id())
+                .name(element.name())
+                .type(element.type())
                 .build();
         usedSrcElementHeader.getOperations().add(operation);
         return usedSrcElementHeader;
     }
 
     @NotNull
-    private Consumer<Object> mapperTraversalCallback(Map<String, UsedProperty> usedProperties,
+    private Consumer<Object> mapperTraversalCallback(ElementAnalysis analysis,
                                                      UsedPropertyElement usedElement, UsedPropertySource usedPropertySource) {
         return headers -> {
             if (headers instanceof Collection<?> headersList) {
-                addMapperProperty(usedProperties, headersList, usedElement, usedPropertySource);
+                addMapperProperty(analysis, headersList, usedElement, usedPropertySource);
             }
         };
     }
 
-    private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collection<?> headersList,
+    private void addMapperProperty(ElementAnalysis analysis, Collection<?> headersList,
                                    UsedPropertyElement usedSrcElement, UsedPropertySource usedPropertySource) {
         for (Object entry : headersList) {
             if (entry instanceof Map map1) {
@@ -285,14 +549,14 @@ private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collect
                         if (typeName.equals("object")) {
                             attributeDataType.set(type);
                         }
-                        buildUsedProperty(usedProperties, name, usedPropertySource, UsedPropertyType.fromString(typeName),
+                        buildUsedProperty(analysis, name, usedPropertySource, UsedPropertyType.fromString(typeName),
                                 false, attributeDataType.get(), usedSrcElement);
                     } else {
                         MapUtils.deepMapTraversalSafe(map1, (arrayType) -> {
                             if (arrayType.equals("object")) {
                                 attributeDataType.set(type);
                             }
-                            buildUsedProperty(usedProperties, name, usedPropertySource,
+                            buildUsedProperty(analysis, name, usedPropertySource,
                                     UsedPropertyType.fromString((String) arrayType), true, attributeDataType.get(), usedSrcElement);
                         }, "type", "itemType", "name");
                     }
@@ -301,10 +565,10 @@ private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collect
         }
     }
 
-    private void findUsedPropertiesInHeaderModification(ChainElement element, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
+    private void findUsedPropertiesInHeaderModification(ElementSnapshot element, ElementAnalysis analysis) {
+        String elementType = element.type();
         if (CamelNames.HEADER_MODIFICATION.equals(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> elementProperties = element.properties();
 
             UsedPropertyElement usedElement = buildUsedPropertyElement(element, UsedPropertyElementOperation.SET);
 
@@ -312,21 +576,21 @@ private void findUsedPropertiesInHeaderModification(ChainElement element, Map<St
             Object headerModificationToRemove = elementProperties.getOrDefault("headerModificationToRemove", Collections.emptyList());
             if (headerModificationToAdd instanceof Map map) {
                 for (String key : ((Map<String, ?>) map).keySet()) {
-                    buildUsedProperty(usedProperties, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
+                    buildUsedProperty(analysis, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
                 }
             }
             if (headerModificationToRemove instanceof Collection collection) {
                 for (String key : (Collection<String>) collection) {
-                    buildUsedProperty(usedProperties, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
+                    buildUsedProperty(analysis, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
                 }
             }
         }
     }
 
-    private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
+    private void findUsedPropertiesInScript(ElementSnapshot element, ElementAnalysis analysis) {
+        String elementType = element.type();
         if (ELEMENTS_WITH_SCRIPT.contains(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> elementProperties = element.properties();
             StringBuilder scripts = new StringBuilder();
             switch (elementType) {
                 case CamelNames.SCRIPT:
@@ -362,48 +626,22 @@ private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedPr
 
             if (!scripts.isEmpty()) {
                 UsedPropertyElement usedElement = UsedPropertyElement.builder()
-                        .id(element.getId())
-                        .name(element.getName())
-                        .type(element.getType())
+                        .id(element.id())
+                        .name(element.name())
+                        .type(element.type())
                         .build();
 
-                // get headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_GET_HEADER_GROUPS);
-
-                // set headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_SET_HEADER_GROUPS);
-
-                // get properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_GET_PROPERTIES_GROUPS);
-
-                // set properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_SET_PROPERTIES_GROUPS);
+                // get and set headers and properties
+                GROOVY_PATTERN.findAll(scripts, (usage, propertyName) -> {
+                    usedElement.getOperations().add(usage.operation());
+                    buildUsedProperty(analysis, propertyName, usage.source(), UsedPropertyType.UNKNOWN_TYPE, usedElement);
+                });
             }
         }
     }
 
-    private void buildUsedProperties(StringBuilder scripts, UsedPropertyElementOperation operation, UsedPropertyElement usedElement,
-                                     Map<String, UsedProperty> usedProperties,
-                                     Pattern pattern, UsedPropertySource usedPropertySource, int[] matchGroups) {
-        Matcher groovyGetHeadersMatcher = pattern.matcher(scripts);
-        while (groovyGetHeadersMatcher.find()) {
-            for (int group : matchGroups) {
-                String propertyName = groovyGetHeadersMatcher.group(group);
-                if (propertyName != null) {
-                    usedElement.getOperations().add(operation);
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
-                }
-            }
-        }
-    }
-
-    private void findUsedProperties(ChainElement element, Map<String, Object> properties, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
+    private void findUsedProperties(ElementSnapshot element, Map<String, Object> properties, ElementAnalysis analysis) {
+        String elementType = element.type();
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
             String key = entry.getKey();
@@ -414,64 +652,55 @@ private void findUsedProperties(ChainElement element, Map<String, Object> proper
                 continue;
             }
 
-            parseProperty(element, usedProperties, value, elementType);
+            parseProperty(element, analysis, value, elementType);
         }
     }
 
-    private void findUsedProperties(ChainElement element, Collection<Object> properties, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
+    private void findUsedProperties(ElementSnapshot element, Collection<Object> properties, ElementAnalysis analysis) {
+        String elementType = element.type();
 
         for (Object property : properties) {
-            parseProperty(element, usedProperties, property, elementType);
+            parseProperty(element, analysis, property, elementType);
         }
     }
 
-    private void parseProperty(ChainElement element, Map<String, UsedProperty> usedProperties, Object value, String elementType) {
+    private void parseProperty(ElementSnapshot element, ElementAnalysis analysis, Object value, String elementType) {
         if (value instanceof Collection listValue) {
-            findUsedProperties(element, listValue, usedProperties);
+            findUsedProperties(element, listValue, analysis);
         }
         if (value instanceof Map mapValue) {
-            findUsedProperties(element, mapValue, usedProperties);
-        }
-        if (value instanceof String stringValue) {
-            Matcher exPropertiesMatcher = PROPS_SIMPLE_PATTERN.matcher(stringValue);
-            Matcher exHeadersMatcher = HEADERS_SIMPLE_PATTERN.matcher(stringValue);
-
-            UsedPropertyElement usedElement = UsedPropertyElement.builder()
-                    .id(element.getId())
-                    .name(element.getName())
-                    .type(elementType)
-                    .build();
-
-            usedElement.getOperations().add(UsedPropertyElementOperation.GET); // constant operation for simple lang
-
-            findUsedPropertyMatches(usedProperties, exPropertiesMatcher, usedElement, UsedPropertySource.EXCHANGE_PROPERTY, EX_PROP_GROUPS);
-            findUsedPropertyMatches(usedProperties, exHeadersMatcher, usedElement, UsedPropertySource.HEADER, EX_HEADER_GROUPS);
+            findUsedProperties(element, mapValue, analysis);
         }
-    }
-
-    private void findUsedPropertyMatches(Map<String, UsedProperty> usedProperties, Matcher exPropertiesMatcher, UsedPropertyElement usedElement, UsedPropertySource usedPropertySource, int[] groups) {
-        while (exPropertiesMatcher.find()) {
-            for (int group : groups) {
-                String propertyName = exPropertiesMatcher.group(group);
-                if (propertyName != null) {
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
+        // both simple language patterns start with an expression opening
+        if (value instanceof String stringValue && stringValue.contains(SIMPLE_EXPRESSION_START)) {
+            AtomicReference<UsedPropertyElement> usedElement = new AtomicReference<>();
+            SIMPLE_PATTERN.findAll(stringValue, (usedPropertySource, propertyName) -> {
+                if (usedElement.get() == null) {
+                    usedElement.set(UsedPropertyElement.builder()
+                            .id(element.id())
+                            .name(element.name())
+                            .type(elementType)
+                            .build());
+                    usedElement.get().getOperations().add(UsedPropertyElementOperation.GET); // constant operation for simple lang
                 }
-            }
+                buildUsedProperty(analysis, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement.get());
+            });
         }
     }
 
-    private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String propName,
+    private void buildUsedProperty(ElementAnalysis analysis, String propName,
                                    UsedPropertySource source, UsedPropertyType type, UsedPropertyElement usedElement) {
-        buildUsedProperty(usedProperties, propName, source, type, false, null, usedElement);
+        buildUsedProperty(analysis, propName, source, type, false, null, usedElement);
     }
 
-    private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String propName,
+    private void buildUsedProperty(ElementAnalysis analysis, String propName,
                                    UsedPropertySource source, UsedPropertyType type,
                                    boolean isArray, Map<String, Object> attributeDataType, UsedPropertyElement usedElement) {
-        UsedProperty usedProperty = usedProperties.computeIfAbsent(
-                buildUsedPropertyKey(propName, source),
+        String propertyKey = buildUsedPropertyKey(propName, source);
+        analysis.definitions.putIfAbsent(propertyKey,
+                new ElementUsedProperties.Property(propName, source, type, isArray, attributeDataType, null));
+        UsedProperty usedProperty = analysis.usedProperties.computeIfAbsent(
+                propertyKey,
                 key ->
                         UsedProperty.builder()
                                 .name(propName)
@@ -493,4 +722,25 @@ private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String
     private static String buildUsedPropertyKey(String name, UsedPropertySource source) {
         return name + source.toString();
     }
+
+    /**
+     * Used properties of a single element collected during its analysis.
+     */
+    private static class ElementAnalysis {
+        // key = name + type
+        private final Map<String, UsedProperty> usedProperties = new HashMap<>();
+        // key = name + type, in the order properties were found
+        private final Map<String, ElementUsedProperties.Property> definitions = new LinkedHashMap<>();
+
+        private ElementUsedProperties toElementUsedProperties(ElementSnapshot element) {
+            List<ElementUsedProperties.Property> properties = new ArrayList<>(definitions.size());
+            for (Map.Entry<String, ElementUsedProperties.Property> entry : definitions.entrySet()) {
+                ElementUsedProperties.Property definition = entry.getValue();
+                UsedPropertyElement usedElement = usedProperties.get(entry.getKey()).getRelatedElements().get(element.id());
+                properties.add(new ElementUsedProperties.Property(definition.name(), definition.source(), definition.type(),
+                        definition.isArray(), definition.attributeDataType(), Set.copyOf(usedElement.getOperations())));
+            }
+            return new ElementUsedProperties(element.id(), element.name(), element.type(), List.copyOf(properties));
+        }
+    }
 }
@@ -27,9 +27,9 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ElementsCodeException;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.auditing.AuditingHandler;
@@ -47,12 +47,12 @@
 public class ElementsCodeviewService {
     private final ChainService chainService;
     private final YAMLMapper yamlMapper;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
     private final AuditingHandler auditingHandler;
 
     @Autowired
     public ElementsCodeviewService(ChainService chainService,
-                                   YAMLMapper codeViewYamlMapper, ActionsLogService actionLogger, AuditingHandler auditingHandler) {
+                                   YAMLMapper codeViewYamlMapper, BatchedActionsLogService actionLogger, AuditingHandler auditingHandler) {
         this.chainService = chainService;
         this.yamlMapper = codeViewYamlMapper;
         this.actionLogger = actionLogger;
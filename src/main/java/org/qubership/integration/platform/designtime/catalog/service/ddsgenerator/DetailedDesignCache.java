@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.ddsgenerator;
+
+import org.qubership.integration.platform.designtime.catalog.model.ChainElementsChangedEvent;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dds.DDSResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps generated detailed designs for recently requested chain and template pairs.
+ * Designs are bound to a revision built from the chain attributes and the templates version
+ * and are evicted once elements or dependencies of the chain are changed.
+ */
+@Component
+public class DetailedDesignCache {
+    private final boolean enabled;
+    private final int maxSize;
+    // <key, entry>, least recently used first, guarded by itself
+    private final Map<Key, Entry> entries;
+    private final AtomicLong version = new AtomicLong();
+
+    private record Key(String chainId, String templateId) {
+    }
+
+    private record Entry(Object revision, DDSResponse response) {
+    }
+
+    @Autowired
+    public DetailedDesignCache(@Value("${qip.dds.cache.enabled}") boolean enabled,
+                               @Value("${qip.dds.cache.max-size}") int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > DetailedDesignCache.this.maxSize;
+            }
+        };
+    }
+
+    public DDSResponse get(String chainId, String templateId, Object revision, Supplier<DDSResponse> generator) {
+        if (!enabled || maxSize <= 0) {
+            return generator.get();
+        }
+        Key key = new Key(chainId, templateId);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && Objects.equals(entry.revision(), revision)) {
+            return entry.response();
+        }
+
+        long startVersion = version.get();
+        DDSResponse response = generator.get();
+        synchronized (entries) {
+            // designs generated concurrently with a chain change may be outdated
+            if (version.get() == startVersion) {
+                entries.put(key, new Entry(revision, response));
+            }
+        }
+        return response;
+    }
+
+    @EventListener
+    public void onChainElementsChanged(ChainElementsChangedEvent event) {
+        version.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> event.chainIds().contains(key.chainId()));
+        }
+    }
+}
@@ -38,17 +38,18 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.DetailedDesignTemplate;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.MaskedField;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.Operation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationSource;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SystemModel;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.DetailedDesignTemplateRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.util.ResourceLoaderUtils;
 import org.qubership.integration.platform.designtime.catalog.model.dds.TemplateData;
 import org.qubership.integration.platform.designtime.catalog.model.dds.TemplateSequenceDiagram;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dds.DDSResponse;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.dds.DDSSpecificationSource;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
 import org.qubership.integration.platform.designtime.catalog.service.OperationService;
 import org.qubership.integration.platform.designtime.catalog.service.SystemModelService;
@@ -56,6 +57,7 @@
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateDataEscapingException;
 import org.qubership.integration.platform.designtime.catalog.service.ddsgenerator.exception.TemplateProcessingException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
@@ -67,9 +69,11 @@
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Pattern;
@@ -83,14 +87,18 @@ public class DetailedDesignService {
     private final ChainService chainService;
     private final SystemModelService systemModelService;
     private final OperationService operationService;
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
     private final TransactionHandler transactionHandler;
     private final TemplateDataBuilder templateDataBuilder;
     private final DetailedDesignTemplateRepository designTemplateRepository;
+    private final DetailedDesignCache detailedDesignCache;
+    private final ExecutorService ddsExecutor;
 
     private final StringTemplateLoader freemakerTemplateLoader;
     private final Configuration freemakerConfiguration;
     private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    // incremented on every template change, used in detailed design cache revisions
+    private final AtomicLong templatesVersion = new AtomicLong();
 
     private final Parser markdownParser;
     private final Formatter markdownRenderer;
@@ -99,9 +107,11 @@ public class DetailedDesignService {
     private final Map<String, Pair<String, String>> builtinTemplates = new HashMap<>();
 
     @Autowired
-    public DetailedDesignService(ChainService chainService, SystemModelService systemModelService, OperationService operationService, ActionsLogService actionLogger,
+    public DetailedDesignService(ChainService chainService, SystemModelService systemModelService, OperationService operationService, BatchedActionsLogService actionLogger,
                                  TransactionHandler transactionHandler, TemplateDataBuilder templateDataBuilder,
                                  DetailedDesignTemplateRepository designTemplateRepository,
+                                 DetailedDesignCache detailedDesignCache,
+                                 @Qualifier("ddsExecutor") ExecutorService ddsExecutor,
                                  StringTemplateLoader freemakerTemplateLoader, Configuration freemakerConfig,
                                  Parser markdownParser, Formatter markdownRenderer) {
         this.chainService = chainService;
@@ -111,6 +121,8 @@ public DetailedDesignService(ChainService chainService, SystemModelService syste
         this.transactionHandler = transactionHandler;
         this.templateDataBuilder = templateDataBuilder;
         this.designTemplateRepository = designTemplateRepository;
+        this.detailedDesignCache = detailedDesignCache;
+        this.ddsExecutor = ddsExecutor;
         this.freemakerTemplateLoader = freemakerTemplateLoader;
         this.freemakerConfiguration = freemakerConfig;
         this.markdownParser = markdownParser;
@@ -129,16 +141,11 @@ public void init(ApplicationReadyEvent event) {
             }
 
             // load custom templates from db
-            readWriteLock.writeLock().lock();
-            try {
-                transactionHandler.runInTransaction(() -> {
-                    for (DetailedDesignTemplate template : designTemplateRepository.findAll()) {
-                        freemakerTemplateLoader.putTemplate(template.getName(), template.getContent());
-                    }
-                });
-            } finally {
-                readWriteLock.writeLock().unlock();
-            }
+            transactionHandler.runInTransaction(() -> {
+                for (DetailedDesignTemplate template : designTemplateRepository.findAll()) {
+                    putTemplate(template.getId(), template.getContent());
+                }
+            });
             log.info("Detailed design templates loading finished");
         } catch (Exception e) {
             log.error("Detailed design templates loading failed", e);
@@ -148,31 +155,44 @@ public void init(ApplicationReadyEvent event) {
     @Transactional
     public DDSResponse buildChainDetailedDesign(String chainId, String templateId) throws TemplateDataBuilderException, TemplateDataEscapingException {
         Chain chain = chainService.findById(chainId);
+        return detailedDesignCache.get(chainId, templateId, buildRevision(chain),
+                () -> buildDetailedDesign(chain, templateId));
+    }
+
+    private DDSResponse buildDetailedDesign(Chain chain, String templateId) {
         List<ChainElement> elements = chain.getElements();
-        TemplateData templateData;
 
-        templateData = templateDataBuilder.build(chain, elements);
+        // additional data, collected concurrently with the template data
+        CompletableFuture<Map<String, DDSSpecificationSource>> specsFuture = collectImplementedSpecs(elements);
 
-        // template + data -> markdown
+        TemplateData templateData;
         Writer writer = new StringWriter();
-        readWriteLock.readLock().lock();
         try {
-            freemakerConfiguration.getTemplate(templateId).process(templateData, writer);
-        } catch (Exception e) {
-            log.warn("Failed to build detailed design from template '{}': {}", templateId, e.getMessage());
-            throw new TemplateProcessingException("Failed to build detailed design from template '"
-                    + templateId + "': " + e.getMessage(), e);
-        } finally {
-            readWriteLock.readLock().unlock();
+            templateData = templateDataBuilder.build(chain, elements);
+
+            // template + data -> markdown
+            readWriteLock.readLock().lock();
+            try {
+                freemakerConfiguration.getTemplate(templateId).process(templateData, writer);
+            } catch (Exception e) {
+                log.warn("Failed to build detailed design from template '{}': {}", templateId, e.getMessage());
+                throw new TemplateProcessingException("Failed to build detailed design from template '"
+                        + templateId + "': " + e.getMessage(), e);
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            specsFuture.cancel(false);
+            throw e;
         }
 
-        // additional data
         Map<String, DDSSpecificationSource> specs;
         try {
-            specs = collectImplementedSpecs(elements);
-        } catch (Exception e) {
-            log.error("Failed to collect implemented triggers specifications for chain: {}", chainId, e);
-            throw new DetailedDesignInternalException("Failed to collect implemented triggers specifications for chain: " + e.getMessage(), e);
+            specs = specsFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            log.error("Failed to collect implemented triggers specifications for chain: {}", chain.getId(), cause);
+            throw new DetailedDesignInternalException("Failed to collect implemented triggers specifications for chain: " + cause.getMessage(), cause);
         }
 
         try {
@@ -188,11 +208,27 @@ public DDSResponse buildChainDetailedDesign(String chainId, String templateId) t
                     .triggerSpecifications(specs.values().stream().toList())
                     .build();
         } catch (Exception e) {
-            log.error("Failed to perform document formatting for chain: {}", chainId, e);
+            log.error("Failed to perform document formatting for chain: {}", chain.getId(), e);
             throw new DetailedDesignInternalException("Failed to perform document formatting: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Chain attributes shown in detailed designs are compared as is, since they may be changed
+     * without the chain modification timestamp update. Element changes evict cached designs.
+     */
+    private Object buildRevision(Chain chain) {
+        return Arrays.asList(
+                templatesVersion.get(),
+                chain.getModifiedWhen(),
+                chain.getName(),
+                chain.getDescription(),
+                chain.getBusinessDescription(),
+                chain.getAssumptions(),
+                chain.getOutOfScope(),
+                chain.getMaskedFields().stream().map(MaskedField::getName).toList());
+    }
+
     @Transactional
     public List<DetailedDesignTemplate> findCustomTemplates() {
         return designTemplateRepository.findAll();
@@ -229,12 +265,7 @@ public DetailedDesignTemplate createOrUpdateTemplate(String name, String content
                         .name(name)
                         .content(content)
                         .build());
-        readWriteLock.writeLock().lock();
-        try {
-            freemakerTemplateLoader.putTemplate(template.getId(), template.getContent());
-        } finally {
-            readWriteLock.writeLock().unlock();
-        }
+        putTemplate(template.getId(), template.getContent());
 
         logChainAction(id, LogOperation.CREATE_OR_UPDATE);
 
@@ -245,6 +276,9 @@ public DetailedDesignTemplate createOrUpdateTemplate(String name, String content
     public void deleteTemplates(List<String> templateIds) {
         designTemplateRepository.deleteAllById(templateIds);
         for (String templateId : templateIds) {
+            if (!builtinTemplates.containsKey(templateId)) {
+                removeTemplate(templateId);
+            }
             logChainAction(templateId, LogOperation.DELETE);
         }
     }
@@ -264,37 +298,58 @@ public DetailedDesignTemplate getTemplate(String templateId) {
         }
     }
 
-    private Map<String, DDSSpecificationSource> collectImplementedSpecs(List<ChainElement> elements) {
-        Map<String, DDSSpecificationSource> specs = new HashMap<>();
-
+    /**
+     * Operation and specification ids are read from elements in the current thread,
+     * specifications are loaded by the detailed design executor in its own transaction,
+     * so lazy associations are never read from the persistence context of the calling thread.
+     */
+    private CompletableFuture<Map<String, DDSSpecificationSource>> collectImplementedSpecs(List<ChainElement> elements) {
+        // <operation id, specification id>
+        List<Pair<String, String>> operations = new ArrayList<>();
         for (ChainElement element : elements) {
             if (CamelNames.HTTP_TRIGGER_COMPONENT.equals(element.getType())
                     && IntegrationSystemType.IMPLEMENTED.toString().equals(element.getPropertyAsString(CamelOptions.SYSTEM_TYPE))) {
                 String operationId = element.getPropertyAsString(CamelOptions.OPERATION_ID);
                 if (StringUtils.isNotEmpty(operationId)) {
-                    Operation operation = operationService.getOperation(operationId);
-                    SystemModel spec = operation.getSystemModel();
-                    SpecificationSource src = systemModelService.getMainSystemModelSpecSource(spec.getId());
-
-                    if (src != null && StringUtils.isNotEmpty(src.getSource())) {
-                        String specificationId = element.getPropertyAsString(CamelOptions.SPECIFICATION_ID);
-                        String specificationFileContent = src.getSource();
-                        String specificationFileExt = FilenameUtils.getExtension(src.getName());
-                        if (!specs.containsKey(specificationId)) {
-                            specs.put(specificationId, DDSSpecificationSource
-                                    .builder()
-                                    .serviceName(spec.getSpecificationGroup().getSystem().getName())
-                                    .specificationName(spec.getName())
-                                    .specificationId(specificationId)
-                                    .fileExtension(specificationFileExt)
-                                    .specificationContent(specificationFileContent)
-                                    .build());
-                        }
-                    }
+                    operations.add(Pair.of(operationId, element.getPropertyAsString(CamelOptions.SPECIFICATION_ID)));
                 }
             }
         }
 
+        if (operations.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, DDSSpecificationSource> specs = new LinkedHashMap<>();
+            transactionHandler.runInTransaction(() -> specs.putAll(loadImplementedSpecs(operations)));
+            return specs;
+        }, ddsExecutor);
+    }
+
+    private Map<String, DDSSpecificationSource> loadImplementedSpecs(List<Pair<String, String>> operations) {
+        Map<String, DDSSpecificationSource> specs = new LinkedHashMap<>();
+
+        for (Pair<String, String> pair : operations) {
+            String specificationId = pair.getRight();
+            if (specs.containsKey(specificationId)) {
+                continue;
+            }
+            Operation operation = operationService.getOperation(pair.getLeft());
+            SystemModel spec = operation.getSystemModel();
+            SpecificationSource src = systemModelService.getMainSystemModelSpecSource(spec.getId());
+
+            if (src != null && StringUtils.isNotEmpty(src.getSource())) {
+                specs.put(specificationId, DDSSpecificationSource
+                        .builder()
+                        .serviceName(spec.getSpecificationGroup().getSystem().getName())
+                        .specificationName(spec.getName())
+                        .specificationId(specificationId)
+                        .fileExtension(FilenameUtils.getExtension(src.getName()))
+                        .specificationContent(src.getSource())
+                        .build());
+            }
+        }
+
         return specs;
     }
 
@@ -322,13 +377,7 @@ private void loadBuiltinTemplate(String dirPath, Resource descriptorFile) {
                 String id = buildTemplateId(name);
                 String content = IOUtils.toString(descriptorFile.getInputStream(), StandardCharsets.UTF_8);
                 builtinTemplates.put(id, Pair.of(name, content));
-
-                readWriteLock.writeLock().lock();
-                try {
-                    freemakerTemplateLoader.putTemplate(id, content);
-                } finally {
-                    readWriteLock.writeLock().unlock();
-                }
+                putTemplate(id, content);
             } else {
                 log.warn("Descriptor file is missing for {}, skipping", elementName);
             }
@@ -338,6 +387,37 @@ private void loadBuiltinTemplate(String dirPath, Resource descriptorFile) {
         }
     }
 
+    /**
+     * Puts the template source to the loader and compiles it in advance,
+     * so that detailed design requests take the compiled template from the configuration cache.
+     */
+    private void putTemplate(String id, String content) {
+        readWriteLock.writeLock().lock();
+        try {
+            freemakerTemplateLoader.putTemplate(id, content);
+            freemakerConfiguration.removeTemplateFromCache(id);
+            templatesVersion.incrementAndGet();
+            freemakerConfiguration.getTemplate(id);
+        } catch (Exception e) {
+            log.warn("Failed to compile detailed design template '{}': {}", id, e.getMessage());
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    private void removeTemplate(String id) {
+        readWriteLock.writeLock().lock();
+        try {
+            freemakerTemplateLoader.removeTemplate(id);
+            freemakerConfiguration.removeTemplateFromCache(id);
+            templatesVersion.incrementAndGet();
+        } catch (IOException e) {
+            log.warn("Failed to remove detailed design template '{}' from cache: {}", id, e.getMessage());
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
     private void logChainAction(String templateId, LogOperation operation) {
         actionLogger.logAction(ActionLog.builder()
                 .id(templateId)
@@ -31,13 +31,15 @@
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.function.Function;
 
 @Slf4j
 @Component
 public class TemplateDataBuilder {
 
-    public static final Function<ChainElement, Boolean> DEFAULT_ELEMENT_FILTER = (element) -> true;
+    private static final String HTTP_TRIGGER_TYPE = "http-trigger";
+    private static final String SERVICE_CALL_TYPE = "service-call";
+    private static final String MAPPER_TYPE = "mapper-2";
+
     private final Map<String, ElementDDSConverter> elementConverters = new HashMap<>();
 
     private final DesignGeneratorService designGeneratorService;
@@ -51,20 +53,42 @@ public TemplateDataBuilder(List<ElementDDSConverter> elementConvertersList, Desi
     public TemplateData build(Chain chain, List<ChainElement> chainElements) throws TemplateDataEscapingException, TemplateDataBuilderException {
         TemplateData data;
         try {
-            List<TemplateChainElement> httpTriggersImplemented = convertByTypes(chainElements, Map.of("http-trigger",
-                    (element) -> IntegrationSystemType.IMPLEMENTED.toString().equals(element.getProperties().get("systemType"))));
-            List<TemplateChainElement> httpTriggers = convertByTypes(chainElements, Map.of("http-trigger", DEFAULT_ELEMENT_FILTER));
-
-            List<TemplateChainElement> httpServiceCalls = convertByTypes(chainElements, Map.of("service-call",
-                    (element) -> "http".equals(element.getProperty("integrationOperationProtocolType"))
-                            && element.getProperty("integrationSystemId") != null
-                            && element.getProperty("integrationSpecificationId") != null
-                            && element.getProperty("integrationOperationId") != null));
-
-            List<TemplateChainElement> serviceCalls = convertByTypes(chainElements, Map.of("service-call", DEFAULT_ELEMENT_FILTER));
-            List<TemplateChainElement> errorHandling = convertByTypes(chainElements, Map.of(
-                    "service-call", (element) -> element.getProperty("after") instanceof Collection<?> collection && !collection.isEmpty()));
-            List<TemplateChainElement> mappers = convertByTypes(chainElements, Map.of("mapper-2", DEFAULT_ELEMENT_FILTER));
+            List<TemplateChainElement> httpTriggersImplemented = new ArrayList<>();
+            List<TemplateChainElement> httpTriggers = new ArrayList<>();
+            List<TemplateChainElement> httpServiceCalls = new ArrayList<>();
+            List<TemplateChainElement> serviceCalls = new ArrayList<>();
+            List<TemplateChainElement> errorHandling = new ArrayList<>();
+            List<TemplateChainElement> mappers = new ArrayList<>();
+
+            // each element is converted once and the result is shared by all lists it belongs to
+            for (ChainElement element : chainElements) {
+                String elementType = element.getType();
+                if (HTTP_TRIGGER_TYPE.equals(elementType)) {
+                    TemplateChainElement templateElement = convert(element);
+                    if (templateElement != null) {
+                        httpTriggers.add(templateElement);
+                        if (IntegrationSystemType.IMPLEMENTED.toString().equals(element.getProperties().get("systemType"))) {
+                            httpTriggersImplemented.add(templateElement);
+                        }
+                    }
+                } else if (SERVICE_CALL_TYPE.equals(elementType)) {
+                    TemplateChainElement templateElement = convert(element);
+                    if (templateElement != null) {
+                        serviceCalls.add(templateElement);
+                        if (isHttpServiceCall(element)) {
+                            httpServiceCalls.add(templateElement);
+                        }
+                        if (element.getProperty("after") instanceof Collection<?> collection && !collection.isEmpty()) {
+                            errorHandling.add(templateElement);
+                        }
+                    }
+                } else if (MAPPER_TYPE.equals(elementType)) {
+                    TemplateChainElement templateElement = convert(element);
+                    if (templateElement != null) {
+                        mappers.add(templateElement);
+                    }
+                }
+            }
 
             data = TemplateData.builder()
                     .chain(
@@ -112,7 +136,7 @@ public TemplateData build(Chain chain, List<ChainElement> chainElements) throws
     private TemplateSequenceDiagram buildSimpleSeqDiagram(Chain chain) {
         Map<DiagramLangType, String> diagrams =
                 designGeneratorService
-                        .generateChainSequenceDiagram(chain.getId(), List.of(DiagramMode.SIMPLE))
+                        .generateChainSequenceDiagram(chain, List.of(DiagramMode.SIMPLE))
                         .get(DiagramMode.SIMPLE).getDiagramSources();
 
         return TemplateSequenceDiagram.builder()
@@ -121,27 +145,20 @@ private TemplateSequenceDiagram buildSimpleSeqDiagram(Chain chain) {
                 .build();
     }
 
-    private List<TemplateChainElement> convertByTypes(List<ChainElement> elements, Map<String, Function<ChainElement, Boolean>> typesFilter) throws TemplateDataBuilderException {
-        List<TemplateChainElement> result = new ArrayList<>();
-
-        for (ChainElement element : elements) {
-            String elementType = element.getType();
-            if (typesFilter.containsKey(elementType)) {
-                Function<ChainElement, Boolean> filterFunc = typesFilter.get(elementType);
-                if (filterFunc.apply(element)) {
-                    ElementDDSConverter converter = elementConverters.get(elementType);
-                    if (converter != null) {
-                        TemplateChainElement templateElement = converter.convert(element);
-                        if (templateElement != null) {
-                            result.add(templateElement);
-                        }
-                    } else {
-                        log.error("Converter for type: '{}' not implemented", elementType);
-                        throw new TemplateDataBuilderException("Converter for type: '" + elementType + "' not implemented");
-                    }
-                }
-            }
+    private static boolean isHttpServiceCall(ChainElement element) {
+        return "http".equals(element.getProperty("integrationOperationProtocolType"))
+                && element.getProperty("integrationSystemId") != null
+                && element.getProperty("integrationSpecificationId") != null
+                && element.getProperty("integrationOperationId") != null;
+    }
+
+    private TemplateChainElement convert(ChainElement element) throws TemplateDataBuilderException {
+        String elementType = element.getType();
+        ElementDDSConverter converter = elementConverters.get(elementType);
+        if (converter == null) {
+            log.error("Converter for type: '{}' not implemented", elementType);
+            throw new TemplateDataBuilderException("Converter for type: '" + elementType + "' not implemented");
         }
-        return result;
+        return converter.convert(element);
     }
 }
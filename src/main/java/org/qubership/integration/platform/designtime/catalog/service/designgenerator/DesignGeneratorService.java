@@ -18,8 +18,8 @@
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.integration.platform.catalog.model.designgenerator.DiagramLangType;
 import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramOperationType;
 import org.qubership.integration.platform.catalog.model.designgenerator.ElementsSequenceDiagram;
 import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
 import org.qubership.integration.platform.catalog.model.library.ElementType;
@@ -28,6 +28,7 @@
 import org.qubership.integration.platform.catalog.model.library.chaindesign.ElementDesignParameters;
 import org.qubership.integration.platform.catalog.model.library.chaindesign.ElementDiagramOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
@@ -35,9 +36,12 @@
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
 import org.qubership.integration.platform.designtime.catalog.service.ChainService;
 import org.qubership.integration.platform.designtime.catalog.service.DependencyService;
+import org.qubership.integration.platform.designtime.catalog.service.ElementDescriptorIndex;
 import org.qubership.integration.platform.designtime.catalog.service.ElementService;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.ContainerDesignProcessor;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
+import org.qubership.integration.platform.designtime.catalog.utils.ElementIdSet;
+import org.qubership.integration.platform.designtime.catalog.utils.GraphWalker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -64,18 +68,24 @@ public class DesignGeneratorService {
     private final ElementService elementService;
     private final DependencyService dependencyService;
     private final LibraryElementsService libraryService;
+    private final ElementDescriptorIndex descriptorIndex;
     private final ChainService chainService;
+    private final SequenceDiagramCache diagramCache;
 
     @Autowired
     public DesignGeneratorService(ElementService elementService,
                                   DependencyService dependencyService,
                                   LibraryElementsService libraryService,
+                                  ElementDescriptorIndex descriptorIndex,
                                   ChainService chainService,
+                                  SequenceDiagramCache diagramCache,
                                   List<DesignProcessor> processors) {
         this.elementService = elementService;
         this.dependencyService = dependencyService;
         this.libraryService = libraryService;
+        this.descriptorIndex = descriptorIndex;
         this.chainService = chainService;
+        this.diagramCache = diagramCache;
         for (DesignProcessor processor : processors) {
             for (String supportedElementType : processor.supportedElementTypes()) {
                 designProcessors.put(supportedElementType, processor);
@@ -84,59 +94,61 @@ public DesignGeneratorService(ElementService elementService,
     }
 
     public Map<DiagramMode, ElementsSequenceDiagram> generateChainSequenceDiagram(String chainId, List<DiagramMode> modes) {
-        List<ChainElement> elements = elementService.findAllByChainId(chainId);
-        List<Dependency> dependencies = dependencyService.findAllByElementsIDs(
-                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
+        return generateChainSequenceDiagram(chainService.findById(chainId), modes);
+    }
 
-        return generateSequenceDiagrams(chainId, null, elements, dependencies, modes);
+    public Map<DiagramMode, ElementsSequenceDiagram> generateChainSequenceDiagram(Chain chain, List<DiagramMode> modes) {
+        Map<DiagramMode, ElementsSequenceDiagram> diagrams = diagramCache.getChainDiagrams(
+                chain.getId(),
+                chain.getModifiedWhen(),
+                () -> generateSequenceDiagrams(chain.getId(), null, chain.getName(), chain.getElements()));
+        return selectModes(diagrams, modes);
     }
 
     public Map<DiagramMode, ElementsSequenceDiagram> generateSnapshotSequenceDiagram(String chainId, String snapshotId, List<DiagramMode> modes) {
-        List<ChainElement> elements = elementService.findAllBySnapshotId(snapshotId);
-        List<Dependency> dependencies = dependencyService.findAllByElementsIDs(
-                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
-
-        return generateSequenceDiagrams(chainId, snapshotId, elements, dependencies, modes);
+        String chainName = chainService.findById(chainId).getName();
+        Map<DiagramMode, ElementsSequenceDiagram> diagrams = diagramCache.getSnapshotDiagrams(
+                snapshotId,
+                chainName,
+                () -> generateSequenceDiagrams(chainId, snapshotId, chainName, elementService.findAllBySnapshotId(snapshotId)));
+        return selectModes(diagrams, modes);
     }
 
-    private Map<DiagramMode, ElementsSequenceDiagram> generateSequenceDiagrams(String chainId, String snapshotId, List<ChainElement> elements,
-                                                                               List<Dependency> dependencies, List<DiagramMode> modes) {
+    private static Map<DiagramMode, ElementsSequenceDiagram> selectModes(Map<DiagramMode, ElementsSequenceDiagram> diagrams,
+                                                                         List<DiagramMode> modes) {
         Map<DiagramMode, ElementsSequenceDiagram> result = new HashMap<>();
         for (DiagramMode mode : modes) {
-            result.put(
-                    mode,
-                    ElementsSequenceDiagram.builder()
-                            .chainId(chainId)
-                            .snapshotId(snapshotId)
-                            .diagramSources(generateSequenceDiagram(chainId, elements, dependencies, mode))
-                            .build()
-            );
+            result.put(mode, diagrams.get(mode));
         }
         return result;
     }
 
-    private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, List<ChainElement> elements,
-                                                                 List<Dependency> dependencies, DiagramMode mode) {
+    /**
+     * Generates diagrams of all modes in a single traversal of the chain elements.
+     */
+    private Map<DiagramMode, ElementsSequenceDiagram> generateSequenceDiagrams(String chainId, String snapshotId, String chainName,
+                                                                               List<ChainElement> elements) {
+        List<Dependency> dependencies = dependencyService.findAllByElementsIDs(
+                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
 
         // <fromElementId, elementTo>
         Map<String, List<ChainElement>> fromElementMap = dependencies.stream()
                 .collect(Collectors.groupingBy(e -> e.getElementFrom().getId(), Collectors.mapping(Dependency::getElementTo, Collectors.toList())));
         collectReuseDependencies(elements, fromElementMap);
 
-        SequenceDiagramBuilder builder = new SequenceDiagramBuilder();
-        Set<String> addedElementsIds = new HashSet<>();
+        MultiModeSequenceDiagramBuilder builder = new MultiModeSequenceDiagramBuilder(EnumSet.allOf(DiagramMode.class));
+        ElementIdSet addedElementsIds = new ElementIdSet(elements.stream().map(AbstractEntity::getId).toList());
+        GraphWalker walker = new GraphWalker();
 
         builder.append(DOCUMENT_START).append(AUTONUMBER);
         builder.append(BLOCK_DELIMITER);
 
         List<ChainElement> triggers = elements.stream()
-                .filter(chainElement ->
-                        libraryService.getElementDescriptor(chainElement) != null
-                                && libraryService.getElementDescriptor(chainElement).getType() == ElementType.TRIGGER)
+                .filter(descriptorIndex::isTrigger)
                 .sorted(Comparator.comparing(AbstractEntity::getName))
                 .collect(Collectors.toList());
 
-        addParticipants(chainId, builder, triggers, fromElementMap, addedElementsIds, mode);
+        addParticipants(chainId, chainName, builder, triggers, fromElementMap, addedElementsIds, walker);
 
         for (ChainElement trigger : triggers) {
             String refChainId = DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId);
@@ -147,7 +159,7 @@ private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, Lis
             builder.append(START_COLORED_GROUP, GROUP_BG_RGB[0], GROUP_BG_RGB[1], GROUP_BG_RGB[2], refChainId, trigger.getName()); // mermaid
 
             builder.append(ACTIVATE, refChainId);
-            generateDiagramRecursive(refChainId, builder, trigger, fromElementMap, addedElementsIds, mode);
+            walker.run(() -> generateDiagramElement(refChainId, builder, trigger, fromElementMap, addedElementsIds, walker));
             builder.append(DEACTIVATE, refChainId);
             builder.append(END);
 
@@ -157,65 +169,82 @@ private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, Lis
         builder.append(BLOCK_DELIMITER);
         builder.append(DOCUMENT_END);
 
-        return builder.build();
+        Map<DiagramMode, ElementsSequenceDiagram> result = new EnumMap<>(DiagramMode.class);
+        builder.buildAll().forEach((mode, sources) -> result.put(
+                mode,
+                ElementsSequenceDiagram.builder()
+                        .chainId(chainId)
+                        .snapshotId(snapshotId)
+                        .diagramSources(sources)
+                        .build()
+        ));
+        return result;
     }
 
     private void addParticipants(String chainId,
-                                 SequenceDiagramBuilder builder,
+                                 String chainName,
+                                 MultiModeSequenceDiagramBuilder builder,
                                  List<ChainElement> triggers,
                                  Map<String, List<ChainElement>> fromElementMap,
-                                 Set<String> addedElementsIds,
-                                 DiagramMode mode) {
-        Map<String, String> participants = new LinkedHashMap<>();
-
-        participants.put(DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId),
-                "QIP chain: " + chainService.findById(chainId).getName());
+                                 ElementIdSet addedElementsIds,
+                                 GraphWalker walker) {
+        // <mode, <participant id, participant name>>
+        Map<DiagramMode, Map<String, String>> participants = new EnumMap<>(DiagramMode.class);
+        for (DiagramMode mode : builder.getModes()) {
+            Map<String, String> modeParticipants = new LinkedHashMap<>();
+            modeParticipants.put(DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId), "QIP chain: " + chainName);
+            participants.put(mode, modeParticipants);
+        }
 
         for (ChainElement trigger : triggers) {
             addedElementsIds.add(trigger.getId());
-            addParticipant(chainId, participants, trigger);
+            addParticipant(chainId, participants, builder.getModes(), trigger);
         }
 
-        for (ChainElement trigger : triggers) {
-            for (ChainElement nextElement : getNextElements(trigger, fromElementMap)) {
-                addParticipantsRecursive(chainId, participants, nextElement, fromElementMap, addedElementsIds, mode);
+        walker.run(() -> {
+            for (ChainElement trigger : triggers) {
+                for (ChainElement nextElement : getNextElements(trigger, fromElementMap)) {
+                    walker.schedule(() -> addElementParticipants(chainId, participants, nextElement, fromElementMap, addedElementsIds, walker));
+                }
             }
-        }
-
-        for (Map.Entry<String, String> entry : participants.entrySet()) {
-            builder.append(PARTICIPANT_AS, entry.getKey(), entry.getValue());
+        });
+
+        for (Map.Entry<DiagramMode, Map<String, String>> modeParticipants : participants.entrySet()) {
+            Set<DiagramMode> otherModes = EnumSet.copyOf(builder.getModes());
+            otherModes.remove(modeParticipants.getKey());
+            Set<DiagramMode> excludedModes = builder.exclude(otherModes);
+            for (Map.Entry<String, String> entry : modeParticipants.getValue().entrySet()) {
+                builder.append(PARTICIPANT_AS, entry.getKey(), entry.getValue());
+            }
+            builder.include(excludedModes);
         }
     }
 
-    private void addParticipantsRecursive(String chainId,
-                                          Map<String, String> participants,
-                                          ChainElement currentElement,
-                                          Map<String, List<ChainElement>> fromElementMap,
-                                          Set<String> addedElementsIds,
-                                          DiagramMode mode) {
+    private void addElementParticipants(String chainId,
+                                        Map<DiagramMode, Map<String, String>> participants,
+                                        ChainElement currentElement,
+                                        Map<String, List<ChainElement>> fromElementMap,
+                                        ElementIdSet addedElementsIds,
+                                        GraphWalker walker) {
         if (currentElement == null) {
             return;
         }
 
-        if (!addedElementsIds.contains(currentElement.getId())) {
-            addedElementsIds.add(currentElement.getId());
-
-            if (shouldWriteElement(currentElement, mode)) {
-                addParticipant(chainId, participants, currentElement);
-            }
+        if (addedElementsIds.add(currentElement.getId())) {
+            Set<DiagramMode> visibleModes = EnumSet.copyOf(participants.keySet());
+            visibleModes.removeAll(getHiddenModes(currentElement, participants.keySet()));
+            addParticipant(chainId, participants, visibleModes, currentElement);
 
             if (currentElement instanceof ContainerChainElement) {
                 for (ChainElement innerElement : ((ContainerChainElement) currentElement).getElements()) {
                     if (innerElement.getInputDependencies().isEmpty()) {
-                        addParticipantsRecursive(chainId, participants, innerElement, fromElementMap, addedElementsIds, mode);
+                        walker.schedule(() -> addElementParticipants(chainId, participants, innerElement, fromElementMap, addedElementsIds, walker));
                     }
                 }
             }
 
             for (ChainElement nextElement : getNextElements(currentElement, fromElementMap)) {
-                if (!addedElementsIds.contains(nextElement.getId())) {
-                    addParticipantsRecursive(chainId, participants, nextElement, fromElementMap, addedElementsIds, mode);
-                }
+                walker.schedule(() -> addElementParticipants(chainId, participants, nextElement, fromElementMap, addedElementsIds, walker));
             }
         }
     }
@@ -224,7 +253,14 @@ private List<ChainElement> getNextElements(ChainElement currentElement, Map<Stri
         return fromElementMap.getOrDefault(currentElement.getId(), Collections.emptyList());
     }
 
-    private void addParticipant(String chainId, Map<String, String> participants, ChainElement element) {
+    private void addParticipant(String chainId,
+                                Map<DiagramMode, Map<String, String>> participants,
+                                Set<DiagramMode> modes,
+                                ChainElement element) {
+        if (modes.isEmpty()) {
+            return;
+        }
+
         ElementDesignParameters designParameters = libraryService.getElementDescriptor(element).getDesignParameters();
         DesignProcessor designProcessor = designProcessors.get(element.getType());
         String participantName, participantId;
@@ -241,16 +277,22 @@ private void addParticipant(String chainId, Map<String, String> participants, Ch
         }
 
         if (participantName != null) {
-            participants.put(participantId, participantName);
+            for (DiagramMode mode : modes) {
+                participants.get(mode).put(participantId, participantName);
+            }
         }
     }
 
-    private void generateDiagramRecursive(String refChainId,
-                                          SequenceDiagramBuilder builder,
-                                          ChainElement currentElement,
-                                          Map<String, List<ChainElement>> fromElementMap,
-                                          Set<String> elementsToProcessIds,
-                                          DiagramMode mode) {
+    /**
+     * Writes the element and schedules the elements that follow it on the walker,
+     * instead of descending into them on the call stack.
+     */
+    private void generateDiagramElement(String refChainId,
+                                        MultiModeSequenceDiagramBuilder builder,
+                                        ChainElement currentElement,
+                                        Map<String, List<ChainElement>> fromElementMap,
+                                        ElementIdSet elementsToProcessIds,
+                                        GraphWalker walker) {
         if (currentElement == null) {
             return;
         }
@@ -259,28 +301,25 @@ private void generateDiagramRecursive(String refChainId,
         ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(currentElement);
         DesignProcessor designProcessor = designProcessors.get(currentElement.getType());
 
-        if (elementsToProcessIds.contains(currentElement.getId())) {
-            elementsToProcessIds.remove(currentElement.getId());
-
+        if (elementsToProcessIds.remove(currentElement.getId())) {
             if (elementDescriptor.isContainer()) {
                 processContainerElement(refChainId, builder, (ContainerChainElement) currentElement, fromElementMap,
-                        elementsToProcessIds, mode, elementDescriptor, designProcessor, elementsTo);
+                        elementsToProcessIds, walker, elementDescriptor, designProcessor, elementsTo);
             } else {
-                processElement(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds,
-                        mode, elementDescriptor, elementsTo, designProcessor);
+                processElement(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, walker,
+                        elementDescriptor, elementsTo, designProcessor);
             }
         }
     }
 
-    private void processContainerElement(String refChainId, SequenceDiagramBuilder builder, ContainerChainElement currentElement,
-                                         Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
-                                         DiagramMode mode, ElementDescriptor elementDescriptor,
-                                         DesignProcessor designProcessor, List<ChainElement> elementsTo
+    private void processContainerElement(String refChainId, MultiModeSequenceDiagramBuilder builder, ContainerChainElement currentElement,
+                                         Map<String, List<ChainElement>> fromElementMap, ElementIdSet elementsToProcessIds, GraphWalker walker,
+                                         ElementDescriptor elementDescriptor, DesignProcessor designProcessor, List<ChainElement> elementsTo
     ) {
         if (ElementType.REUSE == elementDescriptor.getType()) {
             currentElement.getElements().stream()
                     .filter(child -> child.getInputDependencies().isEmpty())
-                    .forEach(child -> generateDiagramRecursive(refChainId, builder, child, fromElementMap, elementsToProcessIds, mode));
+                    .forEach(child -> scheduleElement(refChainId, builder, child, fromElementMap, elementsToProcessIds, walker));
             return;
         }
 
@@ -288,17 +327,18 @@ private void processContainerElement(String refChainId, SequenceDiagramBuilder b
 
         if (designParameters == null) {
             if (designProcessor instanceof ContainerDesignProcessor containerProcessor) {
-                processContainerWithDesignProcessor(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, mode, elementsTo, containerProcessor);
+                processContainerWithDesignProcessor(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, walker,
+                        elementsTo, containerProcessor);
             }
         } else {
-            processContainerWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, mode, elementsTo, designParameters);
+            processContainerWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, walker,
+                    elementsTo, designParameters);
         }
     }
 
-    private void processContainerWithDesignProcessor(String refChainId, SequenceDiagramBuilder builder, ContainerChainElement currentElement,
-                                                     Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
-                                                     DiagramMode mode, List<ChainElement> elementsTo,
-                                                     ContainerDesignProcessor containerProcessor) {
+    private void processContainerWithDesignProcessor(String refChainId, MultiModeSequenceDiagramBuilder builder, ContainerChainElement currentElement,
+                                                     Map<String, List<ChainElement>> fromElementMap, ElementIdSet elementsToProcessIds, GraphWalker walker,
+                                                     List<ChainElement> elementsTo, ContainerDesignProcessor containerProcessor) {
         List<ChainElement> sortedChildren = currentElement.getElements().stream()
                 .filter(containerProcessor.getChildrenFilter())
                 .sorted(containerProcessor.getComparator())
@@ -307,32 +347,27 @@ private void processContainerWithDesignProcessor(String refChainId, SequenceDiag
         containerProcessor.processBefore(refChainId, builder, currentElement);
 
         for (ChainElement child : sortedChildren) {
+            walker.schedule(() -> containerProcessor.processChildBefore(refChainId, builder, currentElement, child));
             if (!containerProcessor.isContainerWithRestrictions()) {
-                containerProcessor.processChildBefore(refChainId, builder, currentElement, child);
-                generateDiagramRecursive(refChainId, builder, child, fromElementMap, elementsToProcessIds, mode);
-                containerProcessor.processChildAfter(refChainId, builder, currentElement, child);
-                continue;
-            }
-
-            containerProcessor.processChildBefore(refChainId, builder, currentElement, child);
-            if (child instanceof ContainerChainElement childContainer) {
+                scheduleElement(refChainId, builder, child, fromElementMap, elementsToProcessIds, walker);
+            } else if (child instanceof ContainerChainElement childContainer) {
                 childContainer.getElements().stream()
                         .filter(element -> element.getInputDependencies().isEmpty())
-                        .forEach(element -> generateDiagramRecursive(refChainId, builder, element, fromElementMap, elementsToProcessIds, mode));
+                        .forEach(element -> scheduleElement(refChainId, builder, element, fromElementMap, elementsToProcessIds, walker));
             } else {
                 List<ChainElement> childElementsTo = fromElementMap.getOrDefault(child.getId(), Collections.emptyList());
-                toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, mode);
+                toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, walker);
             }
-            containerProcessor.processChildAfter(refChainId, builder, currentElement, child);
+            walker.schedule(() -> containerProcessor.processChildAfter(refChainId, builder, currentElement, child));
         }
 
-        containerProcessor.processAfter(refChainId, builder, currentElement);
-        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+        walker.schedule(() -> containerProcessor.processAfter(refChainId, builder, currentElement));
+        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
     }
 
-    private void processContainerWithDesignParams(String refChainId, SequenceDiagramBuilder builder,
+    private void processContainerWithDesignParams(String refChainId, MultiModeSequenceDiagramBuilder builder,
                                                   ContainerChainElement currentElement, Map<String, List<ChainElement>> fromElementMap,
-                                                  Set<String> elementsToProcessIds, DiagramMode mode,
+                                                  ElementIdSet elementsToProcessIds, GraphWalker walker,
                                                   List<ChainElement> elementsTo, ElementContainerDesignParameters designParameters) {
         List<ElementDiagramOperation> endOperations = designParameters.getEndOperations();
         List<ContainerChildrenParameters> childrenParameters = designParameters.getChildren();
@@ -356,12 +391,12 @@ private void processContainerWithDesignParams(String refChainId, SequenceDiagram
                             .toList();
                     nextElementsFunction = () -> startElements
                             .forEach(startElement ->
-                                    generateDiagramRecursive(refChainId, builder, startElement, fromElementMap, elementsToProcessIds, mode));
+                                    scheduleElement(refChainId, builder, startElement, fromElementMap, elementsToProcessIds, walker));
                 } else {
                     List<ChainElement> childElementsTo = fromElementMap.getOrDefault(child.getId(), Collections.emptyList());
                     childHasElements = !childElementsTo.isEmpty();
                     nextElementsFunction = () ->
-                            toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, mode);
+                            toNextElements(refChainId, builder, fromElementMap, childElementsTo, elementsToProcessIds, walker);
                 }
 
                 if (childHasElements) {
@@ -381,11 +416,13 @@ private void processContainerWithDesignParams(String refChainId, SequenceDiagram
                         operation = childrenParams.getSecondaryOperation();
                     }
 
+                    // operation is shared between elements, so its type is captured before the append is scheduled
+                    DiagramOperationType operationType = operation.getType();
                     List<String> argsList = new ArrayList<>();
                     for (String arg : operation.getArgs()) {
                         argsList.add(DiagramBuilderEscapeUtil.substituteProperties(refChainId, child, arg));
                     }
-                    builder.append(operation.getType(), argsList.toArray(new String[0]));
+                    walker.schedule(() -> builder.append(operationType, argsList.toArray(new String[0])));
 
                     nextElementsFunction.run();
                 }
@@ -393,57 +430,53 @@ private void processContainerWithDesignParams(String refChainId, SequenceDiagram
         }
 
         if (atLeastOneChildHasDependency) {
-            for (ElementDiagramOperation endOperation : endOperations) {
-                builder.append(endOperation.getType(),
-                        DiagramBuilderEscapeUtil.substituteReferences(refChainId, currentElement, endOperation.getArgs()));
-            }
+            walker.schedule(() -> {
+                for (ElementDiagramOperation endOperation : endOperations) {
+                    builder.append(endOperation.getType(),
+                            DiagramBuilderEscapeUtil.substituteReferences(refChainId, currentElement, endOperation.getArgs()));
+                }
+            });
         }
 
-        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+        toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
     }
 
-    private void processElement(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
-                                DiagramMode mode, ElementDescriptor elementDescriptor,
-                                List<ChainElement> elementsTo, DesignProcessor designProcessor
+    private void processElement(String refChainId, MultiModeSequenceDiagramBuilder builder, ChainElement currentElement,
+                                Map<String, List<ChainElement>> fromElementMap, ElementIdSet elementsToProcessIds, GraphWalker walker,
+                                ElementDescriptor elementDescriptor, List<ChainElement> elementsTo, DesignProcessor designProcessor
     ) {
         if (ElementType.REUSE_REFERENCE == elementDescriptor.getType()) {
-            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
             return;
         }
 
-        boolean shouldWriteElement = shouldWriteElement(currentElement, mode);
+        Set<DiagramMode> hiddenModes = getHiddenModes(currentElement, builder.getModes());
 
         ElementDesignParameters designParameters = elementDescriptor.getDesignParameters();
 
         if (designParameters == null) {
             processElementWithDesignProcessor(refChainId, builder, currentElement, fromElementMap,
-                    elementsToProcessIds, mode, elementsTo, designProcessor, shouldWriteElement);
+                    elementsToProcessIds, walker, elementsTo, designProcessor, hiddenModes);
         } else {
-            processElementWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds,
-                    mode, elementsTo, designParameters, shouldWriteElement);
+            processElementWithDesignParams(refChainId, builder, currentElement, fromElementMap, elementsToProcessIds, walker,
+                    elementsTo, designParameters, hiddenModes);
         }
     }
 
-    private void processElementWithDesignProcessor(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                                   Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
-                                                   DiagramMode mode, List<ChainElement> elementsTo,
-                                                   DesignProcessor designProcessor, boolean shouldWriteElement) {
+    private void processElementWithDesignProcessor(String refChainId, MultiModeSequenceDiagramBuilder builder, ChainElement currentElement,
+                                                   Map<String, List<ChainElement>> fromElementMap, ElementIdSet elementsToProcessIds, GraphWalker walker,
+                                                   List<ChainElement> elementsTo, DesignProcessor designProcessor, Set<DiagramMode> hiddenModes) {
         if (designProcessor != null) {
-            if (shouldWriteElement) {
-                designProcessor.processBefore(refChainId, builder, currentElement);
-                toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
-                designProcessor.processAfter(refChainId, builder, currentElement);
-            } else {
-                toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
-            }
+            writeExcluding(builder, hiddenModes, () -> designProcessor.processBefore(refChainId, builder, currentElement));
+            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
+            walker.schedule(() -> writeExcluding(builder, hiddenModes,
+                    () -> designProcessor.processAfter(refChainId, builder, currentElement)));
         }
     }
 
-    private void processElementWithDesignParams(String refChainId, SequenceDiagramBuilder builder, ChainElement currentElement,
-                                                Map<String, List<ChainElement>> fromElementMap, Set<String> elementsToProcessIds,
-                                                DiagramMode mode, List<ChainElement> elementsTo,
-                                                ElementDesignParameters designParameters, boolean shouldWriteElement) {
+    private void processElementWithDesignParams(String refChainId, MultiModeSequenceDiagramBuilder builder, ChainElement currentElement,
+                                                Map<String, List<ChainElement>> fromElementMap, ElementIdSet elementsToProcessIds, GraphWalker walker,
+                                                List<ChainElement> elementsTo, ElementDesignParameters designParameters, Set<DiagramMode> hiddenModes) {
         String fromId, toId, title = designParameters.getRequestLineTitle(refChainId, currentElement);
         if (designParameters.isDirectionToChain()) {
             fromId = designParameters.getExternalParticipantId(refChainId, currentElement);
@@ -453,45 +486,61 @@ private void processElementWithDesignParams(String refChainId, SequenceDiagramBu
             toId = designParameters.getExternalParticipantId(refChainId, currentElement);
         }
 
-        if (shouldWriteElement) {
+        // element lines are omitted in hidden modes, next elements are written in all modes
+        writeExcluding(builder, hiddenModes, () -> {
             builder.append(LINE_WITH_ARROW_SOLID_RIGHT, fromId, toId, title);
-
             if (designParameters.isHasResponse()) {
                 builder.append(ACTIVATE, toId);
+            }
+        });
 
-                if (!designParameters.isResponseAfterRequest()) {
-                    toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
-                }
-
+        if (designParameters.isHasResponse()) {
+            Runnable response = () -> writeExcluding(builder, hiddenModes, () -> {
                 builder.append(LINE_WITH_ARROW_DOTTED_RIGHT, toId, fromId, DEFAULT_RESPONSE_TITLE);
                 if (!designParameters.isDirectionToChain()) {
                     builder.append(DEACTIVATE, toId);
                 }
-            }
-        } else {
-            if (designParameters.isHasResponse()) {
-                if (!designParameters.isResponseAfterRequest()) {
-                    toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
-                }
+            });
+
+            if (designParameters.isResponseAfterRequest()) {
+                response.run();
+            } else {
+                toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
+                walker.schedule(response);
             }
         }
 
         if (designParameters.isResponseAfterRequest()) {
-            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, mode);
+            toNextElements(refChainId, builder, fromElementMap, elementsTo, elementsToProcessIds, walker);
         }
     }
 
     private void toNextElements(String refChainId,
-                                SequenceDiagramBuilder builder,
+                                MultiModeSequenceDiagramBuilder builder,
                                 Map<String, List<ChainElement>> fromElementMap,
                                 List<ChainElement> elementsTo,
-                                Set<String> elementsToProcessIds,
-                                DiagramMode mode) {
+                                ElementIdSet elementsToProcessIds,
+                                GraphWalker walker) {
         for (ChainElement elementTo : elementsTo) {
-            generateDiagramRecursive(refChainId, builder, elementTo, fromElementMap, elementsToProcessIds, mode);
+            scheduleElement(refChainId, builder, elementTo, fromElementMap, elementsToProcessIds, walker);
         }
     }
 
+    private void scheduleElement(String refChainId,
+                                 MultiModeSequenceDiagramBuilder builder,
+                                 ChainElement element,
+                                 Map<String, List<ChainElement>> fromElementMap,
+                                 ElementIdSet elementsToProcessIds,
+                                 GraphWalker walker) {
+        walker.schedule(() -> generateDiagramElement(refChainId, builder, element, fromElementMap, elementsToProcessIds, walker));
+    }
+
+    private static void writeExcluding(MultiModeSequenceDiagramBuilder builder, Set<DiagramMode> hiddenModes, Runnable write) {
+        Set<DiagramMode> excludedModes = builder.exclude(hiddenModes);
+        write.run();
+        builder.include(excludedModes);
+    }
+
     private void collectReuseDependencies(List<ChainElement> elements, Map<String, List<ChainElement>> fromElementMap) {
         Map<String, ChainElement> elementMap = elements.stream()
                 .collect(Collectors.toMap(
@@ -528,6 +577,16 @@ private void collectReuseDependencies(List<ChainElement> elements, Map<String, L
         }
     }
 
+    private static Set<DiagramMode> getHiddenModes(ChainElement currentElement, Set<DiagramMode> modes) {
+        Set<DiagramMode> result = EnumSet.noneOf(DiagramMode.class);
+        for (DiagramMode mode : modes) {
+            if (!shouldWriteElement(currentElement, mode)) {
+                result.add(mode);
+            }
+        }
+        return result;
+    }
+
     private static boolean shouldWriteElement(ChainElement currentElement, DiagramMode mode) {
         return !(mode == DiagramMode.SIMPLE
                 && SIMPLE_DIAGRAM_ELEMENT_EXCLUDE_SET.contains(currentElement.getType()));
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.designgenerator;
+
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramLangType;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramOperationType;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds diagrams of several modes in a single pass over the chain.
+ * Each operation is rendered once per language and appended to diagrams of all modes,
+ * except modes excluded with {@link #exclude(Set)} while an element hidden in them is written.
+ */
+public class MultiModeSequenceDiagramBuilder implements SequenceDiagramAppender {
+
+    private final Map<DiagramMode, Map<DiagramLangType, StringBuilder>> sources = new EnumMap<>(DiagramMode.class);
+    private final Set<DiagramMode> excludedModes = EnumSet.noneOf(DiagramMode.class);
+
+    public MultiModeSequenceDiagramBuilder(Collection<DiagramMode> modes) {
+        for (DiagramMode mode : modes) {
+            Map<DiagramLangType, StringBuilder> modeSources = new EnumMap<>(DiagramLangType.class);
+            for (DiagramLangType type : DiagramLangType.values()) {
+                modeSources.put(type, new StringBuilder());
+            }
+            sources.put(mode, modeSources);
+        }
+    }
+
+    public Set<DiagramMode> getModes() {
+        return sources.keySet();
+    }
+
+    @Override
+    public MultiModeSequenceDiagramBuilder append(DiagramOperationType operationType, String... args) {
+        if (excludedModes.size() == sources.size()) {
+            return this;
+        }
+        for (DiagramLangType langType : DiagramLangType.values()) {
+            String operation = SequenceDiagramBuilder.buildOperation(langType, operationType, args);
+            for (Map.Entry<DiagramMode, Map<DiagramLangType, StringBuilder>> entry : sources.entrySet()) {
+                if (!excludedModes.contains(entry.getKey())) {
+                    entry.getValue().get(langType).append(operation);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Stops appending operations to diagrams of the given modes.
+     *
+     * @return modes that were not excluded before, to be passed to {@link #include(Set)}
+     */
+    public Set<DiagramMode> exclude(Set<DiagramMode> modes) {
+        Set<DiagramMode> newlyExcluded = EnumSet.noneOf(DiagramMode.class);
+        for (DiagramMode mode : modes) {
+            if (excludedModes.add(mode)) {
+                newlyExcluded.add(mode);
+            }
+        }
+        return newlyExcluded;
+    }
+
+    public void include(Set<DiagramMode> modes) {
+        excludedModes.removeAll(modes);
+    }
+
+    public Map<DiagramMode, Map<DiagramLangType, String>> buildAll() {
+        Map<DiagramMode, Map<DiagramLangType, String>> result = new EnumMap<>(DiagramMode.class);
+        for (Map.Entry<DiagramMode, Map<DiagramLangType, StringBuilder>> entry : sources.entrySet()) {
+            Map<DiagramLangType, String> modeSources = new EnumMap<>(DiagramLangType.class);
+            entry.getValue().forEach((type, source) -> modeSources.put(type, source.toString()));
+            result.put(entry.getKey(), modeSources);
+        }
+        return result;
+    }
+}
@@ -27,7 +27,7 @@
 
 import static org.qubership.integration.platform.catalog.model.designgenerator.DiagramConstants.*;
 
-public class SequenceDiagramBuilder {
+public class SequenceDiagramBuilder implements SequenceDiagramAppender {
 
     private final Map<DiagramLangType, StringBuilder> sources = new HashMap<>();
 
@@ -44,6 +44,7 @@ public SequenceDiagramBuilder(DiagramLangType... types) {
         }
     }
 
+    @Override
     public SequenceDiagramBuilder append(DiagramOperationType operationType, String... args) {
         for (Map.Entry<DiagramLangType, StringBuilder> entry : sources.entrySet()) {
             entry.getValue().append(buildOperation(entry.getKey(), operationType, args));
@@ -55,7 +56,7 @@ public Map<DiagramLangType, String> build() {
         return sources.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, x -> x.getValue().toString()));
     }
 
-    private String buildOperation(DiagramLangType langType, DiagramOperationType operationType, String... args) {
+    protected static String buildOperation(DiagramLangType langType, DiagramOperationType operationType, String... args) {
         DiagramOperation operation = OPERATIONS.get(langType).getOrDefault(operationType, EMPTY_OPERATION);
         String operationString = operation.getOperationString();
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.designgenerator;
+
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+import org.qubership.integration.platform.catalog.model.designgenerator.ElementsSequenceDiagram;
+import org.qubership.integration.platform.designtime.catalog.model.ChainElementsChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps generated sequence diagrams of all modes for recently requested chains and snapshots.
+ * Snapshot diagrams change only if the chain is renamed. Chain diagrams are bound to the chain
+ * modification timestamp and are evicted once elements or dependencies of the chain are changed.
+ */
+@Component
+public class SequenceDiagramCache {
+    private static final String SNAPSHOT_KEY_PREFIX = "snapshot:";
+
+    private final boolean chainDiagramsEnabled;
+    private final int maxSize;
+    // <chain id or snapshot key, entry>, least recently used first, guarded by itself
+    private final Map<String, Entry> entries;
+    private final AtomicLong version = new AtomicLong();
+
+    private record Entry(Object revision, Map<DiagramMode, ElementsSequenceDiagram> diagrams) {
+    }
+
+    @Autowired
+    public SequenceDiagramCache(@Value("${qip.design-generator.cache.max-size}") int maxSize,
+                                @Value("${qip.design-generator.cache.chain-diagrams-enabled}") boolean chainDiagramsEnabled) {
+        this.maxSize = maxSize;
+        this.chainDiagramsEnabled = chainDiagramsEnabled;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SequenceDiagramCache.this.maxSize;
+            }
+        };
+    }
+
+    public Map<DiagramMode, ElementsSequenceDiagram> getChainDiagrams(
+            String chainId,
+            Object modificationTimestamp,
+            Supplier<Map<DiagramMode, ElementsSequenceDiagram>> generator
+    ) {
+        if (!chainDiagramsEnabled) {
+            return generator.get();
+        }
+        return get(chainId, modificationTimestamp, generator);
+    }
+
+    /**
+     * @param chainName name of the snapshot chain, which is shown on diagrams and may change
+     */
+    public Map<DiagramMode, ElementsSequenceDiagram> getSnapshotDiagrams(
+            String snapshotId,
+            String chainName,
+            Supplier<Map<DiagramMode, ElementsSequenceDiagram>> generator
+    ) {
+        return get(SNAPSHOT_KEY_PREFIX + snapshotId, chainName, generator);
+    }
+
+    @EventListener
+    public void onChainElementsChanged(ChainElementsChangedEvent event) {
+        version.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeAll(event.chainIds());
+        }
+    }
+
+    private Map<DiagramMode, ElementsSequenceDiagram> get(
+            String key,
+            Object revision,
+            Supplier<Map<DiagramMode, ElementsSequenceDiagram>> generator
+    ) {
+        if (maxSize <= 0) {
+            return generator.get();
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && Objects.equals(entry.revision(), revision)) {
+            return entry.diagrams();
+        }
+
+        long startVersion = version.get();
+        Map<DiagramMode, ElementsSequenceDiagram> diagrams = Collections.unmodifiableMap(generator.get());
+        synchronized (entries) {
+            // diagrams generated concurrently with a chain change may be outdated
+            if (version.get() == startVersion) {
+                entries.put(key, new Entry(revision, diagrams));
+            }
+        }
+        return diagrams;
+    }
+}
@@ -24,7 +24,7 @@
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.service.EnvironmentService;
 import org.qubership.integration.platform.designtime.catalog.service.SystemService;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.qubership.integration.platform.designtime.catalog.utils.DiagramBuilderUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,7 +79,7 @@ private IntegrationSystem getSystem(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         Map<String, Object> properties = element.getProperties();
         String externalParticipantId = getExternalParticipantId(element);
 
@@ -96,7 +96,7 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
 
     }
 
@@ -21,7 +21,7 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
 import org.qubership.integration.platform.designtime.catalog.service.ElementService;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -65,7 +65,7 @@ public String getExternalParticipantName(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         String externalParticipantId = getExternalParticipantId(element);
         Optional<String> triggerId = getChainTriggerId(element);
         String nameOrId = triggerId.flatMap(elementService::findByIdOptional)
@@ -81,7 +81,7 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
 
     }
 
@@ -18,7 +18,7 @@
 
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.springframework.stereotype.Component;
 
@@ -46,7 +46,7 @@ public String getExternalParticipantName(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder,
+    public void processBefore(String refChainId, SequenceDiagramAppender builder,
         ChainElement element) {
 
         String checkpointTitle =
@@ -68,7 +68,7 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder,
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder,
+    public void processAfter(String refChainId, SequenceDiagramAppender builder,
         ChainElement element) {
 
     }
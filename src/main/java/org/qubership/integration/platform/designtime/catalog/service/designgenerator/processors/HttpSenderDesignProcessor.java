@@ -19,7 +19,7 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
 import org.qubership.integration.platform.catalog.util.SimpleHttpUriUtils;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.springframework.stereotype.Component;
 
@@ -57,7 +57,7 @@ public String getExternalParticipantName(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         String methods = element.getPropertyAsString("httpMethod");
         String path = SimpleHttpUriUtils.extractPathAndQueryFromUri(element.getPropertyAsString("uri"));
         String title = (methods == null ? EMPTY_PROPERTY_STUB : methods) + ", "
@@ -71,6 +71,6 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
     }
 }
@@ -22,7 +22,7 @@
 import org.qubership.integration.platform.catalog.persistence.configs.repository.system.SystemRepository;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
 import org.qubership.integration.platform.designtime.catalog.service.SystemService;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.qubership.integration.platform.designtime.catalog.utils.DiagramBuilderUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,7 +98,7 @@ private IntegrationSystem getSystem(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         Map<String, Object> properties = element.getProperties();
         String methods = element.getPropertyAsString(HTTP_METHOD_RESTRICT);
         String uri = (String) (isManualSource(element) ? properties.get(CONTEXT_PATH) : properties.get(OPERATION_PATH));
@@ -114,7 +114,7 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         builder.append(LINE_WITH_ARROW_DOTTED_RIGHT, refChainId, getExternalParticipantId(element), DEFAULT_RESPONSE_TITLE);
     }
 
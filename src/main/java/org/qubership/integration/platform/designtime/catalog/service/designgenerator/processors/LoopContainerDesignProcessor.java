@@ -20,7 +20,7 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.util.DiagramBuilderEscapeUtil;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.ContainerDesignProcessor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.comparator.Comparators;
@@ -63,7 +63,7 @@ public String getExternalParticipantName(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         if ((element instanceof ContainerChainElement containerElement) && !containerElement.getElements().isEmpty()) {
             builder.append(
                     DiagramOperationType.START_LOOP,
@@ -73,19 +73,19 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         if ((element instanceof ContainerChainElement containerElement) && !containerElement.getElements().isEmpty()) {
             builder.append(DiagramOperationType.END);
         }
     }
 
     @Override
-    public void processChildAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element, ChainElement child) {
+    public void processChildAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element, ChainElement child) {
         // do nothing
     }
 
     @Override
-    public void processChildBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element, ChainElement child) {
+    public void processChildBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element, ChainElement child) {
         // do nothing
     }
 }
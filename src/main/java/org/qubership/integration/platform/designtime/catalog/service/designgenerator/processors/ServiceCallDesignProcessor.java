@@ -25,7 +25,7 @@
 import org.qubership.integration.platform.catalog.util.ElementUtils;
 import org.qubership.integration.platform.designtime.catalog.service.EnvironmentService;
 import org.qubership.integration.platform.designtime.catalog.service.SystemService;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -80,7 +80,7 @@ private IntegrationSystem getSystem(ChainElement element) {
     }
 
     @Override
-    public void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element) {
+    public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
         Map<String, Object> properties = element.getProperties();
         Map<String, Object> before = (Map<String, Object>) properties.get(BEFORE);
         List<Map<String, Object>> afterList = (List<Map<String, Object>>) properties.get(AFTER);
@@ -136,7 +136,7 @@ public void processBefore(String refChainId, SequenceDiagramBuilder builder, Cha
     }
 
     @Override
-    public void processAfter(String refChainId, SequenceDiagramBuilder builder,
+    public void processAfter(String refChainId, SequenceDiagramAppender builder,
                              ChainElement element) {
 
     }
@@ -17,7 +17,7 @@
 package org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces;
 
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 
 import java.util.Comparator;
 import java.util.function.Predicate;
@@ -35,7 +35,7 @@ public interface ContainerDesignProcessor extends DesignProcessor {
 
     boolean isContainerWithRestrictions();
 
-    void processChildAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element, ChainElement child);
+    void processChildAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element, ChainElement child);
 
-    void processChildBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element, ChainElement child);
+    void processChildBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element, ChainElement child);
 }
@@ -17,7 +17,7 @@
 package org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces;
 
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 
 import java.util.Set;
 
@@ -29,8 +29,8 @@ public interface DesignProcessor {
 
     String getExternalParticipantName(ChainElement element);
 
-    void processBefore(String refChainId, SequenceDiagramBuilder builder, ChainElement element);
+    void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element);
 
-    void processAfter(String refChainId, SequenceDiagramBuilder builder, ChainElement element);
+    void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element);
 
 }
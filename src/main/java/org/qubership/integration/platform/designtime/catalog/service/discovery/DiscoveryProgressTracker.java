@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory progress of the discovery process running on this instance.
+ * Progress stays below 100 percent until the process is finished.
+ */
+@Component
+public class DiscoveryProgressTracker {
+    public static final int PROGRESS_COMPLETE = 100;
+    private static final int PROGRESS_MAX_IN_PROGRESS = 99;
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile int total;
+    private volatile boolean running;
+
+    public void start() {
+        processed.set(0);
+        total = 0;
+        running = true;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public void increment() {
+        processed.incrementAndGet();
+    }
+
+    public void finish() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getProgress() {
+        if (!running) {
+            return PROGRESS_COMPLETE;
+        }
+        int currentTotal = total;
+        if (currentTotal <= 0) {
+            return 0;
+        }
+        return Math.min(processed.get(), currentTotal) * PROGRESS_MAX_IN_PROGRESS / currentTotal;
+    }
+}
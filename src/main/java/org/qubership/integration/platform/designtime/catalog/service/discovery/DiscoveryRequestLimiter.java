@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of simultaneous discovery requests, both in total and per probed host.
+ */
+@Component
+public class DiscoveryRequestLimiter {
+    private final Semaphore totalPermits;
+    private final int permitsPerHost;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DiscoveryRequestLimiter(
+            @Value("${qip.discovery.max-concurrent-requests}") int maxConcurrentRequests,
+            @Value("${qip.discovery.max-concurrent-requests-per-host}") int maxConcurrentRequestsPerHost
+    ) {
+        this.totalPermits = new Semaphore(maxConcurrentRequests, true);
+        this.permitsPerHost = maxConcurrentRequestsPerHost;
+    }
+
+    public <T> T execute(String host, Supplier<T> request) {
+        Semaphore semaphore = hostPermits.computeIfAbsent(host, key -> new Semaphore(permitsPerHost, true));
+        semaphore.acquireUninterruptibly();
+        try {
+            totalPermits.acquireUninterruptibly();
+            try {
+                return request.get();
+            } finally {
+                totalPermits.release();
+            }
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void reset() {
+        hostPermits.clear();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores validators (ETag, Last-Modified and content hash) of specifications fetched during discovery,
+ * so that unchanged specifications are neither downloaded nor parsed again on the next discovery run.
+ * Validators are touched every time the service confirms them. Validators that haven't been
+ * confirmed for the configured time to live are ignored and deleted, so entries of services
+ * that are gone don't accumulate.
+ */
+@Slf4j
+@Component
+public class SpecificationFetchCache {
+    private static final String CACHE_NAMESPACE = "discovery-specification-cache";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ConfigParameterService configParameterService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final long ttlMillis;
+
+    public record Entry(String etag,
+                        String lastModified,
+                        String contentHash,
+                        String contentType,
+                        String version,
+                        String format) {
+    }
+
+    @Autowired
+    public SpecificationFetchCache(ConfigParameterService configParameterService,
+                                   @Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
+                                   EntityManager entityManager,
+                                   @Value("${qip.discovery.specification-cache.ttl-days}") long ttlDays) {
+        this.configParameterService = configParameterService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.ttlMillis = TimeUnit.DAYS.toMillis(ttlDays);
+    }
+
+    public Entry get(String serviceAddress, String url) {
+        ConfigParameter cp = configParameterService.findByName(CACHE_NAMESPACE, buildKey(serviceAddress, url));
+        if (cp == null || cp.getString() == null || isExpired(cp.getModifiedWhen())) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(cp.getString(), Entry.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read cached specification validators for {}{}", serviceAddress, url);
+            return null;
+        }
+    }
+
+    public void put(String serviceAddress, String url, Entry entry) {
+        ConfigParameter cp = new ConfigParameter(CACHE_NAMESPACE, buildKey(serviceAddress, url));
+        try {
+            cp.setString(objectMapper.writeValueAsString(entry));
+            configParameterService.update(cp);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache specification validators for {}{}", serviceAddress, url);
+        }
+    }
+
+    /**
+     * Marks cached validators as confirmed by the service, when the specification
+     * is not modified or its content hash hasn't changed.
+     */
+    @Transactional
+    public void touch(String serviceAddress, String url) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ConfigParameter> update = builder.createCriteriaUpdate(ConfigParameter.class);
+        Root<ConfigParameter> root = update.from(ConfigParameter.class);
+        update.set(root.get("modifiedWhen"), new Timestamp(System.currentTimeMillis()))
+                .where(
+                        builder.equal(root.get("namespace"), CACHE_NAMESPACE),
+                        builder.equal(root.get("name"), buildKey(serviceAddress, url))
+                );
+        entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Deletes validators that haven't been confirmed for the time to live.
+     *
+     * @return number of deleted entries
+     */
+    @Transactional
+    public int evictExpired() {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<ConfigParameter> delete = builder.createCriteriaDelete(ConfigParameter.class);
+        Root<ConfigParameter> root = delete.from(ConfigParameter.class);
+        delete.where(
+                builder.equal(root.get("namespace"), CACHE_NAMESPACE),
+                builder.lessThan(root.get("modifiedWhen"), new Timestamp(System.currentTimeMillis() - ttlMillis))
+        );
+        int deleted = entityManager.createQuery(delete).executeUpdate();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired specification validators", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * @return headers of a conditional request for a specification with the given cached validators
+     */
+    public static HttpHeaders buildConditionalHeaders(Entry cached) {
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            if (StringUtils.isNotBlank(cached.etag())) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, cached.etag());
+            }
+            if (StringUtils.isNotBlank(cached.lastModified())) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+            }
+        }
+        return headers;
+    }
+
+    public static String hash(String content) {
+        return digest(content);
+    }
+
+    private boolean isExpired(Date modifiedWhen) {
+        return modifiedWhen != null && modifiedWhen.getTime() < System.currentTimeMillis() - ttlMillis;
+    }
+
+    private static String buildKey(String serviceAddress, String url) {
+        return digest(serviceAddress + url);
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " algorithm is not available", e);
+        }
+    }
+}
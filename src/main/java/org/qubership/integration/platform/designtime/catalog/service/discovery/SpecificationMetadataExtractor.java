@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads specification format and info section from a JSON or YAML specification
+ * in a single streaming pass, without building a document tree.
+ * Parsing stops as soon as the format marker and the info section have been read.
+ */
+@Component
+public class SpecificationMetadataExtractor {
+    public static final String SWAGGER_FORMAT = "swagger";
+    public static final String OPENAPI_FORMAT = "openapi";
+    public static final String ASYNCAPI_FORMAT = "asyncapi";
+
+    private static final Set<String> FORMAT_FIELDS = Set.of(SWAGGER_FORMAT, OPENAPI_FORMAT, ASYNCAPI_FORMAT);
+    private static final String INFO_FIELD = "info";
+    private static final String VERSION_FIELD = "version";
+    private static final String TITLE_FIELD = "title";
+
+    private final JsonFactory jsonFactory;
+    private final JsonFactory yamlFactory;
+
+    /**
+     * @param format        top level format marker field (swagger, openapi or asyncapi) or null if absent
+     * @param formatVersion value of the format marker field
+     * @param version       info.version value, empty if it is not a scalar, null if absent
+     * @param title         info.title value, empty if it is not a scalar, null if absent
+     */
+    public record SpecificationMetadata(String format, String formatVersion, String version, String title) {
+    }
+
+    @Autowired
+    public SpecificationMetadataExtractor(@Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
+                                          @Qualifier("yamlMapper") YAMLMapper yamlMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.yamlFactory = yamlMapper.getFactory();
+    }
+
+    /**
+     * @return specification metadata or null if the document root is not an object
+     * @throws IOException if the document can't be parsed
+     */
+    public SpecificationMetadata extract(String content) throws IOException {
+        JsonFactory factory = isJson(content) ? jsonFactory : yamlFactory;
+        try (JsonParser parser = factory.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String format = null;
+            String formatVersion = null;
+            String version = null;
+            String title = null;
+            boolean infoRead = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (format == null && FORMAT_FIELDS.contains(field)) {
+                    format = field;
+                    formatVersion = readScalar(parser);
+                } else if (!infoRead && INFO_FIELD.equals(field)) {
+                    infoRead = true;
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String infoField = parser.currentName();
+                        parser.nextToken();
+                        if (VERSION_FIELD.equals(infoField)) {
+                            version = readScalar(parser);
+                        } else if (TITLE_FIELD.equals(infoField)) {
+                            title = readScalar(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+
+                if (format != null && infoRead) {
+                    break;
+                }
+            }
+            return new SpecificationMetadata(format, formatVersion, version, title);
+        }
+    }
+
+    /**
+     * Numbers are read as numbers, so an unquoted version like 1.10 becomes "1.1"
+     * the same way it does when the document is read as a tree.
+     */
+    private static String readScalar(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isNumeric()) {
+            return parser.<JsonNode>readValueAsTree().asText();
+        }
+        if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    private static boolean isJson(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c) && c != '\uFEFF') {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+}
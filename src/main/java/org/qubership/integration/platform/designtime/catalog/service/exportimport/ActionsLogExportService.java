@@ -16,30 +16,38 @@
 
 package org.qubership.integration.platform.designtime.catalog.service.exportimport;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.dhatim.fastexcel.Workbook;
 import org.dhatim.fastexcel.Worksheet;
+import org.hibernate.jpa.HibernateHints;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.time.ZonedDateTime;
-import java.util.Date;
-import java.util.List;
-import java.util.TimeZone;
-
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
 
+/**
+ * Exports actions log records of a time range. Records are read with a database cursor
+ * and written to the output stream one by one, so memory use doesn't depend on the number of records.
+ */
 @Slf4j
 @Service
 public class ActionsLogExportService {
-    private static final String EXCEL_EXPORT_ERROR = "Failed to create Excel document: ";
-    private final ActionsLogService actionsLogService;
     private static final int START_INDEX = 0;
     private static final int ACTION_TIME_INDEX = 0;
     private static final int USERNAME_INDEX = 1;
@@ -52,66 +60,213 @@ public class ActionsLogExportService {
     private static final int REQUEST_ID_INDEX = 8;
     private static final int LAST_INDEX = REQUEST_ID_INDEX;
     private static final int FONT_SIZE = 11;
+    private static final int EXCEL_FLUSH_ROWS = 1000;
+    private static final String[] HEADERS = {
+            ActionsLogExportConstants.ACTION_TIME_HEADER_VALUE,
+            ActionsLogExportConstants.USERNAME_HEADER_VALUE,
+            ActionsLogExportConstants.OPERATION_HEADER_VALUE,
+            ActionsLogExportConstants.ENTITY_ID_HEADER_VALUE,
+            ActionsLogExportConstants.ENTITY_TYPE_HEADER_VALUE,
+            ActionsLogExportConstants.ENTITY_NAME_HEADER_VALUE,
+            ActionsLogExportConstants.PARENT_ID_HEADER_VALUE,
+            ActionsLogExportConstants.PARENT_NAME_HEADER_VALUE,
+            ActionsLogExportConstants.REQUEST_ID_HEADER_VALUE
+    };
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern(ActionsLogExportConstants.DATE_PATTERN)
+            .withZone(ZoneId.systemDefault());
+
+    private final EntityManager entityManager;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
 
     @Autowired
-    public ActionsLogExportService(ActionsLogService actionsLogService) {
-        this.actionsLogService = actionsLogService;
+    public ActionsLogExportService(EntityManager entityManager,
+                                   @Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
+                                   @Value("${qip.actions-log.export.fetch-size}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
     }
 
-    public byte[] exportAsExcelDocument(Timestamp actionTimeFrom, Timestamp actionTimeTo) {
-        try (ByteArrayOutputStream fos = new ByteArrayOutputStream()) {
-            Workbook workbook = new Workbook(fos, ActionsLogExportConstants.APPLICATION_NAME, ActionsLogExportConstants.APPLICATION_VERSION);
-            Worksheet worksheet = workbook.newWorksheet(ActionsLogExportConstants.EXCEL_SHEET_NAME);
-            this.setHeaderCells(worksheet);
-            this.setDataCells(worksheet, actionTimeFrom, actionTimeTo);
-            workbook.finish();
-            return fos.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(EXCEL_EXPORT_ERROR + e.getMessage());
+    /**
+     * Writes actions log records with action time in the specified range to the output stream.
+     * The output stream is not closed.
+     */
+    @Transactional(readOnly = true)
+    public void export(Timestamp actionTimeFrom,
+                       Timestamp actionTimeTo,
+                       ActionsLogExportFormat format,
+                       OutputStream outputStream) throws IOException {
+        RecordWriter writer = switch (format) {
+            case XLSX -> new ExcelRecordWriter(outputStream);
+            case CSV -> new CsvRecordWriter(outputStream);
+            case NDJSON -> new NdjsonRecordWriter(jsonFactory, outputStream);
+        };
+
+        long count = 0;
+        try (Stream<ActionLog> actions = findAllByActionTimeBetween(actionTimeFrom, actionTimeTo)) {
+            for (ActionLog action : (Iterable<ActionLog>) actions::iterator) {
+                writer.write(action);
+                // Exported records are not needed anymore, the persistence context must not grow
+                entityManager.detach(action);
+                count++;
+            }
         }
+        writer.finish();
+        log.debug("Exported {} actions log records as {}", count, format);
+    }
+
+    Stream<ActionLog> findAllByActionTimeBetween(Timestamp actionTimeFrom, Timestamp actionTimeTo) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActionLog> query = builder.createQuery(ActionLog.class);
+        Root<ActionLog> root = query.from(ActionLog.class);
+        query.select(root)
+                .where(builder.between(root.get("actionTime"), actionTimeFrom, actionTimeTo))
+                .orderBy(builder.asc(root.get("actionTime")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static String formatActionTime(Timestamp actionTime) {
+        return actionTime == null ? null : DATE_FORMATTER.format(actionTime.toInstant());
     }
 
-    private void setHeaderCells(Worksheet worksheet) {
-        worksheet.value(START_INDEX, ACTION_TIME_INDEX, ActionsLogExportConstants.ACTION_TIME_HEADER_VALUE);
-        worksheet.value(START_INDEX, USERNAME_INDEX, ActionsLogExportConstants.USERNAME_HEADER_VALUE);
-        worksheet.value(START_INDEX, OPERATION_INDEX, ActionsLogExportConstants.OPERATION_HEADER_VALUE);
-        worksheet.value(START_INDEX, ENTITY_ID_INDEX, ActionsLogExportConstants.ENTITY_ID_HEADER_VALUE);
-        worksheet.value(START_INDEX, ENTITY_TYPE_INDEX, ActionsLogExportConstants.ENTITY_TYPE_HEADER_VALUE);
-        worksheet.value(START_INDEX, ENTITY_NAME_INDEX, ActionsLogExportConstants.ENTITY_NAME_HEADER_VALUE);
-        worksheet.value(START_INDEX, PARENT_ID_INDEX, ActionsLogExportConstants.PARENT_ID_HEADER_VALUE);
-        worksheet.value(START_INDEX, PARENT_NAME_INDEX, ActionsLogExportConstants.PARENT_NAME_HEADER_VALUE);
-        worksheet.value(START_INDEX, REQUEST_ID_INDEX, ActionsLogExportConstants.REQUEST_ID_HEADER_VALUE);
-
-        for (int i = START_INDEX; i <= LAST_INDEX; i++) {
-            worksheet.style(START_INDEX, i).fontSize(FONT_SIZE).bold().set();
+    private static String[] toValues(ActionLog action) {
+        return new String[] {
+                formatActionTime(action.getActionTime()),
+                action.getUser() == null ? null : action.getUser().getUsername(),
+                action.getOperation() == null ? null : action.getOperation().name(),
+                action.getEntityId(),
+                action.getEntityType() == null ? null : action.getEntityType().name(),
+                action.getEntityName(),
+                action.getParentId(),
+                action.getParentName(),
+                action.getRequestId()
+        };
+    }
+
+    private interface RecordWriter {
+        void write(ActionLog action) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static class ExcelRecordWriter implements RecordWriter {
+        private final Workbook workbook;
+        private final Worksheet worksheet;
+        private int rowNumber = START_INDEX;
+
+        ExcelRecordWriter(OutputStream outputStream) {
+            workbook = new Workbook(outputStream, ActionsLogExportConstants.APPLICATION_NAME,
+                    ActionsLogExportConstants.APPLICATION_VERSION);
+            worksheet = workbook.newWorksheet(ActionsLogExportConstants.EXCEL_SHEET_NAME);
+            for (int i = START_INDEX; i <= LAST_INDEX; i++) {
+                worksheet.value(START_INDEX, i, HEADERS[i]);
+                worksheet.style(START_INDEX, i).fontSize(FONT_SIZE).bold().set();
+            }
+        }
+
+        @Override
+        public void write(ActionLog action) throws IOException {
+            rowNumber++;
+            String[] values = toValues(action);
+            for (int i = START_INDEX; i <= LAST_INDEX; i++) {
+                worksheet.value(rowNumber, i, values[i]);
+            }
+            worksheet.style(rowNumber, ACTION_TIME_INDEX).horizontalAlignment(ActionsLogExportConstants.LEFT).set();
+            // Written rows are kept by the worksheet until flushed
+            if (rowNumber % EXCEL_FLUSH_ROWS == 0) {
+                worksheet.flush();
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            workbook.finish();
         }
     }
 
-    private void setDataCells(Worksheet worksheet, Timestamp actionTimeFrom, Timestamp actionTimeTo) {
+    private static class CsvRecordWriter implements RecordWriter {
+        private final Writer writer;
+
+        CsvRecordWriter(OutputStream outputStream) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writeLine(HEADERS);
+        }
 
-        List<ActionLog> actions = actionsLogService.findAllByActionTimeBetween(actionTimeFrom, actionTimeTo);
+        @Override
+        public void write(ActionLog action) throws IOException {
+            writeLine(toValues(action));
+        }
 
-        int actionRowNumber = START_INDEX;
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
 
-        for (ActionLog action : actions) {
-            actionRowNumber = actionRowNumber + 1;
-            worksheet.value(actionRowNumber, ACTION_TIME_INDEX, applyFormatterOnTimestamp(action.getActionTime()));
-            worksheet.style(actionRowNumber, ACTION_TIME_INDEX).horizontalAlignment(ActionsLogExportConstants.LEFT).set();
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(values[i]);
+            }
+            writer.write("\r\n");
+        }
 
-            worksheet.value(actionRowNumber, USERNAME_INDEX, action.getUser().getUsername());
-            worksheet.value(actionRowNumber, OPERATION_INDEX, action.getOperation().name());
-            worksheet.value(actionRowNumber, ENTITY_ID_INDEX, action.getEntityId());
-            worksheet.value(actionRowNumber, ENTITY_TYPE_INDEX, action.getEntityType().name());
-            worksheet.value(actionRowNumber, ENTITY_NAME_INDEX, action.getEntityName());
-            worksheet.value(actionRowNumber, PARENT_ID_INDEX, action.getParentId());
-            worksheet.value(actionRowNumber, PARENT_NAME_INDEX, action.getParentName());
-            worksheet.value(actionRowNumber, REQUEST_ID_INDEX, action.getRequestId());
+        private void writeValue(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
         }
     }
 
-    private String applyFormatterOnTimestamp(Timestamp actionTime) {
-        DateFormat dateFormat = new SimpleDateFormat(ActionsLogExportConstants.DATE_PATTERN);
-        dateFormat.setTimeZone(TimeZone.getTimeZone(ZonedDateTime.now().getZone()));
-        return dateFormat.format(new Date(actionTime.getTime()));
+    private static class NdjsonRecordWriter implements RecordWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRecordWriter(JsonFactory jsonFactory, OutputStream outputStream) throws IOException {
+            generator = jsonFactory.createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ActionLog action) throws IOException {
+            generator.writeStartObject();
+            if (action.getActionTime() != null) {
+                generator.writeNumberField("actionTime", action.getActionTime().getTime());
+            }
+            writeField("username", action.getUser() == null ? null : action.getUser().getUsername());
+            writeField("operation", action.getOperation() == null ? null : action.getOperation().name());
+            writeField("entityId", action.getEntityId());
+            writeField("entityType", action.getEntityType() == null ? null : action.getEntityType().name());
+            writeField("entityName", action.getEntityName());
+            writeField("parentId", action.getParentId());
+            writeField("parentName", action.getParentName());
+            writeField("requestId", action.getRequestId());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+
+        private void writeField(String name, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(name, value);
+            }
+        }
     }
 }
@@ -26,11 +26,11 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.instructions.ImportInstruction;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.instructions.ImportInstructionsRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ImportInstructionsValidationException;
 import org.qubership.integration.platform.designtime.catalog.model.enums.filter.FilterFeature;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.exportimport.instructions.DeleteInstructionsRequest;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.filter.ImportInstructionFilterSpecificationBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -52,12 +52,12 @@ public class ImportInstructionsService {
 
     private final ImportInstructionsRepository importInstructionsRepository;
     private final ImportInstructionFilterSpecificationBuilder importInstructionFilterSpecificationBuilder;
-    private final ActionsLogService actionsLogService;
+    private final BatchedActionsLogService actionsLogService;
 
     public ImportInstructionsService(
             ImportInstructionsRepository importInstructionsRepository,
             ImportInstructionFilterSpecificationBuilder importInstructionFilterSpecificationBuilder,
-            ActionsLogService actionsLogService
+            BatchedActionsLogService actionsLogService
     ) {
         this.importInstructionsRepository = importInstructionsRepository;
         this.importInstructionFilterSpecificationBuilder = importInstructionFilterSpecificationBuilder;
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.filter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.FilterRequestDTO;
+import org.qubership.integration.platform.designtime.catalog.service.ChainRuntimePropertiesService;
+import org.qubership.integration.platform.designtime.catalog.service.DeploymentService;
+import org.qubership.integration.platform.designtime.catalog.service.filter.complex.ChainStatusFilters;
+import org.qubership.integration.platform.designtime.catalog.service.filter.complex.FilterApplier;
+import org.qubership.integration.platform.designtime.catalog.service.filter.complex.LoggingFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Executes chain filters: SQL expressible filters are applied by the database query,
+ * the rest are applied to loaded chains by {@link FilterApplier}s ordered from the cheapest one.
+ * Pagination is done by the database when no in-memory filter is applicable.
+ */
+@Component
+public class ChainFilterPlanner {
+
+    private final EntityManager entityManager;
+    private final ChainFilterSpecificationBuilder chainFilterSpecificationBuilder;
+    // ordered by cost, logging filter uses local cache, status filter requests runtime catalog
+    private final List<FilterApplier> filterAppliers;
+
+    @Autowired
+    public ChainFilterPlanner(EntityManager entityManager,
+                              ChainFilterSpecificationBuilder chainFilterSpecificationBuilder,
+                              ChainRuntimePropertiesService chainRuntimePropertiesService,
+                              @Lazy DeploymentService deploymentService) {
+        this.entityManager = entityManager;
+        this.chainFilterSpecificationBuilder = chainFilterSpecificationBuilder;
+        this.filterAppliers = List.of(
+                new LoggingFilter(chainRuntimePropertiesService),
+                new ChainStatusFilters(deploymentService)
+        );
+    }
+
+    /**
+     * @param offset number of matching chains to skip
+     * @param limit  maximum number of chains to return, all matching chains if 0
+     * @return chains ordered by name
+     */
+    public List<Chain> findByFilterRequest(List<FilterRequestDTO> filters, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            return Collections.emptyList();
+        }
+
+        Specification<Chain> specification = chainFilterSpecificationBuilder.buildFilter(filters);
+        List<FilterApplier> applicableFilters = getApplicableFilters(filters);
+        if (applicableFilters.isEmpty()) {
+            return findAll(specification, offset, limit);
+        }
+
+        List<Chain> chains = findAll(specification, 0, 0);
+        for (FilterApplier filterApplier : applicableFilters) {
+            if (chains.isEmpty()) {
+                break;
+            }
+            chains = filterApplier.apply(chains, filters);
+        }
+        return page(chains, offset, limit);
+    }
+
+    private List<FilterApplier> getApplicableFilters(List<FilterRequestDTO> filters) {
+        return filterAppliers.stream()
+                .filter(filterApplier -> filterApplier.isApplicable(filters))
+                .toList();
+    }
+
+    private List<Chain> findAll(Specification<Chain> specification, int offset, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Chain> query = criteriaBuilder.createQuery(Chain.class);
+        Root<Chain> root = query.from(Chain.class);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(criteriaBuilder.asc(root.get("name")), criteriaBuilder.asc(root.get("id")));
+
+        TypedQuery<Chain> typedQuery = entityManager.createQuery(query);
+        if (offset > 0) {
+            typedQuery.setFirstResult(offset);
+        }
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static List<Chain> page(List<Chain> chains, int offset, int limit) {
+        if (offset >= chains.size()) {
+            return Collections.emptyList();
+        }
+        int toIndex = limit > 0 ? (int) Math.min((long) offset + limit, chains.size()) : chains.size();
+        return chains.subList(offset, toIndex);
+    }
+}
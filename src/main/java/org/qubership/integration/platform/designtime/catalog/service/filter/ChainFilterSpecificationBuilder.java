@@ -195,7 +195,8 @@ private Predicate buildPredicate(
             case DESCRIPTION -> conditionPredicateBuilder.apply(root.get("description"), value);
             case ENGINES -> conditionPredicateBuilder.apply(
                     getDeploymentPropertyExpression(root, "domain"), value);
-            case LOGGING, STATUS, ELEMENT -> criteriaBuilder.conjunction();
+            case LOGGING, STATUS -> criteriaBuilder.conjunction();
+            case ELEMENT -> buildElementTypePredicate(root, criteriaBuilder, filter);
             case PATH -> criteriaBuilder.or(
                     criteriaBuilder.and(
                             elementTypeIs(root, criteriaBuilder, HTTP_TRIGGER_COMPONENT),
@@ -319,6 +320,27 @@ private Predicate buildPredicate(
         };
     }
 
+    private Predicate buildElementTypePredicate(
+            Root<Chain> root,
+            CriteriaBuilder criteriaBuilder,
+            FilterRequestDTO filter
+    ) {
+        Set<String> types = new HashSet<>(Arrays.asList(filter.getValue().split(",")));
+        Subquery<String> subquery = criteriaBuilder.createQuery().subquery(String.class);
+        Root<ChainElement> elRoot = subquery.from(ChainElement.class);
+        subquery
+                .select(elRoot.get("chain").get("id"))
+                .where(criteriaBuilder.and(
+                        elRoot.get("type").in(types),
+                        criteriaBuilder.isNotNull(elRoot.get("chain").get("id"))));
+        Predicate containsElement = root.get("id").in(subquery);
+        return switch (filter.getCondition()) {
+            case IN -> containsElement;
+            case NOT_IN -> criteriaBuilder.not(containsElement);
+            default -> throw new IllegalStateException("Unexpected filter value: " + filter.getCondition());
+        };
+    }
+
     @NotNull
     private Predicate getNegativeFilterPredicate(
             Root<Chain> root,
@@ -17,7 +17,6 @@
 package org.qubership.integration.platform.designtime.catalog.service.filter.complex;
 
 import org.qubership.integration.platform.catalog.model.chain.ChainStatus;
-import org.qubership.integration.platform.catalog.model.deployment.engine.ChainRuntimeDeployment;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Deployment;
 import org.qubership.integration.platform.designtime.catalog.model.enums.filter.FilterFeature;
@@ -37,9 +36,32 @@ public ChainStatusFilters(DeploymentService deploymentService) {
         this.deploymentService = deploymentService;
     }
 
+    @Override
+    public boolean isApplicable(List<FilterRequestDTO> filters) {
+        return !getDeploymentStatusFilters(filters).isEmpty();
+    }
+
     @Override
     public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
-        List<FilterRequestDTO> deploymentStatusFilters = filters.stream()
+        List<FilterRequestDTO> deploymentStatusFilters = getDeploymentStatusFilters(filters);
+        if (deploymentStatusFilters.isEmpty()) {
+            return chains;
+        }
+
+        List<Predicate<ChainStatus>> predicates = deploymentStatusFilters.stream()
+                .map(this::getDeploymentStatusPredicate)
+                .toList();
+        Map<String, ChainStatus> runtimeDeploymentStatuses = deploymentService.getRuntimeDeploymentStatuses();
+        return chains.stream()
+                .filter(chain -> {
+                    Collection<ChainStatus> chainDeploymentStatuses = getChainDeploymentStatuses(runtimeDeploymentStatuses, chain);
+                    return predicates.stream().allMatch(predicate -> chainDeploymentStatuses.stream().anyMatch(predicate));
+                })
+                .toList();
+    }
+
+    private List<FilterRequestDTO> getDeploymentStatusFilters(List<FilterRequestDTO> filters) {
+        return filters.stream()
                 .map(filter -> FilterFeature.ENGINES.equals(filter.getFeature())
                         && NO_DEPLOYMENTS_CAPTION.equals(filter.getValue())
                         ? filter.toBuilder()
@@ -50,57 +72,31 @@ public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
                 )
                 .filter(filter -> FilterFeature.STATUS.equals(filter.getFeature()))
                 .toList();
-        if (deploymentStatusFilters.isEmpty()) {
-            return chains;
-        }
-
-        Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = deploymentService.getAllRuntimeDeployments();
-        return chains.stream()
-                .filter(chain -> deploymentStatusFilters.stream()
-                        .allMatch(filter -> chainMatchesDeploymentStatusFilter(runtimeDeployments, chain, filter)))
-                .toList();
     }
 
-    private boolean chainMatchesDeploymentStatusFilter(Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments,
-                                                       Chain chain, FilterRequestDTO filter) {
-        Collection<ChainStatus> chainDeploymentStatuses = getChainDeploymentStatuses(runtimeDeployments, chain);
-        Predicate<ChainStatus> predicate = getDeploymentStatusPredicate(filter);
-        return chainDeploymentStatuses.stream().anyMatch(predicate);
-    }
-
-    private Collection<ChainStatus> getChainDeploymentStatuses(Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments,
-                                                                    Chain chain) {
+    private Collection<ChainStatus> getChainDeploymentStatuses(Map<String, ChainStatus> runtimeDeploymentStatuses,
+                                                               Chain chain) {
         Collection<Deployment> deployments = chain.getDeployments();
-        Collection<ChainRuntimeDeployment> chainRuntimeDeployments =
-                runtimeDeployments == null ? null : runtimeDeployments.get(chain.getId());
         if (CollectionUtils.isEmpty(deployments)) {
             return Collections.singletonList(ChainStatus.DRAFT);
         }
 
         Collection<ChainStatus> result = new ArrayList<>();
         for (Deployment deployment : deployments) {
-            String deploymentId = deployment.getId();
-            ChainRuntimeDeployment runtimeDeployment = chainRuntimeDeployments == null
-                    ? null
-                    : chainRuntimeDeployments.stream()
-                            .filter(dep -> deploymentId.equals(dep.getDeploymentInfo().getDeploymentId()))
-                            .findAny().orElse(null);
-            if (runtimeDeployment != null) {
-                result.add(ChainStatus.valueOf(runtimeDeployment.getStatus().name()));
-            } else {
-                result.add(ChainStatus.PROCESSING);
-            }
+            result.add(runtimeDeploymentStatuses.getOrDefault(deployment.getId(), ChainStatus.PROCESSING));
         }
 
         return result;
     }
 
     private Predicate<ChainStatus> getDeploymentStatusPredicate(FilterRequestDTO filter) {
+        Set<ChainStatus> statuses = EnumSet.noneOf(ChainStatus.class);
+        for (String value : filter.getValue().split(",")) {
+            statuses.add(ChainStatus.valueOf(value.toUpperCase()));
+        }
         return switch (filter.getCondition()) {
-            case IN -> status -> Arrays.stream(filter.getValue().split(","))
-                    .anyMatch(value -> ChainStatus.valueOf(value.toUpperCase()) == status);
-            case NOT_IN -> status -> Arrays.stream(filter.getValue().split(","))
-                    .noneMatch(value -> ChainStatus.valueOf(value.toUpperCase()) == status);
+            case IN -> statuses::contains;
+            case NOT_IN -> status -> !statuses.contains(status);
             default -> throw new IllegalStateException("Unexpected value: " + filter.getCondition());
         };
     }
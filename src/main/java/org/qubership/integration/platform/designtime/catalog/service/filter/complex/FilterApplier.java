@@ -21,6 +21,14 @@
 
 import java.util.List;
 
+/**
+ * Filter that can't be expressed in SQL and is applied to already loaded chains.
+ */
 public interface FilterApplier {
+    /**
+     * @return true if any of the filters is applied by this applier
+     */
+    boolean isApplicable(List<FilterRequestDTO> filters);
+
     List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters);
 }
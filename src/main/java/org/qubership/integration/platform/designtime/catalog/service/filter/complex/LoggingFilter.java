@@ -23,9 +23,11 @@
 import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.designtime.catalog.service.ChainRuntimePropertiesService;
 
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class LoggingFilter implements FilterApplier {
 
@@ -35,33 +37,38 @@ public LoggingFilter(ChainRuntimePropertiesService chainRuntimePropertiesService
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
     }
 
+    @Override
+    public boolean isApplicable(List<FilterRequestDTO> filters) {
+        return filters.stream().anyMatch(filter -> filter.getFeature() == FilterFeature.LOGGING);
+    }
+
     @Override
     public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
-        List<FilterRequestDTO> loggingFilters = filters.stream()
+        List<Predicate<SessionsLoggingLevel>> predicates = filters.stream()
                 .filter(filter -> filter.getFeature() == FilterFeature.LOGGING)
+                .map(this::getSessionsLoggingLevelPredicate)
                 .toList();
-        if (loggingFilters.isEmpty()) {
+        if (predicates.isEmpty()) {
             return chains;
         }
         Map<String, DeploymentRuntimeProperties> runtimePropertiesMap = chainRuntimePropertiesService.getRuntimePropertiesCache();
         return chains.stream()
-                .filter(chain -> loggingFilters.stream()
-                        .allMatch(filter -> chainMatchLoggingFilter(runtimePropertiesMap, chain, filter)))
+                .filter(chain -> {
+                    DeploymentRuntimeProperties props = runtimePropertiesMap.get(chain.getId());
+                    return props != null && predicates.stream()
+                            .allMatch(predicate -> predicate.test(props.getSessionsLoggingLevel()));
+                })
                 .toList();
     }
 
-    private boolean chainMatchLoggingFilter(Map<String, DeploymentRuntimeProperties> runtimePropertiesMap,
-                                            Chain chain, FilterRequestDTO chainFilter) {
-        DeploymentRuntimeProperties props = runtimePropertiesMap.get(chain.getId());
-        return props != null && getSessionsLoggingLevelPredicate(chainFilter, props.getSessionsLoggingLevel());
-    }
-
-    private boolean getSessionsLoggingLevelPredicate(FilterRequestDTO filter, SessionsLoggingLevel loggingLevel) {
+    private Predicate<SessionsLoggingLevel> getSessionsLoggingLevelPredicate(FilterRequestDTO filter) {
+        Set<SessionsLoggingLevel> loggingLevels = EnumSet.noneOf(SessionsLoggingLevel.class);
+        for (String value : filter.getValue().split(",")) {
+            loggingLevels.add(SessionsLoggingLevel.valueOf(value.toUpperCase()));
+        }
         return switch (filter.getCondition()) {
-            case IN -> Arrays.stream(filter.getValue().split(","))
-                    .anyMatch(value -> SessionsLoggingLevel.valueOf(value.toUpperCase()) == loggingLevel);
-            case NOT_IN -> Arrays.stream(filter.getValue().split(","))
-                    .noneMatch(value -> SessionsLoggingLevel.valueOf(value.toUpperCase()) == loggingLevel);
+            case IN -> loggingLevels::contains;
+            case NOT_IN -> loggingLevel -> !loggingLevels.contains(loggingLevel);
             default -> throw new IllegalStateException("Unexpected value: " + filter.getCondition());
         };
     }
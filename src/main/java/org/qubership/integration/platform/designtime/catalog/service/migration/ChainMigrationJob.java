@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.migration;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of a batch chain migration job. Results are added by migration workers concurrently.
+ */
+public class ChainMigrationJob {
+
+    public enum Status {
+        RUNNING,
+        FINISHED
+    }
+
+    public enum ResultStatus {
+        MIGRATED,
+        CAN_BE_MIGRATED,
+        CANNOT_BE_MIGRATED,
+        SKIPPED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    public record Result(String chainId, ResultStatus status, String errorMessage) {
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final boolean dryRun;
+    @Getter
+    private final int total;
+    @Getter
+    private final long startedWhen;
+    private final Queue<Result> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile Long finishedWhen;
+
+    public ChainMigrationJob(String id, boolean dryRun, int total) {
+        this.id = id;
+        this.dryRun = dryRun;
+        this.total = total;
+        this.startedWhen = System.currentTimeMillis();
+        if (total == 0) {
+            finishedWhen = startedWhen;
+        }
+    }
+
+    /**
+     * @return true if it's the last result of the job
+     */
+    public boolean addResult(Result result) {
+        results.add(result);
+        if (processed.incrementAndGet() == total) {
+            finishedWhen = System.currentTimeMillis();
+            return true;
+        }
+        return false;
+    }
+
+    public Status getStatus() {
+        return finishedWhen == null ? Status.RUNNING : Status.FINISHED;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public Long getFinishedWhen() {
+        return finishedWhen;
+    }
+
+    public List<Result> getResults() {
+        return new ArrayList<>(results);
+    }
+}
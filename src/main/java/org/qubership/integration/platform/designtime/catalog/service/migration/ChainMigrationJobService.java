@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.migration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainMigrationException;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobResponse;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationResultDTO;
+import org.qubership.integration.platform.designtime.catalog.service.FolderService;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * Migrates chains in batches. Chains are processed by a bounded worker pool, each one in its own transaction,
+ * so a failure of one chain doesn't affect the others. Jobs are kept in memory of the replica that started them.
+ * Workers run with the logging context of the request that started the job, so actions log records and
+ * unsaved changes marks written by the migration of a chain are attributed to that request.
+ */
+@Slf4j
+@Service
+public class ChainMigrationJobService {
+    private static final String NO_DEPRECATED_ELEMENTS_MESSAGE = "Chain doesn't contain deprecated elements";
+    private static final String JOB_NOT_FOUND_MESSAGE = "Can't find chain migration job with id: ";
+    private static final String CHAIN_NOT_FOUND_MESSAGE = "Can't find chain with id: ";
+
+    private final ChainMigrationService chainMigrationService;
+    private final FolderService folderService;
+    private final EntityManager entityManager;
+    private final Executor executor;
+    private final int jobsHistorySize;
+
+    // <job id, job> in start order, guarded by itself
+    private final Map<String, ChainMigrationJob> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public ChainMigrationJobService(ChainMigrationService chainMigrationService,
+                                    FolderService folderService,
+                                    EntityManager entityManager,
+                                    @Qualifier("chainMigrationExecutor") Executor executor,
+                                    @Value("${qip.chain-migration.jobs-history-size}") int jobsHistorySize) {
+        this.chainMigrationService = chainMigrationService;
+        this.folderService = folderService;
+        this.entityManager = entityManager;
+        this.executor = executor;
+        this.jobsHistorySize = jobsHistorySize;
+    }
+
+    public ChainMigrationJobResponse startJob(ChainMigrationJobRequest request) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        Set<String> deprecatedChainIds = findChainIdsWithDeprecatedElements();
+        Collection<String> chainIds = resolveChainIds(request, deprecatedChainIds);
+        Set<String> existingChainIds = findExistingChainIds(chainIds.stream()
+                .filter(chainId -> !deprecatedChainIds.contains(chainId))
+                .toList());
+
+        ChainMigrationJob job = new ChainMigrationJob(UUID.randomUUID().toString(), request.isDryRun(), chainIds.size());
+        addJob(job);
+        log.info("Chain migration job {} started for {} chains, dry run: {}", job.getId(), chainIds.size(), job.isDryRun());
+
+        for (String chainId : chainIds) {
+            if (deprecatedChainIds.contains(chainId)) {
+                executor.execute(() -> processChain(job, chainId, context));
+            } else if (existingChainIds.contains(chainId)) {
+                job.addResult(new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.SKIPPED,
+                        NO_DEPRECATED_ELEMENTS_MESSAGE));
+            } else {
+                job.addResult(new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.NOT_FOUND,
+                        CHAIN_NOT_FOUND_MESSAGE + chainId));
+            }
+        }
+        return toResponse(job);
+    }
+
+    public ChainMigrationJobResponse getJob(String jobId) {
+        ChainMigrationJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new EntityNotFoundException(JOB_NOT_FOUND_MESSAGE + jobId);
+        }
+        return toResponse(job);
+    }
+
+    private Collection<String> resolveChainIds(ChainMigrationJobRequest request, Set<String> deprecatedChainIds) {
+        boolean hasChainIds = request.getChainIds() != null && !request.getChainIds().isEmpty();
+        boolean hasFolderId = StringUtils.isNotEmpty(request.getFolderId());
+        int scopes = (hasChainIds ? 1 : 0) + (hasFolderId ? 1 : 0) + (request.isAllDeprecated() ? 1 : 0);
+        if (scopes != 1) {
+            throw new BadRequestException("Exactly one of chainIds, folderId and allDeprecated must be specified");
+        }
+
+        if (hasChainIds) {
+            return new LinkedHashSet<>(request.getChainIds());
+        }
+        if (hasFolderId) {
+            return folderService.findNestedChains(request.getFolderId(), null).stream()
+                    .map(AbstractEntity::getId)
+                    .toList();
+        }
+        return deprecatedChainIds;
+    }
+
+    Set<String> findChainIdsWithDeprecatedElements() {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = builder.createQuery(String.class);
+        Root<ChainElement> root = query.from(ChainElement.class);
+        query.select(root.get("chain").get("id"))
+                .distinct(true)
+                .where(root.get("type").in(chainMigrationService.getDeprecatedElementTypes()));
+        return new HashSet<>(entityManager.createQuery(query).getResultList());
+    }
+
+    Set<String> findExistingChainIds(Collection<String> chainIds) {
+        if (chainIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = builder.createQuery(String.class);
+        Root<Chain> root = query.from(Chain.class);
+        query.select(root.get("id"))
+                .where(root.get("id").in(chainIds));
+        return new HashSet<>(entityManager.createQuery(query).getResultList());
+    }
+
+    private void processChain(ChainMigrationJob job, String chainId, Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        }
+        try {
+            addResult(job, migrateChain(job, chainId));
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private ChainMigrationJob.Result migrateChain(ChainMigrationJob job, String chainId) {
+        ChainMigrationJob.Result result;
+        try {
+            if (job.isDryRun()) {
+                chainMigrationService.checkCanBeMigrated(chainId);
+                result = new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.CAN_BE_MIGRATED, null);
+            } else {
+                chainMigrationService.migrateChainWithoutReload(chainId);
+                result = new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.MIGRATED, null);
+            }
+        } catch (ChainMigrationException e) {
+            result = new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.CANNOT_BE_MIGRATED, e.getMessage());
+        } catch (EntityNotFoundException e) {
+            result = new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            log.error("Chain migration job {} failed to process chain {}", job.getId(), chainId, e);
+            result = new ChainMigrationJob.Result(chainId, ChainMigrationJob.ResultStatus.FAILED, e.getMessage());
+        }
+        return result;
+    }
+
+    private static void addResult(ChainMigrationJob job, ChainMigrationJob.Result result) {
+        if (job.addResult(result)) {
+            log.info("Chain migration job {} finished", job.getId());
+        }
+    }
+
+    private void addJob(ChainMigrationJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            Iterator<ChainMigrationJob> iterator = jobs.values().iterator();
+            while (jobs.size() > jobsHistorySize && iterator.hasNext()) {
+                if (iterator.next().getStatus() == ChainMigrationJob.Status.FINISHED) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static ChainMigrationJobResponse toResponse(ChainMigrationJob job) {
+        return ChainMigrationJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .dryRun(job.isDryRun())
+                .startedWhen(job.getStartedWhen())
+                .finishedWhen(job.getFinishedWhen())
+                .total(job.getTotal())
+                .processed(job.getProcessed())
+                .results(job.getResults().stream()
+                        .map(result -> ChainMigrationResultDTO.builder()
+                                .chainId(result.chainId())
+                                .status(result.status())
+                                .errorMessage(result.errorMessage())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -28,25 +28,27 @@
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
-import org.qubership.integration.platform.catalog.util.DistinctByKey;
 import org.qubership.integration.platform.designtime.catalog.configuration.aspect.ChainModification;
 import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainMigrationException;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.ElementMigration;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.MigrationContext;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.RestrictedContainerMigration;
+import org.qubership.integration.platform.designtime.catalog.utils.ElementIdSet;
+import org.qubership.integration.platform.designtime.catalog.utils.GraphWalker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.qubership.integration.platform.catalog.model.constant.CamelNames.CONTAINER;
 
@@ -56,7 +58,7 @@ public class ChainMigrationService {
 
     private static final String CONTAINING_SWIMLANES_ERROR_MESSAGE = "Chain containing swimlanes cannot be migrated.";
     private static final String CHAIN_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain with id: ";
-    private final ActionsLogService actionLogger;
+    private final BatchedActionsLogService actionLogger;
     private final AuditingHandler auditingHandler;
     private final ChainRepository chainRepository;
     private final ElementRepository elementRepository;
@@ -65,7 +67,7 @@ public class ChainMigrationService {
 
     @Autowired
     public ChainMigrationService(
-            ActionsLogService actionLogger,
+            BatchedActionsLogService actionLogger,
             AuditingHandler auditingHandler,
             ChainRepository chainRepository,
             ElementRepository elementRepository,
@@ -87,9 +89,53 @@ public boolean containsDeprecatedContainers(Chain chain) {
                 .anyMatch(elementMigrations::containsKey);
     }
 
+    public Set<String> getDeprecatedElementTypes() {
+        return elementMigrations.keySet();
+    }
+
     @Transactional
     @ChainModification
     public MigratedChain migrateChain(String chainId) {
+        MigratedChain result = migrate(chainId);
+
+        chainRepository.clearContext();
+
+        Chain migratedChain = chainRepository.findById(chainId)
+                .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
+
+        return new MigratedChain(migratedChain, result.isGroupsRemoved());
+    }
+
+    /**
+     * Migrates the chain without reloading it afterward. Returned chain is the migrated
+     * instance from the current persistence context.
+     */
+    @Transactional
+    @ChainModification
+    public MigratedChain migrateChainWithoutReload(String chainId) {
+        return migrate(chainId);
+    }
+
+    /**
+     * Checks that the chain can be migrated without changing it.
+     *
+     * @throws ChainMigrationException if the chain can't be migrated
+     */
+    @Transactional(readOnly = true)
+    public void checkCanBeMigrated(String chainId) {
+        Chain chain = chainRepository.findById(chainId)
+                .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
+        if (chain.getDefaultSwimlane() != null || chain.getReuseSwimlane() != null) {
+            throw new ChainMigrationException(CONTAINING_SWIMLANES_ERROR_MESSAGE);
+        }
+
+        Map<ChainElement, ElementMigration> startDeprecatedElements = collectStartDeprecatedContainers(chain.getElements());
+        if (!canBeMigrated(startDeprecatedElements, new MigrationContext(elementMigrations))) {
+            throw new ChainMigrationException(getErrorMessage(chainId));
+        }
+    }
+
+    private MigratedChain migrate(String chainId) {
         MigrationContext context = new MigrationContext(elementMigrations);
         Chain chainToMigrate = chainRepository.findById(chainId)
                 .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
@@ -102,11 +148,6 @@ public MigratedChain migrateChain(String chainId) {
         auditingHandler.markModified(migratedChain);
         logChainAction(migratedChain, LogOperation.UPDATE);
 
-        chainRepository.clearContext();
-
-        migratedChain = chainRepository.findById(chainId)
-                .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
-
         boolean groupsRemoved = !context.getGroupsToDelete().isEmpty();
 
         return new MigratedChain(migratedChain, groupsRemoved);
@@ -167,8 +208,7 @@ private Map<ChainElement, ElementMigration> collectStartDeprecatedContainers(Lis
                 .filter(chainElement -> chainElement.getInputDependencies().isEmpty())
                 .filter(chainElement -> !CONTAINER.equals(chainElement.getType()))
                 .toList();
-        Map<ChainElement, ElementMigration> startDeprecatedContainers = toStartDeprecatedContainerStream(startElements)
-                .filter(DistinctByKey.newInstance(Pair::getKey))
+        Map<ChainElement, ElementMigration> startDeprecatedContainers = findStartDeprecatedContainers(startElements).stream()
                 .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
         chainElements.stream()
                 .filter(element -> elementMigrations.get(element.getType()) instanceof RestrictedContainerMigration)
@@ -179,28 +219,49 @@ private Map<ChainElement, ElementMigration> collectStartDeprecatedContainers(Lis
         return startDeprecatedContainers;
     }
 
-    private Stream<Pair<ChainElement, ElementMigration>> toStartDeprecatedContainerStream(List<ChainElement> chainElements) {
-        return chainElements.stream()
-                .flatMap(startElement -> {
-                    ElementMigration elementMigration = elementMigrations.get(startElement.getType());
-                    if (elementMigration == null) {
-                        List<ChainElement> outputElements = startElement.getOutputDependencies().stream()
-                                .map(Dependency::getElementTo)
-                                .toList();
-                        return toStartDeprecatedContainerStream(outputElements);
-                    }
-                    return Stream.of(Pair.of(startElement, elementMigration));
-                });
+    /**
+     * Walks the output dependencies of the start elements depth-first, stopping at the first deprecated
+     * element on each path. Each element is visited once, so cycles and shared paths are not walked again.
+     */
+    private List<Pair<ChainElement, ElementMigration>> findStartDeprecatedContainers(List<ChainElement> startElements) {
+        List<Pair<ChainElement, ElementMigration>> result = new ArrayList<>();
+        ElementIdSet visitedIds = new ElementIdSet();
+        GraphWalker walker = new GraphWalker();
+        walker.run(() -> startElements.forEach(element ->
+                walker.schedule(() -> findStartDeprecatedContainers(element, visitedIds, result, walker))));
+        return result;
+    }
+
+    private void findStartDeprecatedContainers(ChainElement element,
+                                               ElementIdSet visitedIds,
+                                               List<Pair<ChainElement, ElementMigration>> result,
+                                               GraphWalker walker) {
+        if (!visitedIds.add(element.getId())) {
+            return;
+        }
+
+        ElementMigration elementMigration = elementMigrations.get(element.getType());
+        if (elementMigration == null) {
+            element.getOutputDependencies().stream()
+                    .map(Dependency::getElementTo)
+                    .forEach(next -> walker.schedule(() -> findStartDeprecatedContainers(next, visitedIds, result, walker)));
+        } else {
+            result.add(Pair.of(element, elementMigration));
+        }
     }
 
     private boolean hasOnlyCircularDependenciesOnItself(ChainElement chainElement) {
         outerLoop:
         for (Dependency inputDependency : chainElement.getInputDependencies()) {
             Queue<ChainElement> inputElements = new LinkedList<>();
+            ElementIdSet visitedIds = new ElementIdSet();
             inputElements.offer(inputDependency.getElementFrom());
 
             while (!inputElements.isEmpty()) {
                 ChainElement inputElement = inputElements.poll();
+                if (!visitedIds.add(inputElement.getId())) {
+                    continue;
+                }
                 if (inputElement.getParent() != null && chainElement.getId().equals(inputElement.getParent().getId())) {
                     continue outerLoop;
                 }
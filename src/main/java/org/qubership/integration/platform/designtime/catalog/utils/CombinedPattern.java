@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Joins several patterns into a single alternation, so the input is scanned once instead of once per pattern.
+ * At each position alternatives are tried in the given order. Patterns must not use back references
+ * and must have the same flags.
+ * <p>
+ * The alternation skips the text of each match, so matches of other patterns that start inside it are
+ * looked up separately, only within that text. The reported matches are the same as with a separate scan
+ * per pattern.
+ *
+ * @param <T> tag reported together with the matched value of an alternative
+ */
+public class CombinedPattern<T> {
+    private final Pattern pattern;
+    private final List<Alternative<T>> alternatives;
+    // group of the combined pattern that wraps each alternative
+    private final int[] alternativeGroups;
+
+    /**
+     * @param pattern pattern to join
+     * @param groups  groups of the pattern holding the value, the first non-empty one is reported
+     * @param tag     tag reported for matches of the pattern
+     */
+    public record Alternative<T>(Pattern pattern, int[] groups, T tag) {
+    }
+
+    public CombinedPattern(List<Alternative<T>> alternatives) {
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("At least one pattern is required");
+        }
+        int flags = alternatives.get(0).pattern().flags();
+        List<String> regexes = new ArrayList<>();
+        this.alternativeGroups = new int[alternatives.size()];
+        int group = 1;
+        for (int i = 0; i < alternatives.size(); i++) {
+            Pattern alternativePattern = alternatives.get(i).pattern();
+            if (alternativePattern.flags() != flags) {
+                throw new IllegalArgumentException("Patterns with different flags can't be combined: " + alternativePattern);
+            }
+            regexes.add("(" + alternativePattern.pattern() + ")");
+            alternativeGroups[i] = group;
+            group += alternativePattern.matcher("").groupCount() + 1;
+        }
+        this.pattern = Pattern.compile(String.join("|", regexes), flags);
+        this.alternatives = List.copyOf(alternatives);
+    }
+
+    /**
+     * Reports tag and value of each match in the input.
+     */
+    public void findAll(CharSequence input, BiConsumer<T, String> consumer) {
+        Matcher matcher = pattern.matcher(input);
+        // matchers of single alternatives, created when a match of another alternative is found
+        Matcher[] alternativeMatchers = new Matcher[alternatives.size()];
+        // position a separate scan of the alternative would continue from
+        int[] nextPositions = new int[alternatives.size()];
+        while (matcher.find()) {
+            int start = matcher.start();
+            int end = matcher.end();
+            for (int i = 0; i < alternatives.size(); i++) {
+                if (matcher.start(alternativeGroups[i]) >= 0 && nextPositions[i] <= start) {
+                    report(alternatives.get(i), matcher, alternativeGroups[i], consumer);
+                    nextPositions[i] = end;
+                    continue;
+                }
+
+                int position = Math.max(nextPositions[i], start);
+                while (position < end) {
+                    if (alternativeMatchers[i] == null) {
+                        alternativeMatchers[i] = alternatives.get(i).pattern().matcher(input)
+                                .useTransparentBounds(true)
+                                .useAnchoringBounds(false);
+                    }
+                    Matcher alternativeMatcher = alternativeMatchers[i].region(position, input.length());
+                    if (alternativeMatcher.lookingAt()) {
+                        report(alternatives.get(i), alternativeMatcher, 0, consumer);
+                        nextPositions[i] = alternativeMatcher.end();
+                        position = Math.max(alternativeMatcher.end(), position + 1);
+                    } else {
+                        position++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> void report(Alternative<T> alternative, Matcher matcher, int groupOffset, BiConsumer<T, String> consumer) {
+        for (int group : alternative.groups()) {
+            String value = matcher.group(groupOffset + group);
+            if (value != null) {
+                consumer.accept(alternative.tag(), value);
+                return;
+            }
+        }
+    }
+}
@@ -16,7 +16,7 @@
 
 package org.qubership.integration.platform.designtime.catalog.utils;
 
-import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramBuilder;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.SequenceDiagramAppender;
 
 import java.util.List;
 import java.util.Map;
@@ -29,7 +29,7 @@ public class DiagramBuilderUtil {
     private DiagramBuilderUtil() {
     }
 
-    public static void buildValidateRequest(String refChainId, SequenceDiagramBuilder builder, Map<String, Object> properties) {
+    public static void buildValidateRequest(String refChainId, SequenceDiagramAppender builder, Map<String, Object> properties) {
         List<Map<String, Object>> afterList = (List<Map<String, Object>>) properties.get(AFTER);
         if (afterList != null && !afterList.isEmpty()) {
             boolean atLeastOneHandler = false;
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set of element ids backed by a bitset. Ids are mapped to dense indices once,
+ * so membership changes during a traversal only flip bits.
+ */
+public class ElementIdSet {
+    // <element id, index>
+    private final Map<String, Integer> indices;
+    private final BitSet bits = new BitSet();
+
+    public ElementIdSet() {
+        this.indices = new HashMap<>();
+    }
+
+    /**
+     * @param knownIds ids to index in advance, other ids are indexed on first use
+     */
+    public ElementIdSet(Collection<String> knownIds) {
+        this.indices = new HashMap<>(knownIds.size() * 4 / 3 + 1);
+        for (String id : knownIds) {
+            indexOf(id);
+        }
+    }
+
+    /**
+     * @return true if the id was not in the set
+     */
+    public boolean add(String id) {
+        int index = indexOf(id);
+        if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        return true;
+    }
+
+    public boolean contains(String id) {
+        Integer index = indices.get(id);
+        return index != null && bits.get(index);
+    }
+
+    /**
+     * @return true if the id was in the set
+     */
+    public boolean remove(String id) {
+        Integer index = indices.get(id);
+        if (index == null || !bits.get(index)) {
+            return false;
+        }
+        bits.clear(index);
+        return true;
+    }
+
+    public int size() {
+        return bits.cardinality();
+    }
+
+    private int indexOf(String id) {
+        return indices.computeIfAbsent(id, key -> indices.size());
+    }
+}
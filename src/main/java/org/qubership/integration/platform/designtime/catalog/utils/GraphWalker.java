@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Runs graph traversal steps from an explicit deque instead of the call stack,
+ * so the traversal depth is limited only by the heap.
+ * <p>
+ * A step may schedule further steps. Steps scheduled by a step run right after it, in the order
+ * they were scheduled, and before any step scheduled earlier. This is the order in which nested
+ * calls would run, so a recursive traversal is converted by scheduling the recursive calls and
+ * everything that follows them instead of running them in place.
+ */
+public class GraphWalker {
+    private final Deque<Runnable> steps = new ArrayDeque<>();
+    private final List<Runnable> scheduledSteps = new ArrayList<>();
+    private boolean running;
+
+    public void schedule(Runnable step) {
+        scheduledSteps.add(step);
+    }
+
+    /**
+     * Runs the step and all steps scheduled by it transitively.
+     */
+    public void run(Runnable step) {
+        if (running) {
+            throw new IllegalStateException("Graph walker is already running, schedule the step instead");
+        }
+        running = true;
+        try {
+            schedule(step);
+            pushScheduledSteps();
+            while (!steps.isEmpty()) {
+                steps.pop().run();
+                pushScheduledSteps();
+            }
+        } finally {
+            steps.clear();
+            scheduledSteps.clear();
+            running = false;
+        }
+    }
+
+    private void pushScheduledSteps() {
+        for (int i = scheduledSteps.size() - 1; i >= 0; i--) {
+            steps.push(scheduledSteps.get(i));
+        }
+        scheduledSteps.clear();
+    }
+}
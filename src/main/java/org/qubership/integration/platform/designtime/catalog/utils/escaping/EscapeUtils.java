@@ -28,8 +28,25 @@ public class EscapeUtils {
     public static final int UNPRINTABLE_SYMBOLS_THRESHOLD = 32;
     public static final String LINE_BREAK = "<br>";
 
+    // <class, non-final, non-static and not excluded fields of the class>
+    private static final ClassValue<List<Field>> ESCAPED_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers) && !field.isAnnotationPresent(EscapeUtilExclude.class)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
     /**
      * Recursively escape markdown characters in object strings (via reflection).
+     * Objects referenced from several places are escaped only once.
      * <br>Supported parameters types:
      * <br>1. List
      * <br>2. Map
@@ -37,18 +54,22 @@ public class EscapeUtils {
      */
     public static <T> void escapeMarkdownDataRecursive(T object) throws IllegalAccessException, EscapeUtilsException {
         Set<Object> viewedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
-        escapeMarkdownDataRecursive(object, viewedObjects);
+        Set<Object> escapedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        escapeMarkdownDataRecursive(object, viewedObjects, escapedObjects);
     }
 
-    private static <T> void escapeMarkdownDataRecursive(T object, Set<Object> viewedObjects) throws IllegalAccessException, EscapeUtilsException {
-        if (viewedObjects.contains(object)) {
-            throw new EscapeUtilsException("Object reference loop detected");
-        }
-        viewedObjects.add(object);
-        if (object == null || object.getClass().isPrimitive() || object instanceof Enum) {
-            viewedObjects.remove(object);
+    /**
+     * @param viewedObjects  objects on the path from the root object, used to detect reference loops
+     * @param escapedObjects objects whose strings are already escaped
+     */
+    private static <T> void escapeMarkdownDataRecursive(T object, Set<Object> viewedObjects, Set<Object> escapedObjects)
+            throws IllegalAccessException, EscapeUtilsException {
+        if (object == null || object.getClass().isPrimitive() || object instanceof Enum || escapedObjects.contains(object)) {
             return;
         }
+        if (!viewedObjects.add(object)) {
+            throw new EscapeUtilsException("Object reference loop detected");
+        }
         if (object instanceof Map mapObject) {
             for (Object obj : mapObject.entrySet()) {
                 Map.Entry entry = (Map.Entry) obj;
@@ -57,54 +78,34 @@ private static <T> void escapeMarkdownDataRecursive(T object, Set<Object> viewed
                     String escapeResult = EscapeUtils.escapeAndReplaceForMarkdown(stringObject);
                     entry.setValue(escapeResult);
                 } else {
-                    escapeMarkdownDataRecursive(value);
+                    escapeMarkdownDataRecursive(value, viewedObjects, escapedObjects);
                 }
             }
-            viewedObjects.remove(object);
-            return;
-        }
-        if (object instanceof List listObject) {
+        } else if (object instanceof List listObject) {
             for (int i = 0; i < listObject.size(); i++) {
                 Object value = listObject.get(i);
                 if (value instanceof String stringObject) {
                     String escapeResult = EscapeUtils.escapeAndReplaceForMarkdown(stringObject);
                     listObject.set(i, escapeResult);
                 } else {
-                    escapeMarkdownDataRecursive(value);
+                    escapeMarkdownDataRecursive(value, viewedObjects, escapedObjects);
                 }
             }
-            viewedObjects.remove(object);
-            return;
-        }
-
-        // iterate over object class fields
-        Field[] fields = object.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            Class<?> fieldType = field.getType();
-            int modifiers = field.getModifiers();
-            if (!Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers) && !field.isAnnotationPresent(EscapeUtilExclude.class)) {
-                boolean accessible = field.canAccess(object);
-                if (!accessible) {
-                    field.setAccessible(true);
-                }
-                try {
-                    Object fieldValue = field.get(object);
-
-                    if (fieldType == String.class) {
-                        String escapeResult = EscapeUtils.escapeAndReplaceForMarkdown((String) fieldValue);
-                        field.set(object, escapeResult);
-                    } else {
-                        escapeMarkdownDataRecursive(fieldValue);
-                    }
-                } finally {
-                    if (!accessible) {
-                        field.setAccessible(false);
-                    }
+        } else {
+            // iterate over object class fields
+            for (Field field : ESCAPED_FIELDS.get(object.getClass())) {
+                Object fieldValue = field.get(object);
+                if (field.getType() == String.class) {
+                    String escapeResult = EscapeUtils.escapeAndReplaceForMarkdown((String) fieldValue);
+                    field.set(object, escapeResult);
+                } else {
+                    escapeMarkdownDataRecursive(fieldValue, viewedObjects, escapedObjects);
                 }
             }
         }
 
         viewedObjects.remove(object);
+        escapedObjects.add(object);
     }
 
     private static String escapeAndReplaceForMarkdown(String input) {
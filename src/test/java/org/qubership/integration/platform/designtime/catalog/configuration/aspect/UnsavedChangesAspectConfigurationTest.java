@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.configuration.aspect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unsaved changes aspect test")
+public class UnsavedChangesAspectConfigurationTest {
+
+    private TestUnsavedChangesAspect aspect;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        aspect = new TestUnsavedChangesAspect();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        completeTransaction();
+    }
+
+    @DisplayName("Chains changed in a transaction are marked once right before the commit")
+    @Test
+    public void coalescingTest() {
+        aspect.markChainAsUnsaved(element(chain("chain-1")));
+        aspect.markChainAsUnsaved(List.of(element(chain("chain-2"))));
+        aspect.markChainAsUnsaved(element(chain("chain-1")));
+        aspect.markChainAsUnsaved(chain("chain-3"));
+
+        assertThat(aspect.updates, empty());
+
+        commitTransaction();
+
+        assertThat(aspect.updates, equalTo(List.of(List.of("chain-1", "chain-2"))));
+    }
+
+    @DisplayName("Many chains are marked with updates of limited size")
+    @Test
+    public void chunkingTest() {
+        int count = UnsavedChangesAspectConfiguration.UPDATE_BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            aspect.markChainAsUnsaved(element(chain("chain-" + i)));
+        }
+
+        commitTransaction();
+
+        assertThat(aspect.updates.stream().map(List::size).toList(), equalTo(List.of(
+                UnsavedChangesAspectConfiguration.UPDATE_BATCH_SIZE, UnsavedChangesAspectConfiguration.UPDATE_BATCH_SIZE, 1)));
+        assertThat(aspect.updates.get(2), equalTo(List.of("chain-" + (count - 1))));
+    }
+
+    @DisplayName("Chains marked with updates get modification audit values")
+    @Test
+    public void auditValuesTest() {
+        aspect.markChainAsUnsaved(element(chain("chain-1")));
+        commitTransaction();
+
+        assertThat(aspect.updateModifiedWhens, equalTo(List.of(aspect.modifiedWhen)));
+        assertThat(aspect.updateModifiedBys, hasSize(1));
+        assertThat(aspect.updateModifiedBys.get(0), sameInstance(aspect.modifiedBy));
+    }
+
+    @DisplayName("Loaded chains are marked on the entity")
+    @Test
+    public void loadedChainTest() {
+        Chain loaded = chain("loaded");
+        loaded.setLastImportHash("hash");
+        aspect.loadedChains.put(loaded.getId(), loaded);
+
+        aspect.markChainAsUnsaved(element(chain("loaded")));
+        aspect.markChainAsUnsaved(element(chain("other")));
+        commitTransaction();
+
+        assertThat(loaded.isUnsavedChanges(), equalTo(true));
+        assertThat(loaded.getLastImportHash(), equalTo("0"));
+        assertThat(aspect.updates, equalTo(List.of(List.of("other"))));
+    }
+
+    @DisplayName("Audit values are not resolved if all chains are loaded")
+    @Test
+    public void loadedChainsOnlyTest() {
+        aspect.loadedChains.put("loaded", chain("loaded"));
+
+        aspect.markChainAsUnsaved(element(chain("loaded")));
+        commitTransaction();
+
+        assertThat(aspect.updates, empty());
+        verify(aspect.auditingHandler, never()).markModified(any());
+    }
+
+    private static void commitTransaction() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+    }
+
+    private static void completeTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Chain chain(String id) {
+        Chain chain = new Chain();
+        chain.setId(id);
+        return chain;
+    }
+
+    private static ChainElement element(Chain chain) {
+        ChainElement element = new ChainElement();
+        element.setId(UUID.randomUUID().toString());
+        element.setChain(chain);
+        return element;
+    }
+
+    private static class TestUnsavedChangesAspect extends UnsavedChangesAspectConfiguration {
+        private final Map<String, Chain> loadedChains = new HashMap<>();
+        private final List<List<String>> updates = new ArrayList<>();
+        private final List<Timestamp> updateModifiedWhens = new ArrayList<>();
+        private final List<User> updateModifiedBys = new ArrayList<>();
+        private final Timestamp modifiedWhen = new Timestamp(1000);
+        private final User modifiedBy = mock(User.class);
+        private final AuditingHandler auditingHandler;
+
+        TestUnsavedChangesAspect() {
+            this(mock(AuditingHandler.class));
+        }
+
+        private TestUnsavedChangesAspect(AuditingHandler auditingHandler) {
+            super(null, auditingHandler, mock(PlatformTransactionManager.class));
+            this.auditingHandler = auditingHandler;
+            when(auditingHandler.markModified(any(Chain.class))).thenAnswer(invocation -> {
+                Chain chain = invocation.getArgument(0);
+                chain.setModifiedWhen(modifiedWhen);
+                chain.setModifiedBy(modifiedBy);
+                return chain;
+            });
+        }
+
+        @Override
+        Chain findLoadedChain(String chainId) {
+            return loadedChains.get(chainId);
+        }
+
+        @Override
+        void updateChains(List<String> chainIds, Timestamp modifiedWhen, User modifiedBy) {
+            updates.add(List.copyOf(chainIds));
+            updateModifiedWhens.add(modifiedWhen);
+            updateModifiedBys.add(modifiedBy);
+        }
+    }
+}
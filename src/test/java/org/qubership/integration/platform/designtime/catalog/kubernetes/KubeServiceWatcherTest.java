@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.kubernetes;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.*;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeService;
+import org.qubership.integration.platform.designtime.catalog.model.kubernetes.KubeServiceEvent;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@DisplayName("K8s service watcher test")
+public class KubeServiceWatcherTest {
+
+    private static final String NAMESPACE = "test-namespace";
+
+    private FakeKubeServiceApi api;
+    private KubeServiceWatcher watcher;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        api = new FakeKubeServiceApi();
+        watcher = new KubeServiceWatcher(api, NAMESPACE, 2, 10);
+    }
+
+    @DisplayName("Initial list is paginated and reports all services as added")
+    @Test
+    public void initialListTest() throws Exception {
+        api.pages.add(page("10", "page-2", service("1", "orders", "1", 8080), service("2", "users", "1", 8080)));
+        api.pages.add(page("10", null, service("3", "billing", "1", 8080), service("4", "billing-v2", "1", 8080)));
+
+        watcher.sync();
+
+        assertThat(watcher.isSynced(), equalTo(true));
+        assertThat(api.continueTokens, equalTo(Arrays.asList(null, "page-2")));
+        assertThat(names(watcher.getServices()), containsInAnyOrder("orders", "users", "billing"));
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("ADDED orders", "ADDED users", "ADDED billing"));
+        assertThat(watcher.pollEvents(), empty());
+    }
+
+    @DisplayName("Watch events update the cache starting from the list resource version")
+    @Test
+    public void watchEventsTest() throws Exception {
+        api.pages.add(page("10", null, service("1", "orders", "1", 8080), service("2", "users", "1", 8080)));
+        watcher.sync();
+        watcher.pollEvents();
+
+        api.watches.add(List.of(
+                new Watch.Response<>("MODIFIED", service("1", "orders", "11", 8080)),
+                new Watch.Response<>("MODIFIED", service("2", "users", "12", 8080, 9090)),
+                new Watch.Response<>("ADDED", service("3", "billing", "13", 8080)),
+                new Watch.Response<>("DELETED", service("1", "orders", "14", 8080)),
+                new Watch.Response<>("BOOKMARK", bookmark("15"))
+        ));
+        watcher.sync();
+
+        assertThat(api.watchResourceVersions, equalTo(List.of("10")));
+        assertThat(names(watcher.getServices()), containsInAnyOrder("users", "billing"));
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("CHANGED users", "ADDED billing", "REMOVED orders"));
+
+        api.watches.add(List.of());
+        watcher.sync();
+
+        assertThat(api.watchResourceVersions, equalTo(List.of("10", "15")));
+    }
+
+    @DisplayName("Expired resource version leads to a new list compared with the cache")
+    @Test
+    public void expiredResourceVersionTest() throws Exception {
+        api.pages.add(page("10", null, service("1", "orders", "1", 8080), service("2", "users", "1", 8080)));
+        watcher.sync();
+        watcher.pollEvents();
+
+        api.watches.add(List.of(new Watch.Response<>("ERROR", new V1Status().code(410).message("too old"))));
+        watcher.sync();
+
+        api.pages.add(page("20", null, service("2", "users", "2", 8081), service("3", "billing", "1", 8080)));
+        watcher.sync();
+
+        assertThat(names(watcher.getServices()), containsInAnyOrder("users", "billing"));
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("REMOVED orders", "CHANGED users", "ADDED billing"));
+    }
+
+    @DisplayName("Expired resource version reported by the watch request leads to a new list")
+    @Test
+    public void expiredResourceVersionResponseTest() throws Exception {
+        api.pages.add(page("10", null, service("1", "orders", "1", 8080)));
+        watcher.sync();
+        watcher.pollEvents();
+
+        api.watchError = new ApiException(410, "too old");
+        watcher.sync();
+
+        api.pages.add(page("20", null, service("1", "orders", "1", 8080), service("3", "billing", "1", 8080)));
+        watcher.sync();
+        api.watches.add(List.of());
+        watcher.sync();
+
+        assertThat(names(watcher.getServices()), containsInAnyOrder("orders", "billing"));
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("ADDED billing"));
+        assertThat(api.watchResourceVersions, equalTo(List.of("10", "20")));
+    }
+
+    @DisplayName("Service modified into a blue-green one is removed from the cache")
+    @Test
+    public void blueGreenServiceTest() throws Exception {
+        api.pages.add(page("10", null, service("1", "orders", "1", 8080), service("2", "users", "1", 8080)));
+        watcher.sync();
+        watcher.pollEvents();
+
+        api.watches.add(List.of(new Watch.Response<>("MODIFIED", service("1", "orders-v2", "11", 8080))));
+        watcher.sync();
+
+        assertThat(names(watcher.getServices()), containsInAnyOrder("users"));
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("REMOVED orders"));
+    }
+
+    @DisplayName("Requeued events are polled again with newer events merged into them")
+    @Test
+    public void requeueEventsTest() throws Exception {
+        api.pages.add(page("10", null, service("1", "orders", "1", 8080), service("2", "users", "1", 8080)));
+        watcher.sync();
+        List<KubeServiceEvent> polled = watcher.pollEvents();
+
+        api.watches.add(List.of(
+                new Watch.Response<>("DELETED", service("1", "orders", "11", 8080)),
+                new Watch.Response<>("ADDED", service("3", "billing", "12", 8080))
+        ));
+        watcher.sync();
+        watcher.requeueEvents(polled);
+
+        assertThat(events(watcher.pollEvents()), containsInAnyOrder("ADDED users", "ADDED billing"));
+        assertThat(watcher.pollEvents(), empty());
+    }
+
+    private static List<String> names(Collection<KubeService> services) {
+        return services.stream().map(KubeService::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> events(List<KubeServiceEvent> events) {
+        return events.stream()
+                .map(event -> event.type() + " " + event.service().getName())
+                .collect(Collectors.toList());
+    }
+
+    private static V1ServiceList page(String resourceVersion, String continueToken, V1Service... services) {
+        return new V1ServiceList()
+                .items(new ArrayList<>(Arrays.asList(services)))
+                .metadata(new V1ListMeta().resourceVersion(resourceVersion)._continue(continueToken));
+    }
+
+    private static V1Service service(String uid, String name, String resourceVersion, Integer... ports) {
+        return new V1Service()
+                .metadata(new V1ObjectMeta().uid(uid).name(name).resourceVersion(resourceVersion))
+                .spec(new V1ServiceSpec().ports(Arrays.stream(ports)
+                        .map(port -> new V1ServicePort().port(port))
+                        .collect(Collectors.toList())));
+    }
+
+    private static V1Service bookmark(String resourceVersion) {
+        return new V1Service().metadata(new V1ObjectMeta().resourceVersion(resourceVersion));
+    }
+
+    private static class FakeKubeServiceApi implements KubeServiceApi {
+        private final Deque<V1ServiceList> pages = new ArrayDeque<>();
+        private final Deque<List<Watch.Response<V1Service>>> watches = new ArrayDeque<>();
+        private final List<String> continueTokens = new ArrayList<>();
+        private final List<String> watchResourceVersions = new ArrayList<>();
+        private ApiException watchError;
+
+        @Override
+        public V1ServiceList listServices(String continueToken, int limit) {
+            continueTokens.add(continueToken);
+            return pages.removeFirst();
+        }
+
+        @Override
+        public Watchable<V1Service> watchServices(String resourceVersion, int timeoutSeconds) throws ApiException {
+            watchResourceVersions.add(resourceVersion);
+            if (watchError != null) {
+                ApiException error = watchError;
+                watchError = null;
+                throw error;
+            }
+            Iterator<Watch.Response<V1Service>> iterator = watches.removeFirst().iterator();
+            return new Watchable<>() {
+                @Override
+                public Iterator<Watch.Response<V1Service>> iterator() {
+                    return this;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Watch.Response<V1Service> next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
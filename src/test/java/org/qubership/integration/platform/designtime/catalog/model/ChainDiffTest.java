@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+@DisplayName("Chain diff test")
+public class ChainDiffTest {
+
+    @DisplayName("Elements are distinct by id and kept in order of addition")
+    @Test
+    public void addElementsTest() {
+        ChainElement first = element("1");
+        ChainElement second = element("2");
+        ChainDiff chainDiff = new ChainDiff();
+
+        chainDiff.addUpdatedElement(first);
+        chainDiff.addUpdatedElements(List.of(second, element("1")));
+        chainDiff.addUpdatedElement(second);
+
+        assertThat(chainDiff.getUpdatedElements(), equalTo(List.of(first, second)));
+        assertThat(chainDiff.getUpdatedElements().get(0), sameInstance(first));
+        assertThat(chainDiff.getCreatedElements(), empty());
+        assertThat(chainDiff.getRemovedElements(), empty());
+    }
+
+    @DisplayName("Merge appends changes that are not present yet")
+    @Test
+    public void mergeTest() {
+        ChainElement first = element("1");
+        ChainElement second = element("2");
+        ChainElement third = element("3");
+        ChainDiff chainDiff = new ChainDiff();
+        chainDiff.addRemovedElements(List.of(first, second));
+
+        ChainDiff delta = new ChainDiff();
+        delta.addRemovedElements(List.of(element("2"), third));
+        delta.addCreatedElement(first);
+        chainDiff.merge(delta);
+
+        assertThat(chainDiff.getRemovedElements(), equalTo(List.of(first, second, third)));
+        assertThat(chainDiff.getRemovedElements().get(1), sameInstance(second));
+        assertThat(chainDiff.getCreatedElements(), equalTo(List.of(first)));
+    }
+
+    private static ChainElement element(String id) {
+        return ChainElement.builder().id(id).build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.rest.v1.controller;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.catalog.mapping.EntityDiffResponseMapper;
+import org.qubership.integration.platform.catalog.service.difference.ChainDifferenceService;
+import org.qubership.integration.platform.designtime.catalog.exception.GlobalExceptionHandler;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobResponse;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationResultDTO;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainLabelsMapper;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.ChainMapper;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.mapping.MigratedChainMapper;
+import org.qubership.integration.platform.designtime.catalog.service.ChainService;
+import org.qubership.integration.platform.designtime.catalog.service.UsedPropertiesAnalyzer;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationJob;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationJobService;
+import org.qubership.integration.platform.designtime.catalog.service.migration.ChainMigrationService;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Chain controller test")
+public class ChainControllerTest {
+
+    private static final String JOB_ID = "d2ecaeed-9249-40dd-b92d-7e0440622794";
+
+    private ChainMigrationJobService chainMigrationJobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        chainMigrationJobService = mock(ChainMigrationJobService.class);
+        ChainController controller = new ChainController(
+                mock(ChainService.class),
+                mock(ChainDifferenceService.class),
+                mock(ChainMapper.class),
+                mock(ChainMigrationService.class),
+                mock(MigratedChainMapper.class),
+                mock(ChainLabelsMapper.class),
+                mock(EntityDiffResponseMapper.class),
+                mock(UsedPropertiesAnalyzer.class),
+                chainMigrationJobService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @DisplayName("Migration job is accepted")
+    @Test
+    public void startMigrationJobTest() throws Exception {
+        when(chainMigrationJobService.startJob(any())).thenReturn(ChainMigrationJobResponse.builder()
+                .id(JOB_ID)
+                .status(ChainMigrationJob.Status.RUNNING)
+                .dryRun(true)
+                .total(2)
+                .processed(1)
+                .results(List.of(ChainMigrationResultDTO.builder()
+                        .chainId("chain-1")
+                        .status(ChainMigrationJob.ResultStatus.NOT_FOUND)
+                        .errorMessage("Can't find chain with id: chain-1")
+                        .build()))
+                .build());
+
+        mockMvc.perform(post("/v1/chains/migration-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"chainIds\": [\"chain-1\", \"chain-2\"], \"dryRun\": true}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"));
+
+        ArgumentCaptor<ChainMigrationJobRequest> captor = ArgumentCaptor.forClass(ChainMigrationJobRequest.class);
+        verify(chainMigrationJobService).startJob(captor.capture());
+        assertThat(captor.getValue().getChainIds(), equalTo(List.of("chain-1", "chain-2")));
+        assertThat(captor.getValue().isDryRun(), equalTo(true));
+    }
+
+    @DisplayName("Invalid migration job scope is rejected")
+    @Test
+    public void startMigrationJobWithInvalidScopeTest() throws Exception {
+        when(chainMigrationJobService.startJob(any()))
+                .thenThrow(new BadRequestException("Exactly one of chainIds, folderId and allDeprecated must be specified"));
+
+        mockMvc.perform(post("/v1/chains/migration-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("Migration job progress is returned")
+    @Test
+    public void getMigrationJobTest() throws Exception {
+        when(chainMigrationJobService.getJob(JOB_ID)).thenReturn(ChainMigrationJobResponse.builder()
+                .id(JOB_ID)
+                .status(ChainMigrationJob.Status.FINISHED)
+                .total(1)
+                .processed(1)
+                .results(List.of())
+                .build());
+
+        mockMvc.perform(get("/v1/chains/migration-jobs/{jobId}", JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FINISHED"))
+                .andExpect(jsonPath("$.processed").value(1));
+    }
+
+    @DisplayName("Unknown migration job is not found")
+    @Test
+    public void getUnknownMigrationJobTest() throws Exception {
+        when(chainMigrationJobService.getJob("unknown")).thenThrow(new EntityNotFoundException("unknown"));
+
+        mockMvc.perform(get("/v1/chains/migration-jobs/{jobId}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
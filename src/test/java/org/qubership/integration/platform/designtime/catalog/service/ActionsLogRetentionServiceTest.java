@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@DisplayName("Actions log retention service test")
+public class ActionsLogRetentionServiceTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final Timestamp CUTOFF = new Timestamp(1_000_000L);
+
+    private CountingTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Object> expiredIds;
+    private List<String> calls;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        transactionManager = new CountingTransactionManager();
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new ArrayList<>();
+    }
+
+    @DisplayName("Expired records are deleted in batches, each one in its own transaction")
+    @Test
+    public void deleteInBatchesTest() {
+        expiredIds = ids(25);
+
+        long deleted = createService(0).deleteOlderThan("7 days");
+
+        assertThat(deleted, equalTo(25L));
+        assertThat(expiredIds.isEmpty(), equalTo(true));
+        assertThat(calls, equalTo(List.of(
+                "1: cutoff 7 days",
+                "2: find 10", "2: delete 10",
+                "3: find 10", "3: delete 10",
+                "4: find 10", "4: delete 5")));
+    }
+
+    @DisplayName("Cleanup stops on an empty batch when the last batch is full")
+    @Test
+    public void deleteFullBatchesTest() {
+        expiredIds = ids(20);
+
+        long deleted = createService(0).deleteOlderThan("1 hour");
+
+        assertThat(deleted, equalTo(20L));
+        assertThat(calls, equalTo(List.of(
+                "1: cutoff 1 hour",
+                "2: find 10", "2: delete 10",
+                "3: find 10", "3: delete 10",
+                "4: find 10")));
+    }
+
+    @DisplayName("Nothing is deleted when there are no expired records")
+    @Test
+    public void deleteNothingTest() {
+        expiredIds = ids(0);
+
+        long deleted = createService(0).deleteOlderThan("1 hour");
+
+        assertThat(deleted, equalTo(0L));
+        assertThat(calls, equalTo(List.of("1: cutoff 1 hour", "2: find 10")));
+        assertThat(meterRegistry.get("qip.actions.log.cleanup.deleted").counter().count(), equalTo(0.0));
+    }
+
+    @DisplayName("Deleted records and cleanup duration are reported as metrics")
+    @Test
+    public void metricsTest() {
+        expiredIds = ids(15);
+        ActionsLogRetentionService service = createService(0);
+
+        service.deleteOlderThan("7 days");
+        expiredIds = ids(3);
+        service.deleteOlderThan("7 days");
+
+        assertThat(meterRegistry.get("qip.actions.log.cleanup.deleted").counter().count(), equalTo(18.0));
+        assertThat(meterRegistry.get("qip.actions.log.cleanup.duration").timer().count(), equalTo(2L));
+    }
+
+    @DisplayName("Cleanup stops when interrupted during a pause between batches")
+    @Test
+    public void interruptedPauseTest() {
+        expiredIds = ids(25);
+
+        Thread.currentThread().interrupt();
+        long deleted;
+        try {
+            deleted = createService(60_000).deleteOlderThan("7 days");
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(deleted, equalTo(10L));
+        assertThat(expiredIds.size(), equalTo(15));
+    }
+
+    private ActionsLogRetentionService createService(long batchPauseMillis) {
+        return new ActionsLogRetentionService(null, transactionManager, meterRegistry, BATCH_SIZE, batchPauseMillis) {
+            @Override
+            Timestamp resolveCutoff(String interval) {
+                record("cutoff " + interval);
+                return CUTOFF;
+            }
+
+            @Override
+            List<Object> findExpiredIds(Timestamp cutoff, int limit) {
+                assertThat(cutoff, equalTo(CUTOFF));
+                record("find " + limit);
+                return new ArrayList<>(expiredIds.subList(0, Math.min(limit, expiredIds.size())));
+            }
+
+            @Override
+            int deleteByIds(List<Object> ids) {
+                record("delete " + ids.size());
+                expiredIds.removeAll(ids);
+                return ids.size();
+            }
+        };
+    }
+
+    private void record(String call) {
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive(), equalTo(true));
+        calls.add(transactionManager.transactions + ": " + call);
+    }
+
+    private static List<Object> ids(int count) {
+        return new ArrayList<>(IntStream.range(0, count).mapToObj(String::valueOf).toList());
+    }
+
+    private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+        private int transactions;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            transactions++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.service.ActionsLogService;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Batched actions log service test")
+public class BatchedActionsLogServiceTest {
+
+    private ActionsLogService actionsLogService;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchedActionsLogService batchedActionsLogService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        actionsLogService = mock(ActionsLogService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        batchedActionsLogService = new BatchedActionsLogService(actionsLogService, new NoOpTransactionManager(),
+                Executors.newSingleThreadExecutor(), meterRegistry, 100, 10);
+        batchedActionsLogService.start();
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() throws InterruptedException {
+        batchedActionsLogService.stop();
+    }
+
+    @DisplayName("Record logged outside of a transaction is written in background")
+    @Test
+    public void logActionTest() {
+        ActionLog action = ActionLog.builder().entityId("1").build();
+
+        batchedActionsLogService.logAction(action);
+
+        verify(actionsLogService, timeout(5_000)).logAction(action);
+    }
+
+    @DisplayName("Records logged within a transaction are written after commit")
+    @Test
+    public void logActionAfterCommitTest() {
+        ActionLog first = ActionLog.builder().entityId("1").build();
+        ActionLog second = ActionLog.builder().entityId("2").build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            batchedActionsLogService.logAction(first);
+            batchedActionsLogService.logAction(second);
+            verify(actionsLogService, after(200).never()).logAction(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(actionsLogService, timeout(5_000)).logAction(first);
+        verify(actionsLogService, timeout(5_000)).logAction(second);
+        assertThat(meterRegistry.get("qip.actions.log.dropped").counter().count(), equalTo(0.0));
+    }
+
+    @DisplayName("Records logged within a rolled back transaction are discarded")
+    @Test
+    public void logActionRollbackTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            batchedActionsLogService.logAction(ActionLog.builder().entityId("1").build());
+
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(actionsLogService, after(200).never()).logAction(any());
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
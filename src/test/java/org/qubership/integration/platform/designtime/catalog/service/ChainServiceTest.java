@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FoldableEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.*;
+import org.qubership.integration.platform.catalog.util.ElementUtils;
+import org.qubership.integration.platform.designtime.catalog.service.filter.ChainFilterPlanner;
+import org.qubership.integration.platform.designtime.catalog.service.filter.ChainFilterSpecificationBuilder;
+import org.springframework.data.auditing.AuditingHandler;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Chain service test")
+public class ChainServiceTest {
+
+    private ChainRepository chainRepository;
+    private FolderService folderService;
+    private EntityManager entityManager;
+    private TestChainService chainService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        chainRepository = mock(ChainRepository.class);
+        folderService = mock(FolderService.class);
+        entityManager = mock(EntityManager.class);
+        chainService = new TestChainService(chainRepository, folderService, entityManager);
+        when(folderService.save(any(Folder.class), any(Folder.class))).thenAnswer(invocation -> {
+            Folder folder = invocation.getArgument(0);
+            folder.setId(UUID.randomUUID().toString());
+            folder.setParentFolder(invocation.getArgument(1));
+            return folder;
+        });
+    }
+
+    @DisplayName("Copy name gets the first free number")
+    @Test
+    public void generateCopyNameTest() {
+        chainService.takenNames.addAll(Set.of("Orders", "Orders (1)", "Orders (3)"));
+
+        assertThat(chainService.generateCopyName(Chain.class, "Orders", "folder"), equalTo("Orders (2)"));
+        assertThat(chainService.generateCopyName(Chain.class, "Users", "folder"), equalTo("Users"));
+        assertThat(chainService.generateCopyName(Chain.class, "Orders (1)", "folder"), equalTo("Orders (1) (1)"));
+    }
+
+    @DisplayName("Folder tree is copied with its chains and the copy is read after the copies are flushed and detached")
+    @Test
+    public void copyFolderTest() {
+        Folder root = folder("root", "Root", null);
+        Folder child = folder("child", "Child", root);
+        root.getChainList().add(chain("chain-1", "First", root));
+        child.getChainList().add(chain("chain-2", "Second", child));
+        Folder target = folder("target", "Target", null);
+        Folder reloaded = new Folder();
+        when(folderService.findById("root")).thenReturn(root);
+        when(folderService.findEntityByIdOrNull("target")).thenReturn(target);
+        when(folderService.findById(argThat((String id) -> !"root".equals(id)))).thenReturn(reloaded);
+        chainService.takenNames.add("Root");
+
+        Folder copy = chainService.copyFolder("root", "target");
+
+        assertThat(copy, sameInstance(reloaded));
+        assertThat(chainService.copiedChains, containsInAnyOrder(
+                "First -> Root (1) in Target", "Second -> Child in Root (1)"));
+        ArgumentCaptor<Object> detached = ArgumentCaptor.forClass(Object.class);
+        InOrder inOrder = inOrder(chainRepository, entityManager);
+        inOrder.verify(chainRepository).flush();
+        inOrder.verify(entityManager, times(4)).detach(detached.capture());
+        assertThat(detached.getAllValues().stream().map(entity -> ((FoldableEntity) entity).getName()).toList(),
+                containsInAnyOrder("First", "Second", "Root (1)", "Child"));
+        for (Object source : List.of(root, child, target, root.getChainList().get(0), child.getChainList().get(0))) {
+            verify(entityManager, never()).detach(same(source));
+        }
+        verify(chainRepository, never()).clearContext();
+    }
+
+    @DisplayName("Folder copied into its own subfolder is copied once")
+    @Test
+    public void copyFolderIntoSubfolderTest() {
+        Folder root = folder("root", "Root", null);
+        Folder child = folder("child", "Child", root);
+        when(folderService.findById("root")).thenReturn(root);
+        when(folderService.findEntityByIdOrNull("child")).thenAnswer(invocation -> child);
+        when(folderService.findById(argThat((String id) -> !"root".equals(id)))).thenReturn(new Folder());
+
+        chainService.copyFolder("root", "child");
+
+        verify(folderService, times(2)).save(any(Folder.class), any(Folder.class));
+    }
+
+    private static Folder folder(String id, String name, Folder parent) {
+        Folder folder = new Folder();
+        folder.setId(id);
+        folder.setName(name);
+        folder.setParentFolder(parent);
+        if (parent != null) {
+            parent.getFolderList().add(folder);
+        }
+        return folder;
+    }
+
+    private static Chain chain(String id, String name, Folder parent) {
+        Chain chain = new Chain();
+        chain.setId(id);
+        chain.setName(name);
+        chain.setParentFolder(parent);
+        return chain;
+    }
+
+    private static class TestChainService extends ChainService {
+        private final Set<String> takenNames = new HashSet<>();
+        private final List<String> copiedChains = new ArrayList<>();
+
+        TestChainService(ChainRepository chainRepository, FolderService folderService, EntityManager entityManager) {
+            super(chainRepository, mock(ElementRepository.class), mock(MaskedFieldRepository.class),
+                    mock(DependencyRepository.class), mock(ChainLabelsRepository.class), mock(ElementService.class),
+                    folderService, mock(DeploymentService.class), mock(BatchedActionsLogService.class),
+                    mock(ElementUtils.class), mock(ChainFilterSpecificationBuilder.class), mock(AuditingHandler.class),
+                    mock(ChainFilterPlanner.class), mock(ChainUsageIndex.class), mock(ElementDescriptorIndex.class),
+                    mock(FolderPathIndex.class), entityManager);
+        }
+
+        @Override
+        Set<String> findTakenCopyNames(Class<? extends FoldableEntity> entityClass, String name, String folderId) {
+            return takenNames;
+        }
+
+        @Override
+        Chain copyChain(Chain chain, Folder parentFolder, String name) {
+            String parentName = parentFolder.getParentFolder() == null ? null : parentFolder.getParentFolder().getName();
+            copiedChains.add(name + " -> " + parentFolder.getName() + " in " + parentName);
+            return chain(UUID.randomUUID().toString(), name, parentFolder);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.dto.system.UsedSystem;
+import org.qubership.integration.platform.designtime.catalog.model.ChainElementsChangedEvent;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.ElementUsage;
+import org.qubership.integration.platform.designtime.catalog.service.ChainUsageIndex.UsageProperty;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@DisplayName("Chain usage index test")
+public class ChainUsageIndexTest {
+
+    private static final String CHAIN_1 = "chain-1";
+    private static final String CHAIN_2 = "chain-2";
+    private static final String SERVICE_CALL = "service-call";
+
+    @DisplayName("System usages of several chains are merged by system")
+    @Test
+    public void toUsedSystemsTest() {
+        List<UsedSystem> actual = ChainUsageIndex.toUsedSystems(List.of(
+                List.of(usage(CHAIN_1, "system-1", "spec-1", null), usage(CHAIN_1, "system-2", null, null)),
+                List.of(usage(CHAIN_2, "system-1", "spec-2", null), usage(CHAIN_2, "system-1", "spec-1", null),
+                        usage(CHAIN_2, "system-2", " ", null),
+                        new ElementUsage(CHAIN_2, "mapper", "system-3", null, null, null, null))
+        ));
+
+        assertThat(actual, equalTo(List.of(
+                new UsedSystem("system-1", List.of("spec-1", "spec-2")),
+                new UsedSystem("system-2", List.of())
+        )));
+    }
+
+    @DisplayName("Without cache usages are loaded on each request")
+    @Test
+    public void cacheDisabledTest() {
+        TestChainUsageIndex index = new TestChainUsageIndex(false);
+        index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-1", "spec-1", "operation-1")));
+
+        index.getUsedSystems(List.of(CHAIN_1));
+        List<ElementUsage> actual = index.findUsages(UsageProperty.OPERATION, List.of("operation-1"));
+
+        assertThat(actual, equalTo(index.usages.get(CHAIN_1)));
+        assertThat(index.requests, equalTo(List.of("[chain-1]", "OPERATION [operation-1]")));
+    }
+
+    @DisplayName("Cached chain usages are reloaded only after their elements change")
+    @Test
+    public void chainUsagesCacheTest() {
+        TestChainUsageIndex index = new TestChainUsageIndex(true);
+        index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-1", "spec-1", null)));
+
+        List<UsedSystem> first = index.getUsedSystems(List.of(CHAIN_1, CHAIN_2));
+        List<UsedSystem> second = index.getUsedSystems(List.of(CHAIN_2, CHAIN_1));
+        index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-3", null, null)));
+        index.onChainElementsChanged(new ChainElementsChangedEvent(Set.of(CHAIN_1)));
+        List<UsedSystem> third = index.getUsedSystems(List.of(CHAIN_1, CHAIN_2));
+
+        assertThat(first, equalTo(List.of(new UsedSystem("system-1", List.of("spec-1")))));
+        assertThat(second, equalTo(first));
+        assertThat(third, equalTo(List.of(new UsedSystem("system-3", List.of()))));
+        assertThat(index.requests, equalTo(List.of("[chain-1, chain-2]", "[chain-1]")));
+    }
+
+    @DisplayName("All usages are loaded once, changed chains are reloaded")
+    @Test
+    public void allUsagesCacheTest() {
+        TestChainUsageIndex index = new TestChainUsageIndex(true);
+        index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-1", "spec-1", "operation-1")));
+        index.usages.put(CHAIN_2, List.of(usage(CHAIN_2, "system-2", "spec-2", "operation-2")));
+
+        index.getAllUsedSystems();
+        index.usages.remove(CHAIN_2);
+        index.onChainElementsChanged(new ChainElementsChangedEvent(Set.of(CHAIN_2)));
+        List<UsedSystem> actual = index.getAllUsedSystems();
+        List<ElementUsage> usages = index.findUsages(UsageProperty.OPERATION, List.of("operation-1", "operation-2"));
+
+        assertThat(actual, containsInAnyOrder(new UsedSystem("system-1", List.of("spec-1"))));
+        assertThat(usages, equalTo(index.usages.get(CHAIN_1)));
+        assertThat(index.requests, equalTo(List.of("all", "[chain-2]")));
+    }
+
+    @DisplayName("Usages loaded while chains change are not cached")
+    @Test
+    public void changedDuringLoadTest() {
+        TestChainUsageIndex index = new TestChainUsageIndex(true);
+        index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-1", "spec-1", null)));
+        index.onLoad = () -> {
+            index.usages.put(CHAIN_1, List.of(usage(CHAIN_1, "system-2", null, null)));
+            index.onChainElementsChanged(new ChainElementsChangedEvent(Set.of(CHAIN_1)));
+        };
+        List<UsedSystem> loadedChain = index.getUsedSystems(List.of(CHAIN_1));
+        List<UsedSystem> loadedAll = index.getAllUsedSystems();
+
+        index.onLoad = null;
+        List<UsedSystem> reloadedChain = index.getUsedSystems(List.of(CHAIN_1));
+        List<UsedSystem> reloadedAll = index.getAllUsedSystems();
+        index.getAllUsedSystems();
+
+        assertThat(loadedChain, equalTo(List.of(new UsedSystem("system-1", List.of("spec-1")))));
+        assertThat(loadedAll, equalTo(List.of(new UsedSystem("system-2", List.of()))));
+        assertThat(reloadedChain, equalTo(List.of(new UsedSystem("system-2", List.of()))));
+        assertThat(reloadedAll, equalTo(reloadedChain));
+        assertThat(index.requests, equalTo(List.of("[chain-1]", "all", "[chain-1]", "all")));
+    }
+
+    @DisplayName("Many chain and referenced ids are queried in chunks")
+    @Test
+    public void chunkedQueriesTest() {
+        TestChainUsageIndex index = new TestChainUsageIndex(false);
+        List<String> chainIds = new ArrayList<>();
+        List<String> operationIds = new ArrayList<>();
+        for (int i = 0; i < ChainUsageIndex.QUERY_BATCH_SIZE * 2 + 1; i++) {
+            chainIds.add("chain-" + i);
+            operationIds.add("operation-" + i);
+            index.usages.put("chain-" + i, List.of(usage("chain-" + i, "system-" + i, null, "operation-" + i)));
+        }
+
+        List<UsedSystem> usedSystems = index.getUsedSystems(chainIds);
+        List<ElementUsage> usages = index.findUsages(UsageProperty.OPERATION, operationIds);
+
+        assertThat(usedSystems.size(), equalTo(chainIds.size()));
+        assertThat(usages.size(), equalTo(operationIds.size()));
+        assertThat(index.requests.size(), equalTo(6));
+    }
+
+    private static ElementUsage usage(String chainId, String systemId, String specificationId, String operationId) {
+        return new ElementUsage(chainId, SERVICE_CALL, systemId, null, specificationId, specificationId, operationId);
+    }
+
+    private static class TestChainUsageIndex extends ChainUsageIndex {
+        private final Map<String, List<ElementUsage>> usages = new HashMap<>();
+        private final List<String> requests = new ArrayList<>();
+        // runs after usages are queried, as a change committed by another transaction
+        private Runnable onLoad;
+
+        TestChainUsageIndex(boolean cacheEnabled) {
+            super(null, cacheEnabled);
+        }
+
+        @Override
+        Map<String, List<ElementUsage>> queryUsages(Collection<String> chainIds, UsageProperty property, Collection<String> ids) {
+            if (property != null) {
+                requests.add(property + " " + ids);
+            } else {
+                requests.add(chainIds == null ? "all" : chainIds.toString());
+            }
+            Map<String, List<ElementUsage>> result = new HashMap<>();
+            usages.forEach((chainId, chainUsages) -> {
+                List<ElementUsage> filtered = chainUsages.stream()
+                        .filter(usage -> property == null || ids.contains(usage.get(property)))
+                        .toList();
+                if ((chainIds == null || chainIds.contains(chainId)) && !filtered.isEmpty()) {
+                    result.put(chainId, filtered);
+                }
+            });
+            if (onLoad != null) {
+                onLoad.run();
+            }
+            return result;
+        }
+    }
+}
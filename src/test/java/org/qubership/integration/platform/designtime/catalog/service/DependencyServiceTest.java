@@ -31,7 +31,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -74,6 +73,7 @@
         DescriptorPropertiesConfiguration.class,
         LibraryResourceLoader.class,
         LibraryElementsService.class,
+        ElementDescriptorIndex.class,
         OrderedElementService.class,
         ElementUtils.class,
         ElementService.class,
@@ -120,7 +120,7 @@ public class DependencyServiceTest {
     @MockBean
     SwimlaneService swimlaneService;
     @MockBean
-    ActionsLogService actionsLogService;
+    BatchedActionsLogService actionsLogService;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.qubership.integration.platform.catalog.configuration.element.descriptor.DescriptorPropertiesConfiguration;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
+import org.qubership.integration.platform.designtime.catalog.testutils.configuration.TestConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+@DisplayName("Element descriptor index test")
+@ContextConfiguration(classes = {
+        TestConfig.class,
+        DescriptorPropertiesConfiguration.class,
+        LibraryElementsService.class,
+        LibraryResourceLoader.class,
+        ElementDescriptorIndex.class
+})
+@ExtendWith(SpringExtension.class)
+public class ElementDescriptorIndexTest {
+
+    @Autowired
+    private LibraryElementsService libraryService;
+    @Autowired
+    private ElementDescriptorIndex descriptorIndex;
+
+    @DisplayName("Element types are interned to stable ids")
+    @Test
+    public void typeIdTest() {
+        int triggerTypeId = descriptorIndex.getTypeId("test-trigger");
+        int elementTypeId = descriptorIndex.getTypeId(ChainElement.builder().type("test-element").build());
+
+        assertThat(triggerTypeId, not(equalTo(ElementDescriptorIndex.UNKNOWN_TYPE)));
+        assertThat(elementTypeId, not(equalTo(triggerTypeId)));
+        assertThat(descriptorIndex.getTypeId("test-trigger"), equalTo(triggerTypeId));
+        assertThat(descriptorIndex.getDescriptor(triggerTypeId),
+                sameInstance(libraryService.getElementDescriptor("test-trigger")));
+    }
+
+    @DisplayName("Flags are derived from element descriptors")
+    @Test
+    public void flagsTest() {
+        ChainElement trigger = ChainElement.builder().type("test-trigger").build();
+        ChainElement element = ChainElement.builder().type("test-element").build();
+        ContainerChainElement orderedContainer = ContainerChainElement.builder().type("test-case").build();
+
+        assertThat(descriptorIndex.isTrigger(trigger), equalTo(true));
+        assertThat(descriptorIndex.isInputEnabled(descriptorIndex.getTypeId(trigger)), equalTo(false));
+        assertThat(descriptorIndex.isTrigger(element), equalTo(false));
+        assertThat(descriptorIndex.isContainer(element), equalTo(false));
+        assertThat(descriptorIndex.isInputEnabled(descriptorIndex.getTypeId(element)), equalTo(true));
+        assertThat(descriptorIndex.isContainer(orderedContainer), equalTo(true));
+        assertThat(descriptorIndex.isOrdered(orderedContainer), equalTo(true));
+        assertThat(descriptorIndex.isReuse(orderedContainer), equalTo(false));
+    }
+
+    @DisplayName("Unknown element types are not interned")
+    @Test
+    public void unknownTypeTest() {
+        ChainElement element = ChainElement.builder().type("unknown-element").build();
+
+        assertThat(descriptorIndex.getTypeId(element), equalTo(ElementDescriptorIndex.UNKNOWN_TYPE));
+        assertThat(descriptorIndex.getDescriptor(element), nullValue());
+        assertThat(descriptorIndex.isDeprecated(element), equalTo(false));
+        assertThat(descriptorIndex.isInputEnabled(ElementDescriptorIndex.UNKNOWN_TYPE), equalTo(false));
+        assertThat(descriptorIndex.isTrigger(null), equalTo(false));
+    }
+}
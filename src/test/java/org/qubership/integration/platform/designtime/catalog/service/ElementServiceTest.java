@@ -26,16 +26,18 @@
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.qubership.integration.platform.catalog.configuration.element.descriptor.DescriptorPropertiesConfiguration;
 import org.qubership.integration.platform.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.catalog.model.library.ElementProperty;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -47,11 +49,13 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -78,6 +82,7 @@
                 LibraryElementsService.class,
                 LibraryResourceLoader.class,
                 AuditingHandler.class,
+                ElementDescriptorIndex.class,
                 OrderedElementService.class,
                 ElementUtils.class,
                 SwimlaneService.class,
@@ -89,6 +94,7 @@
 public class ElementServiceTest {
 
     private static final UUID UUID_VALUE = UUID.fromString("458f93d1-d647-4bf0-b076-a0392f15ed8b");
+    private static final int LARGE_CHAIN_SIZE = 50_000;
 
     private static MockedStatic<UUID> mockedUUID;
 
@@ -97,14 +103,16 @@ public class ElementServiceTest {
     @MockBean
     ChainService chainService;
     @MockBean
-    ActionsLogService actionsLogService;
+    BatchedActionsLogService actionsLogService;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
     EnvironmentService environmentService;
 
-    @Autowired
+    @SpyBean
     private LibraryElementsService libraryService;
+    @SpyBean
+    private ElementUtils elementUtils;
     @Autowired
     private ElementService elementService;
     private final Chain testChain = Chain.builder().id(TestElementUtils.CHAIN_ID).build();
@@ -436,6 +444,132 @@ public void deleteOrderedElementByIdTest() {
         verify(elementRepository, times(1)).deleteAll(eq(chainDiff.getRemovedElements()));
     }
 
+    @DisplayName("Deleting selected elements nested into other selected elements")
+    @Test
+    public void deleteAllNestedSelectedElementsTest() {
+        ContainerChainElement switchElement = createContainerElement(TestElementUtils.TEST_SWITCH_TYPE, TestElementUtils.SWITCH_1_ID);
+        ContainerChainElement caseElement = createContainerElement(TestElementUtils.TEST_CASE_TYPE, TestElementUtils.CASE_1_ID);
+        ChainElement senderElement = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        caseElement.getProperties().put(libraryService.getElementDescriptor(TestElementUtils.TEST_CASE_TYPE).getPriorityProperty(), 0);
+        caseElement.addChildrenElements(Collections.singletonList(senderElement));
+        switchElement.addChildrenElements(Collections.singletonList(caseElement));
+        List<String> ids = List.of(senderElement.getId(), switchElement.getId(), caseElement.getId());
+        when(elementRepository.findAllById(eq(ids))).thenReturn(List.of(senderElement, switchElement, caseElement));
+        doNothing().when(elementRepository).deleteAll(any());
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(ids);
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(3));
+        assertThat(chainDiff.getRemovedElements(), hasItems(switchElement, caseElement, senderElement));
+        assertThat(chainDiff.getUpdatedElements(), empty());
+        assertThat(switchElement.getElements(), hasItem(caseElement));
+        assertThat(caseElement.getElements(), hasItem(senderElement));
+        verify(elementRepository, never()).saveAll(any());
+        verify(elementRepository, times(1)).deleteAll(eq(chainDiff.getRemovedElements()));
+    }
+
+    @DisplayName("Deleting several ordered siblings")
+    @Test
+    public void deleteAllOrderedSiblingsTest() {
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(TestElementUtils.TEST_CASE_TYPE);
+        ContainerChainElement switchElement = createContainerElement(TestElementUtils.TEST_SWITCH_TYPE, TestElementUtils.SWITCH_1_ID);
+        List<ContainerChainElement> caseElements = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ContainerChainElement caseElement = createContainerElement(TestElementUtils.TEST_CASE_TYPE, "case-" + i);
+            caseElement.getProperties().put(descriptor.getPriorityProperty(), i);
+            caseElements.add(caseElement);
+        }
+        switchElement.addChildrenElements(new ArrayList<>(caseElements));
+        List<String> ids = List.of("case-0", "case-2");
+        when(elementRepository.findAllById(eq(ids))).thenReturn(List.of(caseElements.get(0), caseElements.get(2)));
+        when(elementRepository.saveAll(any())).thenAnswer(i -> i.getArguments()[0]);
+        doNothing().when(elementRepository).deleteAll(any());
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(ids);
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(2));
+        assertThat(chainDiff.getRemovedElements(), hasItems(caseElements.get(0), caseElements.get(2)));
+        assertThat(chainDiff.getUpdatedElements(), hasSize(3));
+        assertThat(chainDiff.getUpdatedElements(), hasItems(switchElement, caseElements.get(1), caseElements.get(3)));
+        assertThat(caseElements.get(1).getProperty(descriptor.getPriorityProperty()), equalTo(0));
+        assertThat(caseElements.get(3).getProperty(descriptor.getPriorityProperty()), equalTo(1));
+        assertThat(switchElement.getElements(), hasSize(2));
+        verify(elementRepository, times(1)).saveAll(any());
+        verify(elementRepository, times(1)).deleteAll(eq(chainDiff.getRemovedElements()));
+    }
+
+    @DisplayName("Deleting referenced elements of several chains")
+    @Test
+    public void deleteAllReferencedElementsTest() {
+        Chain otherChain = Chain.builder().id("other-chain").build();
+        ChainElement sender1Element = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        ChainElement sender2Element = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_2_ID);
+        sender2Element.setChain(otherChain);
+        ChainElement trigger1Element = createChainElement(TestElementUtils.TEST_TRIGGER_TYPE, TestElementUtils.TRIGGER_ID);
+        trigger1Element.getProperties().put("reference", sender1Element.getId());
+        ChainElement trigger2Element = createChainElement(TestElementUtils.TEST_TRIGGER_TYPE, "trigger-2");
+        trigger2Element.getProperties().put("reference", "not-removed");
+        ChainElement trigger3Element = createChainElement(TestElementUtils.TEST_TRIGGER_TYPE, "trigger-3");
+        trigger3Element.setChain(otherChain);
+        trigger3Element.getProperties().put("reference", sender2Element.getId());
+
+        ElementDescriptor referencedDescriptor = mock(ElementDescriptor.class);
+        when(referencedDescriptor.isReferencedByAnotherElement()).thenReturn(true);
+        ElementProperty referenceProperty = mock(ElementProperty.class);
+        when(referenceProperty.getName()).thenReturn("reference");
+        ElementDescriptor referencingDescriptor = mock(ElementDescriptor.class);
+        when(referencingDescriptor.getReferenceProperties()).thenReturn(List.of(referenceProperty));
+        doAnswer(i -> TestElementUtils.TEST_SENDER_TYPE.equals(i.<ChainElement>getArgument(0).getType())
+                ? referencedDescriptor
+                : i.callRealMethod())
+                .when(libraryService).getElementDescriptor(any(ChainElement.class));
+        doReturn(Map.of(TestElementUtils.TEST_TRIGGER_TYPE, referencingDescriptor))
+                .when(libraryService).getElementsWithReferenceProperties();
+
+        List<String> ids = List.of(sender1Element.getId(), sender2Element.getId());
+        when(elementRepository.findAllById(eq(ids))).thenReturn(List.of(sender1Element, sender2Element));
+        when(elementRepository.findAllByChainIdAndTypeIn(eq(TestElementUtils.CHAIN_ID), any()))
+                .thenReturn(List.of(trigger1Element, trigger2Element));
+        when(elementRepository.findAllByChainIdAndTypeIn(eq(otherChain.getId()), any()))
+                .thenReturn(List.of(trigger3Element));
+        when(elementRepository.saveAll(any())).thenAnswer(i -> i.getArguments()[0]);
+        doNothing().when(elementRepository).deleteAll(any());
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(ids);
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(2));
+        assertThat(chainDiff.getRemovedElements(), hasItems(sender1Element, sender2Element));
+        assertThat(chainDiff.getUpdatedElements(), hasSize(2));
+        assertThat(chainDiff.getUpdatedElements(), hasItems(trigger1Element, trigger3Element));
+        assertThat(trigger1Element.getProperties().containsKey("reference"), equalTo(false));
+        assertThat(trigger2Element.getProperty("reference"), equalTo("not-removed"));
+        assertThat(trigger3Element.getProperties().containsKey("reference"), equalTo(false));
+        verify(elementRepository, times(1)).findAllByChainIdAndTypeIn(eq(TestElementUtils.CHAIN_ID), any());
+        verify(elementRepository, times(1)).findAllByChainIdAndTypeIn(eq(otherChain.getId()), any());
+        verify(elementRepository, times(1)).deleteAll(eq(chainDiff.getRemovedElements()));
+    }
+
+    @DisplayName("Deleting swimlanes after other selected elements")
+    @Test
+    public void deleteAllWithSwimlanesTest() {
+        SwimlaneChainElement swimlaneElement = new SwimlaneChainElement();
+        swimlaneElement.setId("swimlane");
+        swimlaneElement.setChain(testChain);
+        ChainElement senderElement = createChainElement(TestElementUtils.TEST_SENDER_TYPE, TestElementUtils.SENDER_1_ID);
+        List<String> ids = List.of(swimlaneElement.getId(), senderElement.getId());
+        when(elementRepository.findAllById(eq(ids))).thenReturn(List.of(swimlaneElement, senderElement));
+        when(elementRepository.findSwimlaneWithLockingById(eq(swimlaneElement.getId()))).thenReturn(Optional.empty());
+        doNothing().when(elementRepository).deleteAll(any());
+
+        ChainDiff chainDiff = elementService.deleteAllByIdsAndUpdateUnsaved(ids);
+
+        assertThat(chainDiff.getRemovedElements(), hasSize(1));
+        assertThat(chainDiff.getRemovedElements(), hasItem(senderElement));
+        InOrder inOrder = inOrder(elementRepository);
+        inOrder.verify(elementRepository).deleteAll(eq(List.of(senderElement)));
+        inOrder.verify(elementRepository).findSwimlaneWithLockingById(eq(swimlaneElement.getId()));
+    }
+
     private static Stream<Arguments> deleteLastAllowedChildByIdTestData() {
         return Stream.of(
                 Arguments.of("Two or many", TestElementUtils.CASE_2_ID),
@@ -583,6 +717,44 @@ public void ungroupElementsOfNonGroupContainerTest() {
         assertThrows(ElementValidationException.class, () -> elementService.ungroup(TestElementUtils.CONTAINER_ID));
     }
 
+    @DisplayName("Cloning deeply nested containers")
+    @Test
+    public void cloneDeeplyNestedContainersTest() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        // <parent id, children>
+        Map<String, List<ChainElement>> children = new HashMap<>();
+        ContainerChainElement root = null;
+        ContainerChainElement parent = null;
+        for (int i = 0; i < LARGE_CHAIN_SIZE; i++) {
+            ContainerChainElement container = createContainerElement(TestElementUtils.TEST_CONTAINER_TYPE, "container-" + i);
+            container.setCreatedWhen(timestamp);
+            container.setModifiedWhen(timestamp);
+            if (parent == null) {
+                root = container;
+            } else {
+                children.put(parent.getId(), List.of(container));
+            }
+            parent = container;
+        }
+        when(elementRepository.findById(eq(root.getId()))).thenReturn(Optional.of(root));
+        when(elementRepository.findAllByParentId(ArgumentMatchers.anyString()))
+                .thenAnswer(i -> children.getOrDefault((String) i.getArguments()[0], Collections.emptyList()));
+        when(elementRepository.save(ArgumentMatchers.any(ChainElement.class))).thenAnswer(i -> i.getArguments()[0]);
+        // properties of the copied containers are not checked here
+        doNothing().when(elementUtils).updateResetOnCopyProperties(ArgumentMatchers.any(ChainElement.class));
+
+        ChainElement copy = elementService.clone(root.getId(), null);
+
+        int depth = 1;
+        while (!((ContainerChainElement) copy).getElements().isEmpty()) {
+            assertThat(((ContainerChainElement) copy).getElements(), hasSize(1));
+            copy = ((ContainerChainElement) copy).getElements().get(0);
+            depth++;
+        }
+        assertThat(depth, equalTo(LARGE_CHAIN_SIZE));
+        verify(elementRepository, times(LARGE_CHAIN_SIZE)).save(ArgumentMatchers.any(ChainElement.class));
+    }
+
     private void assertPropertiesAreEqual(Map<String, Object> actual, Map<String, Object> expected) {
         assertThat(actual, aMapWithSize(expected.size()));
         for (Map.Entry<String, Object> actualProperty : actual.entrySet()) {
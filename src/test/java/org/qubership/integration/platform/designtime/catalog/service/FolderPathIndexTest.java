@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.model.FoldersChangedEvent;
+import org.qubership.integration.platform.designtime.catalog.service.FolderPathIndex.FolderNode;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+@DisplayName("Folder path index test")
+public class FolderPathIndexTest {
+
+    private static final String ROOT = "root";
+    private static final String CHILD = "child";
+    private static final String LEAF = "leaf";
+
+    @DisplayName("Without cache folders are not loaded")
+    @Test
+    public void cacheDisabledTest() {
+        TestFolderPathIndex index = new TestFolderPathIndex(false);
+        index.nodes.put(ROOT, new FolderNode("Root", null));
+
+        assertThat(index.getFolderPath(ROOT), nullValue());
+        assertThat(index.requests, equalTo(List.of()));
+    }
+
+    @DisplayName("Path is built from the folder up to the root folder after a single load")
+    @Test
+    public void folderPathTest() {
+        TestFolderPathIndex index = createIndex();
+
+        Map<String, String> leafPath = index.getFolderPath(LEAF);
+        Map<String, String> childPath = index.getFolderPath(CHILD);
+
+        assertThat(new ArrayList<>(leafPath.entrySet()), equalTo(List.of(
+                Map.entry(LEAF, "Leaf"), Map.entry(CHILD, "Child"), Map.entry(ROOT, "Root"))));
+        assertThat(new ArrayList<>(childPath.entrySet()), equalTo(List.of(
+                Map.entry(CHILD, "Child"), Map.entry(ROOT, "Root"))));
+        assertThat(index.getFolderPath("unknown"), nullValue());
+        assertThat(index.requests, equalTo(List.of("all")));
+    }
+
+    @DisplayName("Only changed folders are reloaded")
+    @Test
+    public void changedFoldersTest() {
+        TestFolderPathIndex index = createIndex();
+        index.getFolderPath(LEAF);
+
+        index.nodes.put(CHILD, new FolderNode("Renamed", null));
+        index.onFoldersChanged(new FoldersChangedEvent(Set.of(CHILD)));
+        Map<String, String> movedPath = index.getFolderPath(LEAF);
+
+        index.nodes.remove(LEAF);
+        index.onFoldersChanged(new FoldersChangedEvent(Set.of(LEAF)));
+        Map<String, String> deletedPath = index.getFolderPath(LEAF);
+
+        assertThat(new ArrayList<>(movedPath.entrySet()), equalTo(List.of(
+                Map.entry(LEAF, "Leaf"), Map.entry(CHILD, "Renamed"))));
+        assertThat(deletedPath, nullValue());
+        assertThat(index.requests, equalTo(List.of("all", "[child]", "[leaf]")));
+    }
+
+    @DisplayName("Folders loaded while other folders change are not cached")
+    @Test
+    public void changedDuringLoadTest() {
+        TestFolderPathIndex index = createIndex();
+        index.onLoad = () -> {
+            index.nodes.put(CHILD, new FolderNode("Renamed", ROOT));
+            index.onFoldersChanged(new FoldersChangedEvent(Set.of(CHILD)));
+        };
+        Map<String, String> loadedPath = index.getFolderPath(LEAF);
+
+        index.onLoad = null;
+        Map<String, String> reloadedPath = index.getFolderPath(LEAF);
+        index.getFolderPath(LEAF);
+
+        assertThat(new ArrayList<>(loadedPath.entrySet()), equalTo(List.of(
+                Map.entry(LEAF, "Leaf"), Map.entry(CHILD, "Child"), Map.entry(ROOT, "Root"))));
+        assertThat(new ArrayList<>(reloadedPath.entrySet()), equalTo(List.of(
+                Map.entry(LEAF, "Leaf"), Map.entry(CHILD, "Renamed"), Map.entry(ROOT, "Root"))));
+        assertThat(index.requests, equalTo(List.of("all", "all")));
+    }
+
+    @DisplayName("Changed folders reloaded while other folders change stay stale")
+    @Test
+    public void changedDuringReloadTest() {
+        TestFolderPathIndex index = createIndex();
+        index.getFolderPath(LEAF);
+
+        index.nodes.put(CHILD, new FolderNode("Renamed", ROOT));
+        index.onFoldersChanged(new FoldersChangedEvent(Set.of(CHILD)));
+        index.onLoad = () -> {
+            index.nodes.put(LEAF, new FolderNode("Renamed leaf", CHILD));
+            index.onFoldersChanged(new FoldersChangedEvent(Set.of(LEAF)));
+        };
+        Map<String, String> reloadingPath = index.getFolderPath(LEAF);
+
+        index.onLoad = null;
+        Map<String, String> reloadedPath = index.getFolderPath(LEAF);
+        index.getFolderPath(LEAF);
+
+        assertThat(reloadingPath, nullValue());
+        assertThat(new ArrayList<>(reloadedPath.entrySet()), equalTo(List.of(
+                Map.entry(LEAF, "Renamed leaf"), Map.entry(CHILD, "Renamed"), Map.entry(ROOT, "Root"))));
+        assertThat(index.requests.size(), equalTo(3));
+        assertThat(index.requests.get(1), equalTo("[child]"));
+    }
+
+    private static TestFolderPathIndex createIndex() {
+        TestFolderPathIndex index = new TestFolderPathIndex(true);
+        index.nodes.put(ROOT, new FolderNode("Root", null));
+        index.nodes.put(CHILD, new FolderNode("Child", ROOT));
+        index.nodes.put(LEAF, new FolderNode("Leaf", CHILD));
+        return index;
+    }
+
+    private static class TestFolderPathIndex extends FolderPathIndex {
+        private final Map<String, FolderNode> nodes = new HashMap<>();
+        private final List<String> requests = new ArrayList<>();
+        // runs after folders are queried, as a change committed by another transaction
+        private Runnable onLoad;
+
+        TestFolderPathIndex(boolean cacheEnabled) {
+            super(null, cacheEnabled);
+        }
+
+        @Override
+        Map<String, FolderNode> loadFolders(Collection<String> folderIds) {
+            requests.add(folderIds == null ? "all" : folderIds.toString());
+            Map<String, FolderNode> result = new HashMap<>();
+            nodes.forEach((id, node) -> {
+                if (folderIds == null || folderIds.contains(id)) {
+                    result.put(id, node);
+                }
+            });
+            if (onLoad != null) {
+                onLoad.run();
+            }
+            return result;
+        }
+    }
+}
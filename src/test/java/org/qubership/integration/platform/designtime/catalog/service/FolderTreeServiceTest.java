@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FoldableEntity;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.designtime.catalog.service.FolderTreeService.Node;
+import org.qubership.integration.platform.designtime.catalog.service.FolderTreeService.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Folder tree service test")
+public class FolderTreeServiceTest {
+
+    @DisplayName("Pages continue from the cursor across the boundary between folders and chains")
+    @Test
+    public void pageBoundariesTest() {
+        TestFolderTreeService service = new TestFolderTreeService();
+        service.add(folder("f2", "Beta", null));
+        service.add(folder("f1", "Alpha", null));
+        service.add(chain("c3", "Gamma", null));
+        service.add(chain("c1", "Alpha", null));
+        service.add(chain("c2", "Alpha", null));
+
+        Page first = service.getPage(null, null, 2, 1, 2, null);
+        Page second = service.getPage(null, first.nextCursor(), 2, 1, 2, null);
+        Page third = service.getPage(null, second.nextCursor(), 2, 1, 2, null);
+
+        assertThat(ids(first), equalTo(List.of("f1", "f2")));
+        assertThat(first.nextCursor(), notNullValue());
+        assertThat(ids(second), equalTo(List.of("c1", "c2")));
+        assertThat(second.nextCursor(), notNullValue());
+        assertThat(ids(third), equalTo(List.of("c3")));
+        assertThat(third.nextCursor(), nullValue());
+    }
+
+    @DisplayName("Page ending in the middle of folders continues with the remaining folders")
+    @Test
+    public void pageBoundaryInsideFoldersTest() {
+        TestFolderTreeService service = new TestFolderTreeService();
+        service.add(folder("f1", "Alpha", null));
+        service.add(folder("f2", "Beta", null));
+        service.add(folder("f3", "Gamma", null));
+        service.add(chain("c1", "Alpha", null));
+
+        Page first = service.getPage(null, null, 2, 1, 2, null);
+        Page second = service.getPage(null, first.nextCursor(), 2, 1, 2, null);
+
+        assertThat(ids(first), equalTo(List.of("f1", "f2")));
+        assertThat(ids(second), equalTo(List.of("f3", "c1")));
+        assertThat(second.nextCursor(), nullValue());
+    }
+
+    @DisplayName("Cursor keeps names containing the delimiter")
+    @Test
+    public void cursorEncodingTest() {
+        TestFolderTreeService service = new TestFolderTreeService();
+        service.add(chain("c1", "Multi\nline", null));
+        service.add(chain("c2", "Multi\nline", null));
+        service.add(chain("c3", "Other", null));
+
+        Page first = service.getPage(null, null, 1, 1, 1, null);
+        Page second = service.getPage(null, first.nextCursor(), 1, 1, 1, null);
+
+        String decoded = new String(Base64.getUrlDecoder().decode(first.nextCursor()), StandardCharsets.UTF_8);
+        assertThat(decoded, equalTo("CHAIN\nc1\nMulti\nline"));
+        assertThat(ids(second), equalTo(List.of("c2")));
+    }
+
+    @DisplayName("Invalid cursor is rejected")
+    @Test
+    public void invalidCursorTest() {
+        TestFolderTreeService service = new TestFolderTreeService();
+        String unknownKind = Base64.getUrlEncoder().encodeToString("ELEMENT\nid\nname".getBytes(StandardCharsets.UTF_8));
+        String missingName = Base64.getUrlEncoder().encodeToString("CHAIN\nid".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> service.getPage(null, "not base64!", 10, 1, 10, null));
+        assertThrows(BadRequestException.class, () -> service.getPage(null, unknownKind, 10, 1, 10, null));
+        assertThrows(BadRequestException.class, () -> service.getPage(null, missingName, 10, 1, 10, null));
+    }
+
+    @DisplayName("Folders are expanded to the requested depth with item counts")
+    @Test
+    public void depthTest() {
+        TestFolderTreeService service = new TestFolderTreeService();
+        Folder root = folder("f1", "Root", null);
+        service.add(root);
+        service.add(folder("f2", "Nested", root));
+        service.add(chain("c1", "First", root));
+        service.add(chain("c2", "Second", root));
+
+        Page page = service.getPage(null, null, 10, 2, 2, null);
+
+        Node node = page.items().get(0);
+        assertThat(node.foldersCount(), equalTo(1L));
+        assertThat(node.chainsCount(), equalTo(2L));
+        assertThat(ids(node.children()), equalTo(List.of("f2", "c1")));
+        assertThat(node.children().nextCursor(), notNullValue());
+        assertThat(node.children().items().get(0).children(), nullValue());
+    }
+
+    private static Folder folder(String id, String name, Folder parent) {
+        Folder folder = new Folder();
+        folder.setId(id);
+        folder.setName(name);
+        folder.setParentFolder(parent);
+        return folder;
+    }
+
+    private static Chain chain(String id, String name, Folder parent) {
+        Chain chain = new Chain();
+        chain.setId(id);
+        chain.setName(name);
+        chain.setParentFolder(parent);
+        return chain;
+    }
+
+    private static List<String> ids(Page page) {
+        return page.items().stream().map(node -> node.entity().getId()).collect(Collectors.toList());
+    }
+
+    private static class TestFolderTreeService extends FolderTreeService {
+        private final List<FoldableEntity> entities = new ArrayList<>();
+
+        TestFolderTreeService() {
+            super(null, null);
+        }
+
+        void add(FoldableEntity entity) {
+            entities.add(entity);
+        }
+
+        @Override
+        <T extends FoldableEntity> List<T> findItems(Class<T> type, String parentId, Position after, int maxResults) {
+            return entities.stream()
+                    .filter(type::isInstance)
+                    .map(type::cast)
+                    .filter(entity -> Objects.equals(parentId(entity), parentId))
+                    .filter(entity -> after == null || compare(entity, after) > 0)
+                    .sorted(Comparator.comparing(FoldableEntity::getName).thenComparing(FoldableEntity::getId))
+                    .limit(maxResults)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        Map<String, Long> countItems(Class<? extends FoldableEntity> type, Collection<String> parentIds) {
+            return entities.stream()
+                    .filter(type::isInstance)
+                    .filter(entity -> parentIds.contains(parentId(entity)))
+                    .collect(Collectors.groupingBy(TestFolderTreeService::parentId, Collectors.counting()));
+        }
+
+        private static String parentId(FoldableEntity entity) {
+            return entity.getParentFolder() == null ? null : entity.getParentFolder().getId();
+        }
+
+        private static int compare(FoldableEntity entity, Position position) {
+            int result = entity.getName().compareTo(position.name());
+            return result != 0 ? result : entity.getId().compareTo(position.id());
+        }
+    }
+}
@@ -52,6 +52,7 @@
         DescriptorPropertiesConfiguration.class,
         LibraryElementsService.class,
         LibraryResourceLoader.class,
+        ElementDescriptorIndex.class,
         OrderedElementService.class
 })
 @ExtendWith(SpringExtension.class)
@@ -36,7 +36,6 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
 import org.qubership.integration.platform.catalog.util.ElementUtils;
@@ -75,6 +74,7 @@
                 LibraryElementsService.class,
                 LibraryResourceLoader.class,
                 AuditingHandler.class,
+                ElementDescriptorIndex.class,
                 OrderedElementService.class,
                 ElementUtils.class,
                 OldContainerUtils.class,
@@ -99,7 +99,7 @@ public class TransferableElementServiceTest {
     @MockBean
     ChainService chainService;
     @MockBean
-    ActionsLogService actionsLogService;
+    BatchedActionsLogService actionsLogService;
     @MockBean
     AuditingHandler jpaAuditingHandler;
     @MockBean
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedProperty;
+import org.qubership.integration.platform.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.catalog.model.constant.CamelNames;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.designtime.catalog.model.usedproperties.ElementUsedProperties;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsIterableContaining.hasItem;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+@DisplayName("Used properties analyzer test")
+public class UsedPropertiesAnalyzerTest {
+
+    private static final String SCRIPT = """
+            def id = exchange.getMessage().getHeader('orderId')
+            exchange.message.setHeader("status", 'done')
+            exchange.setProperty('total', exchange.properties.amount)
+            """;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final UsedPropertiesAnalyzer analyzer = analyzer(100);
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("Script and simple language usages are found")
+    @Test
+    public void elementUsedPropertiesTest() {
+        ChainElement script = element("script-1", CamelNames.SCRIPT, Map.of("script", SCRIPT), 1);
+        ChainElement log = element("log-1", "log-record", Map.of("message", "${header.orderId} of ${exchangeProperty.total}"), 1);
+
+        assertThat(describe(analyzer.getElementUsedProperties(script)), containsInAnyOrder(
+                "HEADER orderId [GET, SET]", "HEADER status [GET, SET]",
+                "EXCHANGE_PROPERTY total [GET, SET]", "EXCHANGE_PROPERTY amount [GET, SET]"));
+        assertThat(describe(analyzer.getElementUsedProperties(log)), containsInAnyOrder(
+                "HEADER orderId [GET]", "EXCHANGE_PROPERTY total [GET]"));
+    }
+
+    @DisplayName("Usages nested in other usages are found")
+    @Test
+    public void nestedUsagesTest() {
+        ChainElement script = element("script-1", CamelNames.SCRIPT,
+                Map.of("script", "exchange.setProperty('total', exchange.getProperty('amount'))"), 1);
+        ChainElement log = element("log-1", "log-record",
+                Map.of("message", "${exchangeProperty.orders.get(${header.orderId})}"), 1);
+
+        assertThat(describe(analyzer.getElementUsedProperties(script)), containsInAnyOrder(
+                "EXCHANGE_PROPERTY total [GET, SET]", "EXCHANGE_PROPERTY amount [GET, SET]"));
+        assertThat(describe(analyzer.getElementUsedProperties(log)), containsInAnyOrder(
+                "EXCHANGE_PROPERTY orders [GET]", "HEADER orderId [GET]"));
+    }
+
+    @DisplayName("Element is analyzed again only after modification")
+    @Test
+    public void cacheTest() {
+        ChainElement element = element("log-1", "log-record", Map.of("message", "${header.first}"), 1);
+
+        ElementUsedProperties first = analyzer.getElementUsedProperties(element);
+        element.setProperties(new HashMap<>(Map.of("message", "${header.second}")));
+        ElementUsedProperties second = analyzer.getElementUsedProperties(element);
+        element.setModifiedWhen(new Timestamp(2));
+        ElementUsedProperties third = analyzer.getElementUsedProperties(element);
+
+        assertThat(second, sameInstance(first));
+        assertThat(third, not(sameInstance(first)));
+        assertThat(describe(third), containsInAnyOrder("HEADER second [GET]"));
+    }
+
+    @DisplayName("Batch results are merged into the same result as a single batch")
+    @Test
+    public void batchMergeTest() {
+        List<ChainElement> elements = List.of(
+                element("script-1", CamelNames.SCRIPT, Map.of("script", SCRIPT), 1),
+                element("log-1", "log-record", Map.of("message", "${header.orderId}"), 1),
+                element("log-2", "log-record", Map.of("message", "${exchangeProperty.total} ${header.status}"), 1));
+
+        List<String> expected = describe(analyzer(100).collectUsedProperties(elements));
+        List<String> actual = describe(analyzer(1).collectUsedProperties(elements));
+
+        assertThat(actual, containsInAnyOrder(expected.toArray()));
+        assertThat(actual, hasItem("HEADER orderId log-1 [GET], script-1 [GET, SET]"));
+    }
+
+    private UsedPropertiesAnalyzer analyzer(int batchSize) {
+        return new UsedPropertiesAnalyzer(null, null, executor, batchSize, 10, 100);
+    }
+
+    private static List<String> describe(Map<String, UsedProperty> usedProperties) {
+        return usedProperties.values().stream()
+                .map(property -> property.getSource() + " " + property.getName() + " "
+                        + property.getRelatedElements().values().stream()
+                                .map(element -> element.getId() + " " + operations(element.getOperations()))
+                                .sorted()
+                                .collect(Collectors.joining(", ")))
+                .toList();
+    }
+
+    private static List<String> describe(ElementUsedProperties usedProperties) {
+        return usedProperties.properties().stream()
+                .map(property -> property.source() + " " + property.name() + " " + operations(property.operations()))
+                .toList();
+    }
+
+    private static String operations(Set<UsedPropertyElementOperation> operations) {
+        return operations.stream().map(Enum::name).sorted().toList().toString();
+    }
+
+    private static ChainElement element(String id, String type, Map<String, Object> properties, long modifiedWhen) {
+        ChainElement element = new ChainElement();
+        element.setId(id);
+        element.setName(id);
+        element.setType(type);
+        element.setProperties(new HashMap<>(properties));
+        element.setModifiedWhen(new Timestamp(modifiedWhen));
+        return element;
+    }
+}
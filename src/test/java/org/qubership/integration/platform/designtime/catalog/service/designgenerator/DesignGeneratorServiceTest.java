@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.designgenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.qubership.integration.platform.catalog.configuration.element.descriptor.DescriptorPropertiesConfiguration;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+import org.qubership.integration.platform.catalog.model.designgenerator.ElementsSequenceDiagram;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
+import org.qubership.integration.platform.designtime.catalog.service.ChainService;
+import org.qubership.integration.platform.designtime.catalog.service.DependencyService;
+import org.qubership.integration.platform.designtime.catalog.service.ElementDescriptorIndex;
+import org.qubership.integration.platform.designtime.catalog.service.ElementService;
+import org.qubership.integration.platform.designtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
+import org.qubership.integration.platform.designtime.catalog.testutils.TestElementUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.catalog.model.designgenerator.DiagramOperationType.LINE_WITH_ARROW_DOTTED_RIGHT;
+import static org.qubership.integration.platform.catalog.model.designgenerator.DiagramOperationType.LINE_WITH_ARROW_SOLID_RIGHT;
+
+@DisplayName("Design generator service test")
+@ContextConfiguration(
+        classes = {
+                DesignGeneratorServiceTest.TestConfig.class,
+                DescriptorPropertiesConfiguration.class,
+                LibraryElementsService.class,
+                LibraryResourceLoader.class,
+                ElementDescriptorIndex.class,
+                DesignGeneratorService.class
+        }
+)
+@ExtendWith(SpringExtension.class)
+@ExtendWith(MockitoExtension.class)
+public class DesignGeneratorServiceTest {
+
+    private static final int LARGE_CHAIN_SIZE = 50_000;
+    private static final String SNAPSHOT_ID = "c6c8d3a5-4a1e-4f0b-9d2e-1f7f5c0e8b21";
+    private static final String SERVICE_ID = "service";
+
+    // "before <element name>" and "after <element name>" in the order the processor was called
+    private static final List<String> PROCESSOR_EVENTS = new ArrayList<>();
+
+    @MockBean
+    ElementService elementService;
+    @MockBean
+    DependencyService dependencyService;
+    @MockBean
+    ChainService chainService;
+
+    @Autowired
+    private DesignGeneratorService designGeneratorService;
+    private final Chain testChain = Chain.builder().id(TestElementUtils.CHAIN_ID).name("Test chain").build();
+
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public SequenceDiagramCache sequenceDiagramCache() {
+            return new SequenceDiagramCache(0, false);
+        }
+
+        @Bean
+        public DesignProcessor testSenderDesignProcessor() {
+            return new DesignProcessor() {
+                @Override
+                public Set<String> supportedElementTypes() {
+                    return Set.of(TestElementUtils.TEST_SENDER_TYPE);
+                }
+
+                @Override
+                public String getExternalParticipantId(ChainElement element) {
+                    return SERVICE_ID;
+                }
+
+                @Override
+                public String getExternalParticipantName(ChainElement element) {
+                    return "Test service";
+                }
+
+                @Override
+                public void processBefore(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
+                    PROCESSOR_EVENTS.add("before " + element.getName());
+                    builder.append(LINE_WITH_ARROW_SOLID_RIGHT, refChainId, SERVICE_ID, element.getName());
+                }
+
+                @Override
+                public void processAfter(String refChainId, SequenceDiagramAppender builder, ChainElement element) {
+                    PROCESSOR_EVENTS.add("after " + element.getName());
+                    builder.append(LINE_WITH_ARROW_DOTTED_RIGHT, SERVICE_ID, refChainId, element.getName());
+                }
+            };
+        }
+    }
+
+
+    @DisplayName("Generating diagrams of a long chain")
+    @Test
+    public void generateLargeChainDiagramsTest() {
+        List<ChainElement> elements = new ArrayList<>();
+        List<Dependency> dependencies = new ArrayList<>();
+        ChainElement previous = createChainElement(TestElementUtils.TEST_TRIGGER_TYPE, TestElementUtils.TRIGGER_ID, "trigger");
+        elements.add(previous);
+        for (int i = 0; i < LARGE_CHAIN_SIZE; i++) {
+            ChainElement sender = createChainElement(TestElementUtils.TEST_SENDER_TYPE, "sender-" + i, "sender " + i);
+            Dependency dependency = Dependency.of(previous, sender);
+            dependency.setId("dependency-" + i);
+            dependencies.add(dependency);
+            elements.add(sender);
+            previous = sender;
+        }
+        when(chainService.findById(eq(TestElementUtils.CHAIN_ID))).thenReturn(testChain);
+        when(elementService.findAllBySnapshotId(eq(SNAPSHOT_ID))).thenReturn(elements);
+        when(dependencyService.findAllByElementsIDs(anyList())).thenReturn(dependencies);
+        PROCESSOR_EVENTS.clear();
+
+        Map<DiagramMode, ElementsSequenceDiagram> diagrams = designGeneratorService.generateSnapshotSequenceDiagram(
+                TestElementUtils.CHAIN_ID, SNAPSHOT_ID, List.of(DiagramMode.FULL));
+
+        assertThat(diagrams.get(DiagramMode.FULL).getSnapshotId(), equalTo(SNAPSHOT_ID));
+        assertThat(PROCESSOR_EVENTS, hasSize(2 * LARGE_CHAIN_SIZE));
+        assertThat(PROCESSOR_EVENTS.get(0), equalTo("before sender 0"));
+        assertThat(PROCESSOR_EVENTS.get(LARGE_CHAIN_SIZE - 1), equalTo("before sender " + (LARGE_CHAIN_SIZE - 1)));
+        assertThat(PROCESSOR_EVENTS.get(LARGE_CHAIN_SIZE), equalTo("after sender " + (LARGE_CHAIN_SIZE - 1)));
+        assertThat(PROCESSOR_EVENTS.get(2 * LARGE_CHAIN_SIZE - 1), equalTo("after sender 0"));
+    }
+
+    private ChainElement createChainElement(String type, String id, String name) {
+        return ChainElement.builder()
+                .id(id)
+                .type(type)
+                .name(name)
+                .chain(testChain)
+                .build();
+    }
+}
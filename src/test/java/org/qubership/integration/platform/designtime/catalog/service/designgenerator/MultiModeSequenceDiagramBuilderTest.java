@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.designgenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramLangType;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.qubership.integration.platform.catalog.model.designgenerator.DiagramOperationType.*;
+
+@DisplayName("Multi-mode sequence diagram builder test")
+public class MultiModeSequenceDiagramBuilderTest {
+
+    @DisplayName("Operations are appended to diagrams of all modes")
+    @Test
+    public void appendToAllModesTest() {
+        MultiModeSequenceDiagramBuilder builder = new MultiModeSequenceDiagramBuilder(EnumSet.allOf(DiagramMode.class));
+        builder.append(DOCUMENT_START).append(PARTICIPANT_AS, "chain", "Chain").append(DOCUMENT_END);
+
+        Map<DiagramLangType, String> expected = new SequenceDiagramBuilder()
+                .append(DOCUMENT_START).append(PARTICIPANT_AS, "chain", "Chain").append(DOCUMENT_END)
+                .build();
+        Map<DiagramMode, Map<DiagramLangType, String>> actual = builder.buildAll();
+
+        assertThat(actual.keySet(), equalTo(EnumSet.allOf(DiagramMode.class)));
+        for (DiagramMode mode : DiagramMode.values()) {
+            assertThat(actual.get(mode), equalTo(expected));
+        }
+    }
+
+    @DisplayName("Operations are not appended to diagrams of excluded modes")
+    @Test
+    public void excludeModesTest() {
+        MultiModeSequenceDiagramBuilder builder = new MultiModeSequenceDiagramBuilder(EnumSet.allOf(DiagramMode.class));
+        builder.append(DOCUMENT_START);
+        Set<DiagramMode> excluded = builder.exclude(EnumSet.of(DiagramMode.SIMPLE));
+        builder.append(ACTIVATE, "service");
+        Set<DiagramMode> nestedExcluded = builder.exclude(EnumSet.of(DiagramMode.SIMPLE));
+        builder.append(DEACTIVATE, "service");
+        builder.include(nestedExcluded);
+        builder.append(LINE_WITH_ARROW_SOLID_RIGHT, "chain", "service", "request");
+        builder.include(excluded);
+        builder.append(DOCUMENT_END);
+
+        Map<DiagramLangType, String> expectedFull = new SequenceDiagramBuilder()
+                .append(DOCUMENT_START)
+                .append(ACTIVATE, "service")
+                .append(DEACTIVATE, "service")
+                .append(LINE_WITH_ARROW_SOLID_RIGHT, "chain", "service", "request")
+                .append(DOCUMENT_END)
+                .build();
+        Map<DiagramLangType, String> expectedSimple = new SequenceDiagramBuilder()
+                .append(DOCUMENT_START)
+                .append(DOCUMENT_END)
+                .build();
+        Map<DiagramMode, Map<DiagramLangType, String>> actual = builder.buildAll();
+
+        assertThat(nestedExcluded, equalTo(EnumSet.noneOf(DiagramMode.class)));
+        assertThat(actual.get(DiagramMode.FULL), equalTo(expectedFull));
+        assertThat(actual.get(DiagramMode.SIMPLE), equalTo(expectedSimple));
+    }
+}
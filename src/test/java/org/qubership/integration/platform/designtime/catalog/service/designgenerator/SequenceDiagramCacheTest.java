@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.designgenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.designgenerator.DiagramMode;
+import org.qubership.integration.platform.catalog.model.designgenerator.ElementsSequenceDiagram;
+import org.qubership.integration.platform.designtime.catalog.model.ChainElementsChangedEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@DisplayName("Sequence diagram cache test")
+public class SequenceDiagramCacheTest {
+
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @DisplayName("Snapshot diagrams are generated once per chain name")
+    @Test
+    public void snapshotDiagramsTest() {
+        SequenceDiagramCache cache = new SequenceDiagramCache(10, false);
+
+        cache.getSnapshotDiagrams("snapshot-1", "chain", generator("chain-1"));
+        cache.getSnapshotDiagrams("snapshot-1", "chain", generator("chain-1"));
+        assertThat(generations.get(), equalTo(1));
+
+        cache.getSnapshotDiagrams("snapshot-1", "renamed chain", generator("chain-1"));
+        assertThat(generations.get(), equalTo(2));
+    }
+
+    @DisplayName("Chain diagrams are regenerated after modification or elements change")
+    @Test
+    public void chainDiagramsTest() {
+        SequenceDiagramCache cache = new SequenceDiagramCache(10, true);
+
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        assertThat(generations.get(), equalTo(1));
+
+        cache.getChainDiagrams("chain-1", 2L, generator("chain-1"));
+        assertThat(generations.get(), equalTo(2));
+
+        cache.onChainElementsChanged(new ChainElementsChangedEvent(Set.of("chain-1")));
+        cache.getChainDiagrams("chain-1", 2L, generator("chain-1"));
+        assertThat(generations.get(), equalTo(3));
+    }
+
+    @DisplayName("Chain diagrams are not cached unless enabled")
+    @Test
+    public void chainDiagramsDisabledTest() {
+        SequenceDiagramCache cache = new SequenceDiagramCache(10, false);
+
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        assertThat(generations.get(), equalTo(2));
+    }
+
+    @DisplayName("Least recently used entries are evicted")
+    @Test
+    public void evictionTest() {
+        SequenceDiagramCache cache = new SequenceDiagramCache(2, true);
+
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        cache.getChainDiagrams("chain-2", 1L, generator("chain-2"));
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        cache.getChainDiagrams("chain-3", 1L, generator("chain-3"));
+        assertThat(generations.get(), equalTo(3));
+
+        cache.getChainDiagrams("chain-1", 1L, generator("chain-1"));
+        assertThat(generations.get(), equalTo(3));
+        cache.getChainDiagrams("chain-2", 1L, generator("chain-2"));
+        assertThat(generations.get(), equalTo(4));
+    }
+
+    private Supplier<Map<DiagramMode, ElementsSequenceDiagram>> generator(String chainId) {
+        return () -> {
+            generations.incrementAndGet();
+            return Map.of(DiagramMode.FULL, ElementsSequenceDiagram.builder().chainId(chainId).build());
+        };
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@DisplayName("Discovery request limiter test")
+public class DiscoveryRequestLimiterTest {
+
+    private static final int TOTAL_LIMIT = 6;
+    private static final int HOST_LIMIT = 2;
+    private static final int REQUESTS_PER_HOST = 20;
+    private static final List<String> HOSTS = List.of("first-service", "second-service", "third-service", "fourth-service");
+
+    @DisplayName("Simultaneous requests do not exceed total and per host limits")
+    @Test
+    public void executeRespectsLimitsTest() {
+        DiscoveryRequestLimiter limiter = new DiscoveryRequestLimiter(TOTAL_LIMIT, HOST_LIMIT);
+        AtomicInteger totalActive = new AtomicInteger();
+        AtomicInteger totalMax = new AtomicInteger();
+        List<AtomicInteger> hostActive = HOSTS.stream().map(host -> new AtomicInteger()).toList();
+        List<AtomicInteger> hostMax = HOSTS.stream().map(host -> new AtomicInteger()).toList();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS_PER_HOST; i++) {
+                for (int hostIndex = 0; hostIndex < HOSTS.size(); hostIndex++) {
+                    int index = hostIndex;
+                    futures.add(CompletableFuture.supplyAsync(() -> limiter.execute(HOSTS.get(index), () -> {
+                        totalMax.accumulateAndGet(totalActive.incrementAndGet(), Math::max);
+                        hostMax.get(index).accumulateAndGet(hostActive.get(index).incrementAndGet(), Math::max);
+                        sleep();
+                        hostActive.get(index).decrementAndGet();
+                        totalActive.decrementAndGet();
+                        return 1;
+                    }), executor));
+                }
+            }
+        }
+
+        int completed = futures.stream().mapToInt(CompletableFuture::join).sum();
+
+        assertThat(completed, equalTo(REQUESTS_PER_HOST * HOSTS.size()));
+        assertThat(totalMax.get(), lessThanOrEqualTo(TOTAL_LIMIT));
+        hostMax.forEach(max -> assertThat(max.get(), lessThanOrEqualTo(HOST_LIMIT)));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.catalog.service.ConfigParameterService;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationFetchCache.Entry;
+import org.springframework.http.HttpHeaders;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Specification fetch cache test")
+public class SpecificationFetchCacheTest {
+
+    private static final String SERVICE_ADDRESS = "http://orders:8080";
+    private static final String URL = "/v3/api-docs";
+    private static final Entry ENTRY = new Entry("\"v1\"", "Wed, 21 Oct 2015 07:28:00 GMT", "hash", "application/json",
+            "1.0", "openapi");
+
+    private ConfigParameterService configParameterService;
+    private EntityManager entityManager;
+    private SpecificationFetchCache cache;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        configParameterService = mock(ConfigParameterService.class);
+        entityManager = mock(EntityManager.class);
+        cache = new SpecificationFetchCache(configParameterService, new ObjectMapper(), entityManager, 7);
+    }
+
+    @DisplayName("Conditional request headers are built from cached validators")
+    @Test
+    public void conditionalHeadersTest() {
+        HttpHeaders headers = SpecificationFetchCache.buildConditionalHeaders(ENTRY);
+
+        assertThat(headers.getFirst(HttpHeaders.IF_NONE_MATCH), equalTo("\"v1\""));
+        assertThat(headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE), equalTo("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @DisplayName("Missing validators are not sent")
+    @Test
+    public void conditionalHeadersWithoutValidatorsTest() {
+        Entry entry = new Entry(" ", null, "hash", null, "1.0", null);
+
+        assertThat(SpecificationFetchCache.buildConditionalHeaders(entry).isEmpty(), equalTo(true));
+        assertThat(SpecificationFetchCache.buildConditionalHeaders(null).isEmpty(), equalTo(true));
+    }
+
+    @DisplayName("Stored validators are read back by service address and url")
+    @Test
+    public void putAndGetTest() {
+        cache.put(SERVICE_ADDRESS, URL, ENTRY);
+        ArgumentCaptor<ConfigParameter> captor = ArgumentCaptor.forClass(ConfigParameter.class);
+        verify(configParameterService).update(captor.capture());
+        ConfigParameter stored = spy(captor.getValue());
+        doReturn(new Timestamp(System.currentTimeMillis())).when(stored).getModifiedWhen();
+        when(configParameterService.findByName(anyString(), anyString())).thenReturn(null);
+        when(configParameterService.findByName(any(), eq(stored.getName()))).thenReturn(stored);
+
+        assertThat(cache.get(SERVICE_ADDRESS, URL), equalTo(ENTRY));
+        assertThat(cache.get(SERVICE_ADDRESS, "/swagger.json"), nullValue());
+    }
+
+    @DisplayName("Expired validators are ignored")
+    @Test
+    public void expiredEntryTest() {
+        cache.put(SERVICE_ADDRESS, URL, ENTRY);
+        ArgumentCaptor<ConfigParameter> captor = ArgumentCaptor.forClass(ConfigParameter.class);
+        verify(configParameterService).update(captor.capture());
+        ConfigParameter stored = spy(captor.getValue());
+        doReturn(new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8))).when(stored).getModifiedWhen();
+        when(configParameterService.findByName(any(), eq(stored.getName()))).thenReturn(stored);
+
+        assertThat(cache.get(SERVICE_ADDRESS, URL), nullValue());
+    }
+
+    @DisplayName("Validators confirmed by the service are kept after the time to live")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void confirmedEntryTest() {
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        CriteriaUpdate<ConfigParameter> update = mock(CriteriaUpdate.class);
+        Query query = mock(Query.class);
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(builder.createCriteriaUpdate(ConfigParameter.class)).thenReturn(update);
+        when(update.from(ConfigParameter.class)).thenReturn(mock(Root.class));
+        when(update.set(any(Path.class), any(Object.class))).thenReturn(update);
+        when(entityManager.createQuery(update)).thenReturn(query);
+
+        cache.put(SERVICE_ADDRESS, URL, ENTRY);
+        ArgumentCaptor<ConfigParameter> captor = ArgumentCaptor.forClass(ConfigParameter.class);
+        verify(configParameterService).update(captor.capture());
+        ConfigParameter stored = spy(captor.getValue());
+        // stored 6 days ago, confirmed by the service now and read 2 days later
+        doReturn(new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(6))).when(stored).getModifiedWhen();
+        when(configParameterService.findByName(any(), eq(stored.getName()))).thenReturn(stored);
+        assertThat(cache.get(SERVICE_ADDRESS, URL), equalTo(ENTRY));
+
+        long touchedAfter = System.currentTimeMillis();
+        cache.touch(SERVICE_ADDRESS, URL);
+        ArgumentCaptor<Object> modifiedWhen = ArgumentCaptor.forClass(Object.class);
+        verify(update).set(any(Path.class), modifiedWhen.capture());
+        verify(query).executeUpdate();
+        Timestamp touched = (Timestamp) modifiedWhen.getValue();
+        doReturn(new Timestamp(touched.getTime() - TimeUnit.DAYS.toMillis(2))).when(stored).getModifiedWhen();
+
+        assertThat(touched.getTime() >= touchedAfter, equalTo(true));
+        assertThat(cache.get(SERVICE_ADDRESS, URL), equalTo(ENTRY));
+    }
+
+    @DisplayName("Malformed cached value is ignored")
+    @Test
+    public void malformedEntryTest() {
+        ConfigParameter cp = mock(ConfigParameter.class);
+        when(cp.getString()).thenReturn("{not json");
+        when(configParameterService.findByName(any(), any())).thenReturn(cp);
+
+        assertThat(cache.get(SERVICE_ADDRESS, URL), nullValue());
+    }
+}
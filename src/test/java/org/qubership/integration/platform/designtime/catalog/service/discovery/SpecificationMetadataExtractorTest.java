@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.qubership.integration.platform.designtime.catalog.service.discovery.SpecificationMetadataExtractor.SpecificationMetadata;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Specification metadata extractor test")
+public class SpecificationMetadataExtractorTest {
+
+    private final SpecificationMetadataExtractor extractor =
+            new SpecificationMetadataExtractor(new ObjectMapper(), new YAMLMapper());
+
+    private static Stream<Arguments> extractTestData() {
+        return Stream.of(
+                Arguments.of(
+                        "OpenAPI JSON",
+                        """
+                        {"openapi": "3.0.1", "info": {"title": "Orders", "version": "1.2.3"}, "paths": {}}
+                        """,
+                        new SpecificationMetadata("openapi", "3.0.1", "1.2.3", "Orders")
+                ),
+                Arguments.of(
+                        "Swagger YAML with info first",
+                        """
+                        info:
+                          description: Test service
+                          contact:
+                            name: Team
+                          version: 2.0
+                          title: Users
+                        swagger: '2.0'
+                        paths: {}
+                        """,
+                        new SpecificationMetadata("swagger", "2.0", "2.0", "Users")
+                ),
+                Arguments.of(
+                        "AsyncAPI YAML",
+                        """
+                        asyncapi: 2.6.0
+                        info:
+                          title: Events
+                          version: v1
+                        """,
+                        new SpecificationMetadata("asyncapi", "2.6.0", "v1", "Events")
+                ),
+                Arguments.of(
+                        "Numeric versions in YAML",
+                        """
+                        openapi: 3.0.1
+                        info:
+                          title: Payments
+                          version: 1.10
+                        """,
+                        new SpecificationMetadata("openapi", "3.0.1", "1.1", "Payments")
+                ),
+                Arguments.of(
+                        "Numeric versions in JSON",
+                        """
+                        {"swagger": "2.0", "info": {"version": 3}}
+                        """,
+                        new SpecificationMetadata("swagger", "2.0", "3", null)
+                ),
+                Arguments.of(
+                        "Specification without format marker",
+                        """
+                        {"info": {"version": "1"}}
+                        """,
+                        new SpecificationMetadata(null, null, "1", null)
+                ),
+                Arguments.of(
+                        "Non-scalar version",
+                        """
+                        {"openapi": "3.0.1", "info": {"version": {"major": 1}, "title": null}}
+                        """,
+                        new SpecificationMetadata("openapi", "3.0.1", "", "")
+                )
+        );
+    }
+
+    @DisplayName("Extracting specification metadata")
+    @ParameterizedTest(name = "#{index} => {0}")
+    @MethodSource("extractTestData")
+    public void extractTest(String scenario, String content, SpecificationMetadata expected) throws IOException {
+        SpecificationMetadata actual = extractor.extract(content);
+
+        assertThat(actual, equalTo(expected));
+    }
+
+    @DisplayName("Parsing stops after format marker and info section")
+    @Test
+    public void extractStopsEarlyTest() throws IOException {
+        String content = "{\"openapi\": \"3.0.1\", \"info\": {\"version\": \"1.0\"}, \"paths\": {\"/broken\": [}";
+
+        SpecificationMetadata actual = extractor.extract(content);
+
+        assertThat(actual, equalTo(new SpecificationMetadata("openapi", "3.0.1", "1.0", null)));
+    }
+
+    @DisplayName("Document root is not an object")
+    @Test
+    public void extractNotObjectTest() throws IOException {
+        assertThat(extractor.extract("[1, 2, 3]"), nullValue());
+    }
+
+    @DisplayName("Malformed document")
+    @Test
+    public void extractMalformedTest() {
+        assertThrows(IOException.class, () -> extractor.extract("{\"openapi\": "));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.exportimport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Actions log export service test")
+public class ActionsLogExportServiceTest {
+
+    private static final String CSV_HEADER = "Action Time,Initiator,Operation,Entity Id,Entity Type,"
+            + "Entity Name,Parent Id,Parent Name,Request Id\r\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<ActionLog> actions;
+    private ActionsLogExportService exportService;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        exportService = new ActionsLogExportService(mock(EntityManager.class), objectMapper, 100) {
+            @Override
+            Stream<ActionLog> findAllByActionTimeBetween(Timestamp actionTimeFrom, Timestamp actionTimeTo) {
+                return actions.stream();
+            }
+        };
+    }
+
+    @DisplayName("Plain values are written to CSV as is")
+    @Test
+    public void csvPlainValuesTest() throws IOException {
+        actions = List.of(ActionLog.builder()
+                .operation(LogOperation.CREATE)
+                .entityType(EntityType.CHAIN)
+                .entityId("1")
+                .entityName("chain name")
+                .build());
+
+        assertThat(export(ActionsLogExportFormat.CSV), equalTo(CSV_HEADER + ",,CREATE,1,CHAIN,chain name,,,\r\n"));
+    }
+
+    @DisplayName("CSV values with separators, quotes and line breaks are quoted")
+    @Test
+    public void csvQuotingTest() throws IOException {
+        actions = List.of(ActionLog.builder()
+                .entityId("a,b")
+                .entityName("say \"hi\"")
+                .parentId("line\nbreak")
+                .parentName("carriage\rreturn")
+                .requestId("\"")
+                .build());
+
+        assertThat(export(ActionsLogExportFormat.CSV), equalTo(CSV_HEADER
+                + ",,,\"a,b\",,\"say \"\"hi\"\"\",\"line\nbreak\",\"carriage\rreturn\",\"\"\"\"\r\n"));
+    }
+
+    @DisplayName("Only the header is written to CSV when there are no records")
+    @Test
+    public void csvEmptyTest() throws IOException {
+        actions = List.of();
+
+        assertThat(export(ActionsLogExportFormat.CSV), equalTo(CSV_HEADER));
+    }
+
+    @DisplayName("Each record is written to NDJSON as an object on its own line")
+    @Test
+    public void ndjsonTest() throws IOException {
+        actions = List.of(
+                ActionLog.builder()
+                        .actionTime(new Timestamp(1000L))
+                        .operation(LogOperation.UPDATE)
+                        .entityType(EntityType.CHAIN)
+                        .entityId("1")
+                        .entityName("multi\nline \"name\"")
+                        .build(),
+                ActionLog.builder()
+                        .entityId("2")
+                        .build());
+
+        String output = export(ActionsLogExportFormat.NDJSON);
+
+        assertThat(output.endsWith("\n"), equalTo(true));
+        String[] lines = output.split("\n");
+        assertThat(lines.length, equalTo(2));
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("actionTime").asLong(), equalTo(1000L));
+        assertThat(first.get("operation").asText(), equalTo("UPDATE"));
+        assertThat(first.get("entityType").asText(), equalTo("CHAIN"));
+        assertThat(first.get("entityName").asText(), equalTo("multi\nline \"name\""));
+        assertThat(first.has("parentId"), equalTo(false));
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("entityId").asText(), equalTo("2"));
+        assertThat(second.size(), equalTo(1));
+    }
+
+    @DisplayName("Nothing is written to NDJSON when there are no records")
+    @Test
+    public void ndjsonEmptyTest() throws IOException {
+        actions = List.of();
+
+        assertThat(export(ActionsLogExportFormat.NDJSON), equalTo(""));
+    }
+
+    private String export(ActionsLogExportFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.export(new Timestamp(0L), new Timestamp(System.currentTimeMillis()), format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.service.migration;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainMigrationException;
+import org.qubership.integration.platform.designtime.catalog.logging.constant.ContextHeaders;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobRequest;
+import org.qubership.integration.platform.designtime.catalog.rest.v1.dto.chain.ChainMigrationJobResponse;
+import org.qubership.integration.platform.designtime.catalog.service.FolderService;
+import org.slf4j.MDC;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Chain migration job service test")
+public class ChainMigrationJobServiceTest {
+
+    private static final String DEPRECATED_CHAIN = "deprecated";
+    private static final String MIGRATED_CHAIN = "migrated";
+    private static final String MISSING_CHAIN = "missing";
+
+    private ChainMigrationService chainMigrationService;
+    private List<String> workerRequestIds;
+    private TestChainMigrationJobService service;
+
+    @BeforeEach
+    public void initializeBeforeEach() {
+        chainMigrationService = mock(ChainMigrationService.class);
+        workerRequestIds = Collections.synchronizedList(new ArrayList<>());
+        // runs each chain in another thread and waits for it, so results are ready when the job is started
+        Executor executor = command -> {
+            Thread thread = new Thread(() -> {
+                workerRequestIds.add(MDC.get(ContextHeaders.REQUEST_ID));
+                command.run();
+            });
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        service = new TestChainMigrationJobService(chainMigrationService, executor);
+    }
+
+    @AfterEach
+    public void finalizeAfterEach() {
+        MDC.clear();
+    }
+
+    @DisplayName("Chains without deprecated elements are skipped and missing chains are reported as not found")
+    @Test
+    public void chainResultsTest() {
+        ChainMigrationJobResponse response = service.startJob(ChainMigrationJobRequest.builder()
+                .chainIds(List.of(DEPRECATED_CHAIN, MIGRATED_CHAIN, MISSING_CHAIN))
+                .build());
+
+        assertThat(results(response), containsInAnyOrder(
+                DEPRECATED_CHAIN + " MIGRATED", MIGRATED_CHAIN + " SKIPPED", MISSING_CHAIN + " NOT_FOUND"));
+        assertThat(response.getStatus(), equalTo(ChainMigrationJob.Status.FINISHED));
+        assertThat(service.existenceChecks, equalTo(List.of(List.of(MIGRATED_CHAIN, MISSING_CHAIN))));
+        verify(chainMigrationService).migrateChainWithoutReload(DEPRECATED_CHAIN);
+        verifyNoMoreInteractions(chainMigrationService);
+    }
+
+    @DisplayName("Dry run only checks chains and records failures per chain")
+    @Test
+    public void dryRunTest() {
+        service.deprecatedChainIds.add("other");
+        doThrow(new ChainMigrationException("Chain contains swimlanes"))
+                .when(chainMigrationService).checkCanBeMigrated("other");
+        doThrow(new EntityNotFoundException("Can't find chain with id: " + DEPRECATED_CHAIN))
+                .when(chainMigrationService).checkCanBeMigrated(DEPRECATED_CHAIN);
+
+        ChainMigrationJobResponse response = service.startJob(ChainMigrationJobRequest.builder()
+                .allDeprecated(true)
+                .dryRun(true)
+                .build());
+
+        assertThat(results(response), containsInAnyOrder(
+                DEPRECATED_CHAIN + " NOT_FOUND", "other CANNOT_BE_MIGRATED"));
+        assertThat(service.getJob(response.getId()).getProcessed(), equalTo(2));
+        verify(chainMigrationService, never()).migrateChainWithoutReload(any());
+    }
+
+    @DisplayName("Workers run with the logging context of the starting request")
+    @Test
+    public void requestContextTest() {
+        MDC.put(ContextHeaders.REQUEST_ID, "request-1");
+
+        service.startJob(ChainMigrationJobRequest.builder().chainIds(List.of(DEPRECATED_CHAIN)).build());
+
+        assertThat(workerRequestIds, equalTo(List.of("request-1")));
+    }
+
+    @DisplayName("Exactly one scope must be specified")
+    @Test
+    public void invalidScopeTest() {
+        assertThrows(BadRequestException.class, () -> service.startJob(new ChainMigrationJobRequest()));
+        assertThrows(BadRequestException.class, () -> service.startJob(ChainMigrationJobRequest.builder()
+                .chainIds(List.of(DEPRECATED_CHAIN))
+                .allDeprecated(true)
+                .build()));
+    }
+
+    @DisplayName("Unknown job is not found")
+    @Test
+    public void unknownJobTest() {
+        assertThrows(EntityNotFoundException.class, () -> service.getJob("unknown"));
+    }
+
+    private static List<String> results(ChainMigrationJobResponse response) {
+        return response.getResults().stream()
+                .map(result -> result.getChainId() + " " + result.getStatus())
+                .collect(Collectors.toList());
+    }
+
+    private static class TestChainMigrationJobService extends ChainMigrationJobService {
+        private final Set<String> deprecatedChainIds = new HashSet<>(Set.of(DEPRECATED_CHAIN));
+        private final Set<String> existingChainIds = Set.of(DEPRECATED_CHAIN, MIGRATED_CHAIN);
+        private final List<List<String>> existenceChecks = new ArrayList<>();
+
+        TestChainMigrationJobService(ChainMigrationService chainMigrationService, Executor executor) {
+            super(chainMigrationService, mock(FolderService.class), null, executor, 10);
+        }
+
+        @Override
+        Set<String> findChainIdsWithDeprecatedElements() {
+            return deprecatedChainIds;
+        }
+
+        @Override
+        Set<String> findExistingChainIds(Collection<String> chainIds) {
+            existenceChecks.add(List.copyOf(chainIds));
+            return chainIds.stream().filter(existingChainIds::contains).collect(Collectors.toSet());
+        }
+    }
+}
@@ -17,12 +17,14 @@
 package org.qubership.integration.platform.designtime.catalog.service.migration;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import jakarta.persistence.EntityNotFoundException;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.json.JSONException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -33,12 +35,14 @@
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
-import org.qubership.integration.platform.catalog.service.ActionsLogService;
 import org.qubership.integration.platform.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.catalog.service.library.LibraryResourceLoader;
+import org.qubership.integration.platform.designtime.catalog.exception.exceptions.ChainMigrationException;
+import org.qubership.integration.platform.designtime.catalog.service.BatchedActionsLogService;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.ElementMigration;
 import org.qubership.integration.platform.designtime.catalog.service.migration.element.MigrationContext;
 import org.qubership.integration.platform.designtime.catalog.testutils.TestUtils;
@@ -56,8 +60,10 @@
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -65,9 +71,10 @@
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.CALLS_REAL_METHODS;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.*;
 
 @DisplayName("Chain migration service")
 @ContextConfiguration(classes = {
@@ -85,6 +92,7 @@
 public class ChainMigrationServiceTest {
 
     private static final UUID UUID_VALUE = UUID.fromString("d2ecaeed-9249-40dd-b92d-7e0440622794");
+    private static final int LARGE_CHAIN_SIZE = 50_000;
 
     private static MockedStatic<Dependency> mockedDependency;
     private static MockedStatic<UUID> mockedUUID;
@@ -102,7 +110,7 @@ public class ChainMigrationServiceTest {
     @MockBean
     private DependencyRepository dependencyRepository;
     @MockBean
-    private ActionsLogService actionsLogService;
+    private BatchedActionsLogService actionsLogService;
     @MockBean
     private AuditingHandler jpaAuditingHandler;
     @Autowired
@@ -214,4 +222,62 @@ public void migrateChainTest(String scenario, String inputPath, String outputPat
         JSONAssert.assertEquals(expected, actual, JSONCompareMode.NON_EXTENSIBLE);
         assertThat(!context.getGroupsToDelete().isEmpty(), equalTo(groupsRemoved));
     }
+
+    @DisplayName("Checking whether chain can be migrated")
+    @Test
+    public void checkCanBeMigratedTest() throws IOException {
+        Chain chain = chainMapper.toEntity(defaultYamlMapper.readValue(TestUtils.getResourceFileContent(
+                "/testData/input/service/migration/basic_scenario.yaml"), ChainImportDTO.class));
+        when(chainRepository.findById(chain.getId())).thenReturn(Optional.of(chain));
+
+        assertDoesNotThrow(() -> chainMigrationService.checkCanBeMigrated(chain.getId()));
+        verify(chainRepository, never()).saveEntity(any());
+    }
+
+    @DisplayName("Chain with swimlanes can't be migrated")
+    @Test
+    public void checkCanBeMigratedWithSwimlanesTest() throws IOException {
+        Chain chain = chainMapper.toEntity(defaultYamlMapper.readValue(TestUtils.getResourceFileContent(
+                "/testData/input/service/migration/basic_scenario.yaml"), ChainImportDTO.class));
+        chain.setDefaultSwimlane(new SwimlaneChainElement());
+        when(chainRepository.findById(chain.getId())).thenReturn(Optional.of(chain));
+
+        assertThrows(ChainMigrationException.class, () -> chainMigrationService.checkCanBeMigrated(chain.getId()));
+    }
+
+    @DisplayName("Missing chain can't be checked")
+    @Test
+    public void checkCanBeMigratedMissingChainTest() {
+        when(chainRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> chainMigrationService.checkCanBeMigrated("missing"));
+    }
+
+    @DisplayName("Deprecated container at the end of a long chain is found")
+    @Test
+    public void checkCanBeMigratedLargeChainTest() {
+        Chain chain = Chain.builder().id("a0f3a7d4-2b7e-4d52-9a63-0f1c8de3b6a1").build();
+        ChainElement previous = null;
+        for (int i = 0; i < LARGE_CHAIN_SIZE; i++) {
+            // the last element is a deprecated container without children, so it can't be migrated
+            String type = i == LARGE_CHAIN_SIZE - 1 ? MigrationContext.OLD_SPLIT_TYPE : "script";
+            ChainElement element = ChainElement.builder()
+                    .id("element-" + i)
+                    .type(type)
+                    .chain(chain)
+                    .build();
+            element.setInputDependencies(new ArrayList<>());
+            element.setOutputDependencies(new ArrayList<>());
+            if (previous != null) {
+                Dependency dependency = Dependency.of(previous, element);
+                previous.getOutputDependencies().add(dependency);
+                element.getInputDependencies().add(dependency);
+            }
+            chain.addElement(element);
+            previous = element;
+        }
+        when(chainRepository.findById(chain.getId())).thenReturn(Optional.of(chain));
+
+        assertThrows(ChainMigrationException.class, () -> chainMigrationService.checkCanBeMigrated(chain.getId()));
+    }
 }
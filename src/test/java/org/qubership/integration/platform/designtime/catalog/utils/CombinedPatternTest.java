@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Combined pattern test")
+public class CombinedPatternTest {
+
+    private static final Pattern GET_PATTERN = Pattern.compile(
+            "exchange\\.(getHeader\\(['\"]([a-z0-9_]+)|headers\\.([a-z0-9_]+))(?![a-z0-9_]*\\s*=)", Pattern.CASE_INSENSITIVE);
+    private static final int[] GET_GROUPS = {2, 3};
+    private static final Pattern SET_PATTERN = Pattern.compile(
+            "exchange\\.(setHeader\\(['\"]([a-z0-9_]+)|headers\\.([a-z0-9_]+)\\s*=)", Pattern.CASE_INSENSITIVE);
+    private static final int[] SET_GROUPS = {2, 3};
+    private static final Pattern SET_CALL_PATTERN = Pattern.compile(
+            "exchange\\.setHeader\\(['\"]([a-z0-9_]+)['\"],[^)\\n]*\\)", Pattern.CASE_INSENSITIVE);
+    private static final int[] SET_CALL_GROUPS = {1};
+    private static final Pattern PROPERTY_EXPRESSION_PATTERN = Pattern.compile(
+            "\\$\\{exchangeProperty\\.([a-z0-9_]+)[^}]*}", Pattern.CASE_INSENSITIVE);
+    private static final Pattern HEADER_EXPRESSION_PATTERN = Pattern.compile(
+            "\\$\\{header\\.([a-z0-9_]+)[^}]*}", Pattern.CASE_INSENSITIVE);
+    private static final int[] EXPRESSION_GROUPS = {1};
+
+    private static final String SCRIPT = """
+            def a = exchange.getHeader('first')
+            exchange.headers.second = a
+            exchange.setHeader("third", exchange.HEADERS.fourth)
+            exchange.properties.ignored
+            """;
+
+    @DisplayName("Matches of all patterns are found in a single scan")
+    @Test
+    public void findAllTest() {
+        List<CombinedPattern.Alternative<String>> alternatives = List.of(
+                new CombinedPattern.Alternative<>(GET_PATTERN, GET_GROUPS, "GET"),
+                new CombinedPattern.Alternative<>(SET_PATTERN, SET_GROUPS, "SET"));
+
+        List<String> actual = findAll(SCRIPT, alternatives);
+
+        assertThat(actual, equalTo(List.of("GET first", "SET second", "SET third", "GET fourth")));
+        assertThat(actual, containsInAnyOrder(findSeparately(SCRIPT, alternatives).toArray()));
+    }
+
+    @DisplayName("Getter nested in a setter call is found")
+    @Test
+    public void nestedGetterTest() {
+        String script = """
+                exchange.setHeader('first', exchange.getHeader('second'))
+                exchange.setHeader("third", exchange.headers.fourth + exchange.getHeader("fifth"))
+                """;
+        List<CombinedPattern.Alternative<String>> alternatives = List.of(
+                new CombinedPattern.Alternative<>(SET_CALL_PATTERN, SET_CALL_GROUPS, "SET"),
+                new CombinedPattern.Alternative<>(GET_PATTERN, GET_GROUPS, "GET"));
+
+        List<String> actual = findAll(script, alternatives);
+
+        assertThat(actual, containsInAnyOrder("SET first", "GET second", "SET third", "GET fourth", "GET fifth"));
+        assertThat(actual, containsInAnyOrder(findSeparately(script, alternatives).toArray()));
+    }
+
+    @DisplayName("Expression nested in another expression is found")
+    @Test
+    public void nestedExpressionTest() {
+        String expression = "${exchangeProperty.first.get(${header.second})} ${header.third} "
+                + "${header.fourth[${exchangeProperty.fifth}]} ${exchangeProperty.sixth ${exchangeProperty.ignored}}";
+        List<CombinedPattern.Alternative<String>> alternatives = List.of(
+                new CombinedPattern.Alternative<>(PROPERTY_EXPRESSION_PATTERN, EXPRESSION_GROUPS, "PROPERTY"),
+                new CombinedPattern.Alternative<>(HEADER_EXPRESSION_PATTERN, EXPRESSION_GROUPS, "HEADER"));
+
+        List<String> actual = findAll(expression, alternatives);
+
+        // a separate scan of a pattern skips its own nested matches too
+        assertThat(actual, containsInAnyOrder(
+                "PROPERTY first", "HEADER second", "HEADER third", "HEADER fourth", "PROPERTY fifth", "PROPERTY sixth"));
+        assertThat(actual, containsInAnyOrder(findSeparately(expression, alternatives).toArray()));
+    }
+
+    @DisplayName("Matches are the same as with separate scans")
+    @Test
+    public void randomInputTest() {
+        List<String> fragments = List.of(
+                "exchange.", "setHeader('a', ", "getHeader('b')", "headers.c", " = ", ")", "\n", "${", "}",
+                "exchangeProperty.d", "header.e", "[", "'", " ");
+        List<CombinedPattern.Alternative<String>> alternatives = List.of(
+                new CombinedPattern.Alternative<>(SET_CALL_PATTERN, SET_CALL_GROUPS, "SET_CALL"),
+                new CombinedPattern.Alternative<>(GET_PATTERN, GET_GROUPS, "GET"),
+                new CombinedPattern.Alternative<>(SET_PATTERN, SET_GROUPS, "SET"),
+                new CombinedPattern.Alternative<>(PROPERTY_EXPRESSION_PATTERN, EXPRESSION_GROUPS, "PROPERTY"),
+                new CombinedPattern.Alternative<>(HEADER_EXPRESSION_PATTERN, EXPRESSION_GROUPS, "HEADER"));
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder input = new StringBuilder();
+            for (int j = random.nextInt(30); j > 0; j--) {
+                input.append(fragments.get(random.nextInt(fragments.size())));
+            }
+
+            assertThat(input.toString(), findAll(input, alternatives),
+                    containsInAnyOrder(findSeparately(input, alternatives).toArray()));
+        }
+    }
+
+    @DisplayName("Patterns with different flags are rejected")
+    @Test
+    public void differentFlagsTest() {
+        List<CombinedPattern.Alternative<String>> alternatives = List.of(
+                new CombinedPattern.Alternative<>(GET_PATTERN, GET_GROUPS, "GET"),
+                new CombinedPattern.Alternative<>(Pattern.compile("a(b)"), new int[]{1}, "B"));
+
+        assertThrows(IllegalArgumentException.class, () -> new CombinedPattern<>(alternatives));
+    }
+
+    private static List<String> findAll(CharSequence input, List<CombinedPattern.Alternative<String>> alternatives) {
+        List<String> result = new ArrayList<>();
+        new CombinedPattern<>(alternatives).findAll(input, (tag, value) -> result.add(tag + " " + value));
+        return result;
+    }
+
+    private static List<String> findSeparately(CharSequence input, List<CombinedPattern.Alternative<String>> alternatives) {
+        List<String> result = new ArrayList<>();
+        for (CombinedPattern.Alternative<String> alternative : alternatives) {
+            find(input, alternative.pattern(), alternative.groups(), alternative.tag(), result);
+        }
+        return result;
+    }
+
+    private static void find(CharSequence input, Pattern pattern, int[] groups, String tag, List<String> result) {
+        Matcher matcher = pattern.matcher(input);
+        while (matcher.find()) {
+            for (int group : groups) {
+                if (matcher.group(group) != null) {
+                    result.add(tag + " " + matcher.group(group));
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Graph walker test")
+public class GraphWalkerTest {
+
+    private static final int LARGE_CHAIN_SIZE = 50_000;
+
+    // <node, next nodes>, contains a shared node "d" and a cycle "e" -> "a"
+    private static final Map<String, List<String>> GRAPH = Map.of(
+            "a", List.of("b", "c"),
+            "b", List.of("d"),
+            "c", List.of("d", "e"),
+            "d", List.of(),
+            "e", List.of("a", "f"),
+            "f", List.of()
+    );
+
+    @DisplayName("Steps run in the order of nested calls")
+    @Test
+    public void walkOrderTest() {
+        List<String> expected = new ArrayList<>();
+        walkRecursive("a", GRAPH, new ElementIdSet(), expected);
+
+        List<String> actual = new ArrayList<>();
+        GraphWalker walker = new GraphWalker();
+        walker.run(() -> walkIterative("a", GRAPH, new ElementIdSet(GRAPH.keySet()), actual, walker));
+
+        assertThat(actual, equalTo(expected));
+        assertThat(actual, equalTo(List.of(
+                "enter a", "enter b", "enter d", "exit d", "exit b",
+                "enter c", "enter e", "enter f", "exit f", "exit e", "exit c", "exit a")));
+    }
+
+    @DisplayName("Long chain is walked without stack overflow")
+    @Test
+    public void walkLargeChainTest() {
+        ElementIdSet visitedIds = new ElementIdSet();
+        int[] exits = new int[1];
+        GraphWalker walker = new GraphWalker();
+
+        walker.run(() -> walkLinear(0, visitedIds, exits, walker));
+
+        assertThat(visitedIds.size(), equalTo(LARGE_CHAIN_SIZE));
+        assertThat(exits[0], equalTo(LARGE_CHAIN_SIZE));
+    }
+
+    @DisplayName("Nested run is rejected")
+    @Test
+    public void nestedRunTest() {
+        GraphWalker walker = new GraphWalker();
+
+        assertThrows(IllegalStateException.class, () -> walker.run(() -> walker.run(() -> { })));
+        walker.run(() -> { });
+    }
+
+    @DisplayName("Element id set membership")
+    @Test
+    public void elementIdSetTest() {
+        ElementIdSet ids = new ElementIdSet(List.of("a", "b"));
+
+        assertThat(ids.add("a"), equalTo(true));
+        assertThat(ids.add("a"), equalTo(false));
+        assertThat(ids.add("c"), equalTo(true));
+        assertThat(ids.contains("b"), equalTo(false));
+        assertThat(ids.contains("c"), equalTo(true));
+        assertThat(ids.remove("a"), equalTo(true));
+        assertThat(ids.remove("a"), equalTo(false));
+        assertThat(ids.remove("unknown"), equalTo(false));
+        assertThat(ids.size(), equalTo(1));
+    }
+
+    private static void walkRecursive(String node, Map<String, List<String>> graph, ElementIdSet visitedIds, List<String> events) {
+        if (!visitedIds.add(node)) {
+            return;
+        }
+        events.add("enter " + node);
+        for (String next : graph.get(node)) {
+            walkRecursive(next, graph, visitedIds, events);
+        }
+        events.add("exit " + node);
+    }
+
+    private static void walkIterative(String node, Map<String, List<String>> graph, ElementIdSet visitedIds,
+                                      List<String> events, GraphWalker walker) {
+        if (!visitedIds.add(node)) {
+            return;
+        }
+        events.add("enter " + node);
+        for (String next : graph.get(node)) {
+            walker.schedule(() -> walkIterative(next, graph, visitedIds, events, walker));
+        }
+        walker.schedule(() -> events.add("exit " + node));
+    }
+
+    private static void walkLinear(int node, ElementIdSet visitedIds, int[] exits, GraphWalker walker) {
+        visitedIds.add(String.valueOf(node));
+        if (node + 1 < LARGE_CHAIN_SIZE) {
+            walker.schedule(() -> walkLinear(node + 1, visitedIds, exits, walker));
+        }
+        walker.schedule(() -> exits[0]++);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.designtime.catalog.utils.escaping;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Escape utils test")
+public class EscapeUtilsTest {
+
+    @DisplayName("Strings of objects, lists and maps are escaped")
+    @Test
+    public void escapeTest() throws Exception {
+        Item item = new Item("a_b", "*raw*", new ArrayList<>(List.of("[x]", "line\nbreak")),
+                new HashMap<>(Map.of("key", "#1")));
+
+        EscapeUtils.escapeMarkdownDataRecursive(item);
+
+        assertThat(item.name, equalTo("a\\_b"));
+        assertThat(item.excluded, equalTo("*raw*"));
+        assertThat(item.values, equalTo(List.of("\\[x\\]", "line<br>break")));
+        assertThat(item.properties, equalTo(Map.of("key", "\\#1")));
+    }
+
+    @DisplayName("Object referenced several times is escaped once")
+    @Test
+    public void escapeSharedObjectTest() throws Exception {
+        Item shared = new Item("a_b", null, new ArrayList<>(), new HashMap<>());
+        List<Object> data = new ArrayList<>(List.of(shared, new ArrayList<>(List.of(shared)), shared));
+
+        EscapeUtils.escapeMarkdownDataRecursive(data);
+
+        assertThat(shared.name, equalTo("a\\_b"));
+    }
+
+    @DisplayName("Object reference loop is detected")
+    @Test
+    public void escapeLoopTest() {
+        List<Object> data = new ArrayList<>();
+        List<Object> nested = new ArrayList<>(List.of(data));
+        data.add(nested);
+
+        assertThrows(EscapeUtilsException.class, () -> EscapeUtils.escapeMarkdownDataRecursive(data));
+    }
+
+    private static class Item {
+        private String name;
+        @EscapeUtilExclude
+        private String excluded;
+        private List<String> values;
+        private Map<String, Object> properties;
+
+        Item(String name, String excluded, List<String> values, Map<String, Object> properties) {
+            this.name = name;
+            this.excluded = excluded;
+            this.values = values;
+            this.properties = properties;
+        }
+    }
+}